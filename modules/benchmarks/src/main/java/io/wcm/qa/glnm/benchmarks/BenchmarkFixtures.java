@@ -0,0 +1,63 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.IOUtils;
+
+import io.wcm.qa.glnm.exceptions.GaleniumException;
+
+/**
+ * Loads fixtures for benchmarks from the classpath, so no benchmark depends on network or browser.
+ *
+ * @since 5.0.0
+ */
+public final class BenchmarkFixtures {
+
+  /** Path to HTML fixture. */
+  public static final String FIXTURE_HTML = "/fixtures/page.html";
+
+  /** Path to JSON fixture. */
+  public static final String FIXTURE_JSON = "/fixtures/model.json";
+
+  /** URL mock driver reports as current URL. */
+  public static final String FIXTURE_URL = "https://localhost:4502/content/benchmark/en/products/overview.html?wcmmode=disabled";
+
+  private BenchmarkFixtures() {
+    // do not instantiate
+  }
+
+  /**
+   * @param resourcePath absolute classpath resource path
+   * @return content of fixture
+   * @since 5.0.0
+   */
+  public static String read(String resourcePath) {
+    try {
+      return IOUtils.resourceToString(resourcePath, StandardCharsets.UTF_8);
+    }
+    catch (IOException ex) {
+      throw new GaleniumException("could not read fixture: " + resourcePath, ex);
+    }
+  }
+
+}
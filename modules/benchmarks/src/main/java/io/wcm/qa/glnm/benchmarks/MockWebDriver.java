@@ -0,0 +1,165 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Mock {@link org.openqa.selenium.WebDriver} to benchmark driver based code without browser interaction. Scripts are
+ * answered with one canned value per request in the format of the batch sampling script.
+ *
+ * @since 5.0.0
+ */
+public class MockWebDriver implements WebDriver, JavascriptExecutor {
+
+  private static final List<Long> PAIR = Collections.unmodifiableList(Arrays.asList(120L, 48L));
+
+  private final String currentUrl;
+
+  /**
+   * @param currentUrl to return as current URL
+   * @since 5.0.0
+   */
+  public MockWebDriver(String currentUrl) {
+    this.currentUrl = currentUrl;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void close() {
+    // nothing to close
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Object executeAsyncScript(String script, Object... args) {
+    return executeScript(script, args);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Object executeScript(String script, Object... args) {
+    if (args.length < 2 || !(args[1] instanceof List)) {
+      return null;
+    }
+    List<?> requests = (List<?>)args[1];
+    List<Object> values = new ArrayList<>(requests.size());
+    for (Object request : requests) {
+      values.add(valueFor(String.valueOf(((List<?>)request).get(1))));
+    }
+    return values;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public WebElement findElement(By by) {
+    throw new UnsupportedOperationException("mock driver does not find elements: " + by);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<WebElement> findElements(By by) {
+    return Collections.emptyList();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void get(String url) {
+    // nothing to load
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getCurrentUrl() {
+    return currentUrl;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getPageSource() {
+    return "";
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getTitle() {
+    return "DUMMY_PAGE_TITLE";
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getWindowHandle() {
+    return "DUMMY_WINDOW_HANDLE";
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<String> getWindowHandles() {
+    return Collections.singleton(getWindowHandle());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Options manage() {
+    throw new UnsupportedOperationException("mock driver cannot be managed");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Navigation navigate() {
+    throw new UnsupportedOperationException("mock driver cannot navigate");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void quit() {
+    // nothing to quit
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public TargetLocator switchTo() {
+    throw new UnsupportedOperationException("mock driver cannot switch");
+  }
+
+  private static Object valueFor(String kind) {
+    switch (kind) {
+      case "count":
+        return 3L;
+      case "location":
+      case "size":
+        return PAIR;
+      case "visible":
+        return Boolean.TRUE;
+      default:
+        return "DUMMY_" + kind.toUpperCase();
+    }
+  }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.differences.generic;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.wcm.qa.glnm.benchmarks.BenchmarkFixtures;
+import io.wcm.qa.glnm.benchmarks.MockWebDriver;
+import io.wcm.qa.glnm.context.GaleniumContext;
+import io.wcm.qa.glnm.differences.difference.IntegerDifference;
+import io.wcm.qa.glnm.differences.difference.StringDifference;
+import io.wcm.qa.glnm.differences.difference.sut.RelativePathDifference;
+import io.wcm.qa.glnm.differences.difference.sut.RelativeUrlWithQueryDifference;
+
+/**
+ * Building keys from differences. URL based differences take their URL from the mock driver when they are first
+ * used, so fresh differences include the driver lookup.
+ *
+ * @since 5.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MutableDifferencesBenchmark {
+
+  private MutableDifferences differences;
+
+  /**
+   * Sets mock driver and creates differences.
+   */
+  @Setup
+  public void setUp() {
+    GaleniumContext.getContext().setDriver(new MockWebDriver(BenchmarkFixtures.FIXTURE_URL));
+    differences = newDifferences();
+  }
+
+  /**
+   * Removes mock driver.
+   */
+  @TearDown
+  public void tearDown() {
+    GaleniumContext.getContext().setDriver(null);
+  }
+
+  /**
+   * @return key of existing differences
+   */
+  @Benchmark
+  public String getKey() {
+    return differences.getKey();
+  }
+
+  /**
+   * @return key of fresh differences
+   */
+  @Benchmark
+  public String newDifferencesGetKey() {
+    return newDifferences().getKey();
+  }
+
+  private static MutableDifferences newDifferences() {
+    MutableDifferences newDifferences = new MutableDifferences();
+    newDifferences.add(new StringDifference("chrome"));
+    newDifferences.add(new StringDifference("desktop"));
+    newDifferences.add(new IntegerDifference(1280));
+    newDifferences.add(new RelativePathDifference());
+    newDifferences.add(new RelativeUrlWithQueryDifference());
+    return newDifferences;
+  }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.galen.specs;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.galenframework.specs.page.PageSpec;
+
+import io.wcm.qa.glnm.selectors.base.NestedSelector;
+
+/**
+ * Reading specs from the classpath and mapping their objects to selectors. Parsing is measured with and without spec
+ * cache. The spec imports its objects, so import rewriting and hashing are part of the measurement.
+ *
+ * @since 5.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GalenSpecBenchmark {
+
+  private static final String SPEC_PATH = "/layout/benchmark.gspec";
+  private static final String SYSTEM_PROPERTY_NAME_GALEN_SPEC_CACHE = "galenium.specCache";
+
+  /** Whether to use spec cache. */
+  @Param({ "true", "false" })
+  public String specCache;
+
+  private PageSpec spec;
+
+  /**
+   * Configures spec cache and parses spec for object mapping.
+   */
+  @Setup
+  public void setUp() {
+    System.setProperty(SYSTEM_PROPERTY_NAME_GALEN_SPEC_CACHE, specCache);
+    GalenSpecCache.invalidateAll();
+    spec = GalenParsing.fromPath(SPEC_PATH);
+  }
+
+  /**
+   * @return parsed spec
+   */
+  @Benchmark
+  public PageSpec fromPath() {
+    return GalenParsing.fromPath(SPEC_PATH);
+  }
+
+  /**
+   * @return selectors for objects in spec
+   */
+  @Benchmark
+  public Collection<NestedSelector> getObjects() {
+    return GalenSpecUtil.getObjects(spec);
+  }
+
+}
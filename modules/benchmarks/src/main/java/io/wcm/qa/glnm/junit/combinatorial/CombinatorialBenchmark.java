@@ -0,0 +1,96 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.junit.combinatorial;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Expanding arguments of combinatorial tests into the arguments of every invocation. Providers create fresh streams on
+ * every iteration like real argument sources do. No extension context is needed, since the providers ignore it.
+ *
+ * @since 5.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CombinatorialBenchmark {
+
+  /** Number of argument sources to combine. */
+  @Param({ "2", "4" })
+  public int inputCount;
+
+  /** Number of arguments per source. */
+  @Param({ "5", "20" })
+  public int valueCount;
+
+  private List<CombinableInput> inputs;
+
+  /**
+   * Creates argument providers.
+   */
+  @Setup
+  public void setUp() {
+    inputs = new ArrayList<CombinableInput>();
+    for (int i = 0; i < inputCount; i++) {
+      inputs.add(CombinableInput.of(CombinatorialUtil.arguments(provider(i, valueCount), null)));
+    }
+  }
+
+  /**
+   * @param blackhole consuming arguments
+   */
+  @Benchmark
+  public void cartesianProduct(Blackhole blackhole) {
+    SwitchCostOrder.cartesianProduct(inputs)
+        .map(Combination::arguments)
+        .forEach(blackhole::consume);
+  }
+
+  /**
+   * @param blackhole consuming arguments
+   */
+  @Benchmark
+  public void pairwise(Blackhole blackhole) {
+    new PairwiseProvider().combine(inputs, 2)
+        .map(Combination::arguments)
+        .forEach(blackhole::consume);
+  }
+
+  private static ArgumentsProvider provider(int input, int values) {
+    return context -> IntStream.range(0, values)
+        .mapToObj(value -> Arguments.of("input-" + input, value));
+  }
+
+}
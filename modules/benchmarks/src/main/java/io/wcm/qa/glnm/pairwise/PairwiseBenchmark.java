@@ -0,0 +1,77 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.pairwise;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Generating pairwise and higher strength tupels for typical and large domain shapes.
+ *
+ * @since 5.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PairwiseBenchmark {
+
+  /** Comma separated domain sizes. */
+  @Param({ "3,3,3", "4,3,5,2,6", "10,10,10,10" })
+  public String domains;
+
+  private Integer[] domainSizes;
+
+  /**
+   * Parses domain sizes.
+   */
+  @Setup
+  public void setUp() {
+    String[] sizes = domains.split(",");
+    domainSizes = new Integer[sizes.length];
+    for (int i = 0; i < sizes.length; i++) {
+      domainSizes[i] = Integer.valueOf(sizes[i]);
+    }
+  }
+
+  /**
+   * @return pairwise tupels
+   */
+  @Benchmark
+  public int[][] getTupelsFor() {
+    return PairwiseDefinition.getTupelsFor(domainSizes);
+  }
+
+  /**
+   * @return tupels covering all value triples
+   */
+  @Benchmark
+  public int[][] getTupelsWithStrengthThree() {
+    return PairwiseDefinition.getTupelsWithStrength(3, domainSizes);
+  }
+
+}
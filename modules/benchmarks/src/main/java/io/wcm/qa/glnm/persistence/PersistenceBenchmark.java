@@ -0,0 +1,92 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.persistence;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Loading the baseline of a class from its properties fixture and storing updated samples. Writing goes to the
+ * configured text comparison output directory.
+ *
+ * @since 5.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersistenceBenchmark {
+
+  private static final Class BASELINE_CLASS = PersistenceBenchmark.class;
+  private static final String KEY_UPDATED = "io.wcm.qa.glnm.persistence.PersistenceBenchmark.updated";
+
+  private long counter;
+  private SampleStore samples;
+
+  /**
+   * Loads baseline into cache.
+   */
+  @Setup
+  public void setUp() {
+    samples = PersistingCacheUtil.cachedSamples(BASELINE_CLASS);
+  }
+
+  /**
+   * @return samples from cache
+   */
+  @Benchmark
+  public SampleStore cachedSamples() {
+    return PersistingCacheUtil.cachedSamples(BASELINE_CLASS);
+  }
+
+  /**
+   * @return samples freshly loaded from properties
+   */
+  @Benchmark
+  public SampleStore load() {
+    return new SampleStore(PersistenceUtil.getPropertiesFor(BASELINE_CLASS));
+  }
+
+  /**
+   * @return serialized samples
+   */
+  @Benchmark
+  public String serialize() {
+    samples.put(KEY_UPDATED, Long.toString(counter++));
+    return PersistenceUtil.toString(samples.toProperties());
+  }
+
+  /**
+   * @return whether samples were written
+   */
+  @Benchmark
+  public boolean store() {
+    samples.put(KEY_UPDATED, Long.toString(counter++));
+    String content = PersistenceUtil.toString(samples.toProperties());
+    return PersistenceUtil.writeSamplesForClass(content, samples.size(), BASELINE_CLASS);
+  }
+
+}
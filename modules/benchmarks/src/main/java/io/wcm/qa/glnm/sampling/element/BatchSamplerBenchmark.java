@@ -0,0 +1,111 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.sampling.element;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.wcm.qa.glnm.benchmarks.BenchmarkFixtures;
+import io.wcm.qa.glnm.benchmarks.MockWebDriver;
+import io.wcm.qa.glnm.context.GaleniumContext;
+import io.wcm.qa.glnm.selectors.base.Selector;
+import io.wcm.qa.glnm.selectors.base.SelectorFactory;
+
+/**
+ * Registering element samplers with a batch and fanning out the values returned by the mock driver. Measures
+ * Galenium's side of batch sampling, browser time is not included.
+ *
+ * @since 5.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchSamplerBenchmark {
+
+  /** Number of selectors to sample four properties for. */
+  @Param({ "10", "100" })
+  public int selectorCount;
+
+  private BatchSampler batch;
+  private List<Selector> selectors;
+
+  /**
+   * Sets mock driver and creates selectors.
+   */
+  @Setup
+  public void setUp() {
+    GaleniumContext.getContext().setDriver(new MockWebDriver(BenchmarkFixtures.FIXTURE_URL));
+    selectors = new ArrayList<Selector>();
+    for (int i = 0; i < selectorCount; i++) {
+      selectors.add(SelectorFactory.fromCss("teaser-" + i, ".teaser-list .teaser:nth-child(" + (i + 1) + ")"));
+    }
+    batch = newBatch();
+  }
+
+  /**
+   * Removes mock driver.
+   */
+  @TearDown
+  public void tearDown() {
+    GaleniumContext.getContext().setDriver(null);
+  }
+
+  /**
+   * @return batch with sampled values
+   */
+  @Benchmark
+  public BatchSampler addAndSample() {
+    BatchSampler newBatch = newBatch();
+    newBatch.sample();
+    return newBatch;
+  }
+
+  /**
+   * @return batch with sampled values
+   */
+  @Benchmark
+  public BatchSampler sample() {
+    batch.sample();
+    return batch;
+  }
+
+  private BatchSampler newBatch() {
+    BatchSampler newBatch = new BatchSampler();
+    for (Selector selector : selectors) {
+      newBatch.add(new AttributeSampler(selector, "class"));
+      newBatch.add(new SizeSampler(selector));
+      newBatch.add(new TextSampler(selector));
+      newBatch.add(new VisibilitySampler(selector));
+    }
+    return newBatch;
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.sampling.htmlcleaner;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.wcm.qa.glnm.benchmarks.BenchmarkFixtures;
+import io.wcm.qa.glnm.sampling.jsoup.JsoupDocumentSampler;
+
+/**
+ * Cleaning the HTML fixture with and without sorting CSS classes. The document is parsed once from the classpath
+ * instead of being fetched, so only cleaning, visiting and serialization are measured.
+ *
+ * @since 5.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HtmlCleanerSamplerBenchmark {
+
+  /** Whether to sort CSS classes with {@link io.wcm.qa.glnm.sampling.htmlcleaner.visitors.CssClassSorter}. */
+  @Param({ "true", "false" })
+  public boolean sortCssClasses;
+
+  private HtmlCleanerSampler sampler;
+
+  /**
+   * Creates sampler on HTML fixture.
+   */
+  @Setup
+  public void setUp() {
+    sampler = new HtmlCleanerSampler(BenchmarkFixtures.FIXTURE_URL);
+    sampler.setInput(new FixtureDocumentSampler());
+    sampler.setSortCssClasses(sortCssClasses);
+  }
+
+  /**
+   * @return cleaned HTML
+   */
+  @Benchmark
+  public String clean() {
+    return sampler.freshSample();
+  }
+
+  private static final class FixtureDocumentSampler extends JsoupDocumentSampler {
+
+    private final Document document;
+
+    FixtureDocumentSampler() {
+      super(BenchmarkFixtures.FIXTURE_URL);
+      document = Jsoup.parse(BenchmarkFixtures.read(BenchmarkFixtures.FIXTURE_HTML), BenchmarkFixtures.FIXTURE_URL);
+    }
+
+    @Override
+    protected Document getDocument() {
+      return document;
+    }
+  }
+
+}
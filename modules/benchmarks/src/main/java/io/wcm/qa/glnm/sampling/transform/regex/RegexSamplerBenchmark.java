@@ -0,0 +1,107 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.sampling.transform.regex;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.wcm.qa.glnm.benchmarks.BenchmarkFixtures;
+import io.wcm.qa.glnm.sampling.string.FixedStringSampler;
+
+/**
+ * Regular expression based samplers transforming the HTML fixture. Fresh samples are taken, so caching does not hide
+ * the transformation.
+ *
+ * @since 5.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegexSamplerBenchmark {
+
+  private RegexGroupSampler<FixedStringSampler> groupSampler;
+  private RegexMatchGroupSampler<FixedStringSampler> matchGroupSampler;
+  private RegexReplaceSampler<FixedStringSampler> replaceSampler;
+  private RegexSampler<FixedStringSampler> sampler;
+  private RegexSingleGroupSampler<FixedStringSampler> singleGroupSampler;
+
+  /**
+   * Creates samplers on HTML fixture.
+   */
+  @Setup
+  public void setUp() {
+    FixedStringSampler input = new FixedStringSampler(BenchmarkFixtures.read(BenchmarkFixtures.FIXTURE_HTML));
+    groupSampler = new RegexGroupSampler<>(input, "data-id=\"(teaser-\\d+)\"");
+    matchGroupSampler = new RegexMatchGroupSampler<>(input, "(?s).*<title>([^<]*)</title>.*<h1[^>]*>([^<]*)</h1>.*");
+    replaceSampler = new RegexReplaceSampler<>(input, Pattern.compile("/content/benchmark/[a-z]{2}/"), "/");
+    sampler = new RegexSampler<>(input, "<footer[^>]*>");
+    singleGroupSampler = new RegexSingleGroupSampler<>(input, "id=\"username\"[^>]*>([^<]+)<", 1);
+  }
+
+  /**
+   * @return all groups of all matches
+   */
+  @Benchmark
+  public Collection<String> group() {
+    return groupSampler.freshSample();
+  }
+
+  /**
+   * @return groups of whole input match
+   */
+  @Benchmark
+  public Collection<String> matchGroup() {
+    return matchGroupSampler.freshSample();
+  }
+
+  /**
+   * @return input with all matches replaced
+   */
+  @Benchmark
+  public String replace() {
+    return replaceSampler.freshSample();
+  }
+
+  /**
+   * @return first match
+   */
+  @Benchmark
+  public String regex() {
+    return sampler.freshSample();
+  }
+
+  /**
+   * @return group of first match
+   */
+  @Benchmark
+  public String singleGroup() {
+    return singleGroupSampler.freshSample();
+  }
+
+}
@@ -29,10 +29,17 @@ public final class GaleniumConfiguration {
   private static final String DEFAULT_AUTHOR_PASS = "admin";
   private static final String DEFAULT_AUTHOR_USER = "admin";
   private static final String DEFAULT_BASE_URL = "http://localhost:4502";
+  private static final int DEFAULT_GALEN_SPEC_CACHE_SIZE = 100;
   private static final int DEFAULT_GRID_PORT = 4444;
   private static final String DEFAULT_MEDIA_QUERY_PATH = "/mediaqueries.properties";
+  private static final int DEFAULT_POLLING_INITIAL_INTERVAL = 25;
+  private static final int DEFAULT_POLLING_JITTER = 20;
+  private static final int DEFAULT_POLLING_MAX_INTERVAL = 1000;
   private static final String DEFAULT_REPORT_DIR = "./target/glnm-reports";
   private static final String DEFAULT_SPEC_PATH = "/galen/specs";
+  private static final int DEFAULT_WEBDRIVER_LOG_BUFFER_SIZE = 1000;
+  private static final String DEFAULT_WEBDRIVER_LOG_LEVEL = "ALL";
+  private static final int DEFAULT_WEBDRIVER_POOL_MAX_USES = 50;
   private static final int DEFAULT_WEBDRIVER_TIMEOUT = 10;
 
   private static final String SYSTEM_PROPERTY_NAME_AUTHOR_PASS = "io.wcm.qa.aem.author.pass";
@@ -40,6 +47,9 @@ public final class GaleniumConfiguration {
   private static final String SYSTEM_PROPERTY_NAME_BASE_URL = "io.wcm.qa.baseUrl";
   private static final String SYSTEM_PROPERTY_NAME_CHROME_BINARY_PATH = "galenium.webdriver.chrome.binary";
   private static final String SYSTEM_PROPERTY_NAME_GALEN_JS_TEST_PATH = "galenium.jsTestPath";
+  private static final String SYSTEM_PROPERTY_NAME_GALEN_SNAPSHOT_VALIDATION = "galenium.snapshotValidation";
+  private static final String SYSTEM_PROPERTY_NAME_GALEN_SPEC_CACHE = "galenium.specCache";
+  private static final String SYSTEM_PROPERTY_NAME_GALEN_SPEC_CACHE_SIZE = "galenium.specCache.size";
   private static final String SYSTEM_PROPERTY_NAME_GALEN_SPEC_PATH = "galenium.specPath";
   private static final String SYSTEM_PROPERTY_NAME_GALEN_SUPPRESS_AUTO_ADJUST_BROWSERSIZE = "galenium.suppressAutoAdjustBrowserSize";
   private static final String SYSTEM_PROPERTY_NAME_HEADLESS = "galenium.headless";
@@ -51,14 +61,21 @@ public final class GaleniumConfiguration {
   private static final String SYSTEM_PROPERTY_NAME_MEDIA_QUERY_PROPERTIES = "galenium.mediaquery.properties";
   private static final String SYSTEM_PROPERTY_NAME_MEDIA_QUERY_WIDTH_MAX = "galenium.mediaquery.width.max";
   private static final String SYSTEM_PROPERTY_NAME_MEDIA_QUERY_WIDTH_MIN = "galenium.mediaquery.width.min";
+  private static final String SYSTEM_PROPERTY_NAME_METRICS = "galenium.metrics";
+  private static final String SYSTEM_PROPERTY_NAME_POLLING_ADAPTIVE = "galenium.polling.adaptive";
+  private static final String SYSTEM_PROPERTY_NAME_POLLING_INITIAL_INTERVAL = "galenium.polling.initial";
+  private static final String SYSTEM_PROPERTY_NAME_POLLING_JITTER = "galenium.polling.jitter";
+  private static final String SYSTEM_PROPERTY_NAME_POLLING_MAX_INTERVAL = "galenium.polling.max";
   private static final String SYSTEM_PROPERTY_NAME_REPORT_DIRECTORY = "galenium.report.rootPath";
   private static final String SYSTEM_PROPERTY_NAME_REPORT_ERRORS_ONLY = "galenium.report.galen.errorsOnly";
+  private static final String SYSTEM_PROPERTY_NAME_REPORT_SCREENSHOT_RECOMPRESS = "galenium.report.screenshot.recompress";
   private static final String SYSTEM_PROPERTY_NAME_REPORT_SKIP_EXTENT = "galenium.report.extent.skip";
   private static final String SYSTEM_PROPERTY_NAME_RETRY_BROWSER_INSTANTIATION_MAX = "galenium.webdriver.retryMax";
   private static final String SYSTEM_PROPERTY_NAME_RETRY_MAX = "galenium.retryMax";
   private static final String SYSTEM_PROPERTY_NAME_SAMPLING_IMAGE_CHROMEFIX = "galenium.sampling.image.chromefix";
   private static final String SYSTEM_PROPERTY_NAME_SAMPLING_IMAGE_DIRECTORY_ACTUAL = "galenium.sampling.image.directory.actual";
   private static final String SYSTEM_PROPERTY_NAME_SAMPLING_IMAGE_DIRECTORY_EXPECTED = "galenium.sampling.image.directory.expected";
+  private static final String SYSTEM_PROPERTY_NAME_SAMPLING_IMAGE_PRECHECK = "galenium.sampling.image.precheck";
   private static final String SYSTEM_PROPERTY_NAME_SAMPLING_TEXT_OUTPUT_DIRECTORY = "galenium.sampling.text.directory.actual";
   private static final String SYSTEM_PROPERTY_NAME_SAMPLING_VERIFICATION_IGNORE_ERRORS = "galenium.sampling.verification.ignoreErrors";
   private static final String SYSTEM_PROPERTY_NAME_SCREENSHOT_ON_SKIPPED = "galenium.screenshotOnSkipped";
@@ -67,6 +84,10 @@ public final class GaleniumConfiguration {
   private static final String SYSTEM_PROPERTY_NAME_SELENIUM_PORT = "selenium.port";
   private static final String SYSTEM_PROPERTY_NAME_SPARSE_REPORTING = "galenium.report.sparse";
   private static final String SYSTEM_PROPERTY_NAME_WEB_DRIVER_ALWAYS_NEW = "galenium.webdriver.alwaysNew";
+  private static final String SYSTEM_PROPERTY_NAME_WEB_DRIVER_LOG_BUFFER_SIZE = "galenium.webdriver.log.bufferSize";
+  private static final String SYSTEM_PROPERTY_NAME_WEB_DRIVER_LOG_LEVEL = "galenium.webdriver.log.level";
+  private static final String SYSTEM_PROPERTY_NAME_WEB_DRIVER_POOL_MAX_SIZE = "galenium.webdriver.pool.maxSize";
+  private static final String SYSTEM_PROPERTY_NAME_WEB_DRIVER_POOL_MAX_USES = "galenium.webdriver.pool.maxUses";
   private static final String SYSTEM_PROPERTY_NAME_WEB_DRIVER_SSL_REFUSE = "galenium.webdriver.ssl.refuse";
   private static final String SYSTEM_PROPERTY_NAME_WEB_DRIVER_SSL_TRUSTED_ONLY = "galenium.webdriver.ssl.trusted";
   private static final String SYSTEM_PROPERTY_NAME_WEB_DRIVER_TIMEOUT = "galenium.webdriver.timeout";
@@ -292,6 +313,33 @@ public final class GaleniumConfiguration {
     return asString(SYSTEM_PROPERTY_NAME_GALEN_JS_TEST_PATH, getGalenSpecPath());
   }
 
+  /**
+   * Maximum number of parsed Galen specs to keep in cache.
+   * <ul>
+   * <li>Key:
+   *
+   * <pre>
+   * galenium.specCache.size
+   * </pre>
+   *
+   * </li>
+   * <li>
+   * Default:
+   *
+   * <pre>
+   * 100
+   * </pre>
+   *
+   * </li>
+   * </ul>
+   *
+   * @return maximum number of cached page specs
+   * @since 5.0.0
+   */
+  public static int getGalenSpecCacheSize() {
+    return asInteger(SYSTEM_PROPERTY_NAME_GALEN_SPEC_CACHE_SIZE, DEFAULT_GALEN_SPEC_CACHE_SIZE);
+  }
+
   /**
    * Path to root folder containing Galen specs.
    * <ul>
@@ -589,6 +637,87 @@ public final class GaleniumConfiguration {
     return asInteger(SYSTEM_PROPERTY_NAME_RETRY_MAX, 2);
   }
 
+  /**
+   * Interval in milliseconds before the first retry when polling adaptively.
+   * <ul>
+   * <li>Key:
+   *
+   * <pre>
+   * galenium.polling.initial
+   * </pre>
+   *
+   * </li>
+   * <li>
+   * Default:
+   *
+   * <pre>
+   * 25
+   * </pre>
+   *
+   * </li>
+   * </ul>
+   *
+   * @return initial polling interval in milliseconds
+   * @since 5.0.0
+   */
+  public static int getPollingInitialInterval() {
+    return asInteger(SYSTEM_PROPERTY_NAME_POLLING_INITIAL_INTERVAL, DEFAULT_POLLING_INITIAL_INTERVAL);
+  }
+
+  /**
+   * Random deviation in percent applied to each interval when polling adaptively.
+   * <ul>
+   * <li>Key:
+   *
+   * <pre>
+   * galenium.polling.jitter
+   * </pre>
+   *
+   * </li>
+   * <li>
+   * Default:
+   *
+   * <pre>
+   * 20
+   * </pre>
+   *
+   * </li>
+   * </ul>
+   *
+   * @return jitter in percent of polling interval
+   * @since 5.0.0
+   */
+  public static int getPollingJitter() {
+    return asInteger(SYSTEM_PROPERTY_NAME_POLLING_JITTER, DEFAULT_POLLING_JITTER);
+  }
+
+  /**
+   * Upper bound in milliseconds for the doubling interval when polling adaptively.
+   * <ul>
+   * <li>Key:
+   *
+   * <pre>
+   * galenium.polling.max
+   * </pre>
+   *
+   * </li>
+   * <li>
+   * Default:
+   *
+   * <pre>
+   * 1000
+   * </pre>
+   *
+   * </li>
+   * </ul>
+   *
+   * @return maximum polling interval in milliseconds
+   * @since 5.0.0
+   */
+  public static int getPollingMaxInterval() {
+    return asInteger(SYSTEM_PROPERTY_NAME_POLLING_MAX_INTERVAL, DEFAULT_POLLING_MAX_INTERVAL);
+  }
+
   /**
    * Report root folder.
    * <ul>
@@ -669,6 +798,142 @@ public final class GaleniumConfiguration {
     return asString(SYSTEM_PROPERTY_NAME_SAMPLING_TEXT_OUTPUT_DIRECTORY, "./target/sampled");
   }
 
+  /**
+   * Number of entries kept per driver and log type. Oldest entries are dropped first.
+   * <ul>
+   * <li>Key:
+   *
+   * <pre>
+   * galenium.webdriver.log.bufferSize
+   * </pre>
+   *
+   * </li>
+   * <li>
+   * Default:
+   *
+   * <pre>
+   * 1000
+   * </pre>
+   *
+   * </li>
+   * </ul>
+   *
+   * @return maximum number of buffered log entries
+   * @since 5.0.0
+   */
+  public static int getWebDriverLogBufferSize() {
+    return asInteger(SYSTEM_PROPERTY_NAME_WEB_DRIVER_LOG_BUFFER_SIZE, DEFAULT_WEBDRIVER_LOG_BUFFER_SIZE);
+  }
+
+  /**
+   * Minimum level of WebDriver log entries to buffer. Uses {@link java.util.logging.Level} names or values.
+   * <ul>
+   * <li>Key:
+   *
+   * <pre>
+   * galenium.webdriver.log.level
+   * </pre>
+   *
+   * </li>
+   * <li>
+   * Default:
+   *
+   * <pre>
+   * "ALL"
+   * </pre>
+   *
+   * </li>
+   * </ul>
+   *
+   * @return minimum level of buffered log entries
+   * @since 5.0.0
+   */
+  public static String getWebDriverLogLevel() {
+    return asString(SYSTEM_PROPERTY_NAME_WEB_DRIVER_LOG_LEVEL, DEFAULT_WEBDRIVER_LOG_LEVEL);
+  }
+
+  /**
+   * Number of drivers per browser configuration the pool keeps leased or idle at the same time. Leases wait for a
+   * driver to be released when this limit is reached.
+   * <ul>
+   * <li>Key:
+   *
+   * <pre>
+   * galenium.webdriver.pool.maxSize
+   * </pre>
+   *
+   * </li>
+   * <li>
+   * Default:
+   *
+   * <pre>
+   * number of available processors
+   * </pre>
+   *
+   * </li>
+   * </ul>
+   *
+   * @return maximum number of drivers per pool key
+   * @since 5.0.0
+   */
+  public static int getWebDriverPoolMaxSize() {
+    return asInteger(SYSTEM_PROPERTY_NAME_WEB_DRIVER_POOL_MAX_SIZE, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Number of tests a pooled driver is used for before it is retired.
+   * <ul>
+   * <li>Key:
+   *
+   * <pre>
+   * galenium.webdriver.pool.maxUses
+   * </pre>
+   *
+   * </li>
+   * <li>
+   * Default:
+   *
+   * <pre>
+   * 50
+   * </pre>
+   *
+   * </li>
+   * </ul>
+   *
+   * @return maximum number of leases per pooled driver
+   * @since 5.0.0
+   */
+  public static int getWebDriverPoolMaxUses() {
+    return asInteger(SYSTEM_PROPERTY_NAME_WEB_DRIVER_POOL_MAX_USES, DEFAULT_WEBDRIVER_POOL_MAX_USES);
+  }
+
+  /**
+   * Whether waits start polling fast and back off exponentially instead of polling in fixed intervals.
+   * <ul>
+   * <li>Key:
+   *
+   * <pre>
+   * galenium.polling.adaptive
+   * </pre>
+   *
+   * </li>
+   * <li>
+   * Default:
+   *
+   * <pre>
+   * true
+   * </pre>
+   *
+   * </li>
+   * </ul>
+   *
+   * @return whether to poll adaptively
+   * @since 5.0.0
+   */
+  public static boolean isAdaptivePolling() {
+    return asBoolean(SYSTEM_PROPERTY_NAME_POLLING_ADAPTIVE, true);
+  }
+
   /**
    * Headless Chrome Windows workaround flag.
    * <ul>
@@ -700,6 +965,61 @@ public final class GaleniumConfiguration {
     return asBoolean(SYSTEM_PROPERTY_NAME_SAMPLING_IMAGE_CHROMEFIX);
   }
 
+  /**
+   * Validate Galen specs against a snapshot of the page. Geometry, visibility and text of all objects in a spec are
+   * fetched in a single script call and the sections of the spec are then evaluated in parallel.
+   * <ul>
+   * <li>Key:
+   *
+   * <pre>
+   * galenium.snapshotValidation
+   * </pre>
+   *
+   * </li>
+   * <li>
+   * Default:
+   *
+   * <pre>
+   * false
+   * </pre>
+   *
+   * </li>
+   * </ul>
+   *
+   * @return whether to validate Galen specs against page snapshot
+   * @since 5.0.0
+   */
+  public static boolean isGalenSnapshotValidation() {
+    return asBoolean(SYSTEM_PROPERTY_NAME_GALEN_SNAPSHOT_VALIDATION);
+  }
+
+  /**
+   * Cache parsed Galen specs instead of parsing them again for every check.
+   * <ul>
+   * <li>Key:
+   *
+   * <pre>
+   * galenium.specCache
+   * </pre>
+   *
+   * </li>
+   * <li>
+   * Default:
+   *
+   * <pre>
+   * true
+   * </pre>
+   *
+   * </li>
+   * </ul>
+   *
+   * @return whether to cache parsed Galen specs
+   * @since 5.0.0
+   */
+  public static boolean isGalenSpecCaching() {
+    return asBoolean(SYSTEM_PROPERTY_NAME_GALEN_SPEC_CACHE, true);
+  }
+
   /**
    * Headless browser flag.
    * <ul>
@@ -727,6 +1047,34 @@ public final class GaleniumConfiguration {
     return asBoolean(SYSTEM_PROPERTY_NAME_HEADLESS);
   }
 
+  /**
+   * Compare digest of sampled element with digest of expected image before running Galen image comparison. Galen's
+   * comparison is skipped when both are identical.
+   * <ul>
+   * <li>Key:
+   *
+   * <pre>
+   * galenium.sampling.image.precheck
+   * </pre>
+   *
+   * </li>
+   * <li>
+   * Default:
+   *
+   * <pre>
+   * true
+   * </pre>
+   *
+   * </li>
+   * </ul>
+   *
+   * @return whether to skip Galen image comparison for identical images
+   * @since 5.0.0
+   */
+  public static boolean isImageComparisonPreCheck() {
+    return asBoolean(SYSTEM_PROPERTY_NAME_SAMPLING_IMAGE_PRECHECK, true);
+  }
+
   /**
    * Lazy web driver intialization takes control away from WebDriverListener and lets the test itself decide
    * when or whether to initialize a webdriver.
@@ -755,6 +1103,34 @@ public final class GaleniumConfiguration {
     return asBoolean(SYSTEM_PROPERTY_NAME_LAZY_DRIVER);
   }
 
+  /**
+   * Collect timings and counters of hot paths like element lookup, sampling and Galen checks. Metrics are attached to
+   * each test and written for the whole run.
+   * <ul>
+   * <li>Key:
+   *
+   * <pre>
+   * galenium.metrics
+   * </pre>
+   *
+   * </li>
+   * <li>
+   * Default:
+   *
+   * <pre>
+   * true
+   * </pre>
+   *
+   * </li>
+   * </ul>
+   *
+   * @return whether to collect metrics
+   * @since 5.0.0
+   */
+  public static boolean isMetricsCollection() {
+    return asBoolean(SYSTEM_PROPERTY_NAME_METRICS, true);
+  }
+
   /**
    * Only report Galen errors and leave successful tests out of report. This drastically reduces the size of reports in
    * the target folder. Useful to save disk space on CI.
@@ -783,6 +1159,33 @@ public final class GaleniumConfiguration {
     return asBoolean(SYSTEM_PROPERTY_NAME_REPORT_ERRORS_ONLY);
   }
 
+  /**
+   * Recompress screenshots in a background thread before writing them to the report.
+   * <ul>
+   * <li>Key:
+   *
+   * <pre>
+   * galenium.report.screenshot.recompress
+   * </pre>
+   *
+   * </li>
+   * <li>
+   * Default:
+   *
+   * <pre>
+   * false
+   * </pre>
+   *
+   * </li>
+   * </ul>
+   *
+   * @return whether to recompress screenshots
+   * @since 5.0.0
+   */
+  public static boolean isRecompressScreenshots() {
+    return asBoolean(SYSTEM_PROPERTY_NAME_REPORT_SCREENSHOT_RECOMPRESS);
+  }
+
   /**
    * Ignore sampling verification errors and continue running test. This is useful when generating initial samples.
    * <ul>
@@ -976,7 +1379,7 @@ public final class GaleniumConfiguration {
   }
 
   /**
-   * Control whether to attempt reuse of drivers.
+   * Control whether to attempt reuse of drivers. Drivers are pooled and reused across tests unless this is set.
    * <ul>
    * <li>Key:
    *
@@ -1033,6 +1436,14 @@ public final class GaleniumConfiguration {
     return Boolean.getBoolean(systemPropertyName);
   }
 
+  private static boolean asBoolean(String systemPropertyName, boolean defaultValue) {
+    String value = asString(systemPropertyName);
+    if (value == null) {
+      return defaultValue;
+    }
+    return Boolean.parseBoolean(value);
+  }
+
   private static Integer asInteger(String systemPropertyName, int defaultValue) {
     return Integer.getInteger(systemPropertyName, defaultValue);
   }
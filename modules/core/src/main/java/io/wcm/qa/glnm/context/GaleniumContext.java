@@ -21,6 +21,7 @@ package io.wcm.qa.glnm.context;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
@@ -35,6 +36,7 @@ import org.slf4j.LoggerFactory;
 public class GaleniumContext {
 
   private static final Logger LOG = LoggerFactory.getLogger(GaleniumContext.class);
+  private static final AtomicLong PAGE_GENERATIONS = new AtomicLong();
   private static final ThreadLocal<GaleniumContext> THREAD_LOCAL_CONTEXT = new ThreadLocal<GaleniumContext>() {
     @Override
     protected GaleniumContext initialValue() {
@@ -44,6 +46,7 @@ public class GaleniumContext {
 
   private final Map<String, Object> additionalMappings = new HashMap<String, Object>();
   private WebDriver driver;
+  private long pageGeneration = PAGE_GENERATIONS.incrementAndGet();
 
   /**
    * WebDriver to use for all things Galenium. This includes interaction with Galen and Selenium. Usually the WebDriver
@@ -57,6 +60,7 @@ public class GaleniumContext {
       LOG.debug("setting driver: " + driver);
     }
     this.driver = driver;
+    this.pageGeneration = PAGE_GENERATIONS.incrementAndGet();
   }
 
   /**
@@ -93,6 +97,33 @@ public class GaleniumContext {
     return THREAD_LOCAL_CONTEXT.get().driver;
   }
 
+  /**
+   * Identifies the state of the page in this thread's driver. Changes whenever the page might have changed, i.e. after
+   * navigation, clicks or when setting a new driver. Generations are unique across threads.
+   *
+   * @return current page generation
+   * @since 5.0.0
+   */
+  public static long getPageGeneration() {
+    return THREAD_LOCAL_CONTEXT.get().pageGeneration;
+  }
+
+  /**
+   * Marks the page in this thread's driver as changed. Samples bound to the previous page generation are refreshed on
+   * next use.
+   *
+   * @return new page generation
+   * @since 5.0.0
+   */
+  public static long nextPageGeneration() {
+    long generation = PAGE_GENERATIONS.incrementAndGet();
+    THREAD_LOCAL_CONTEXT.get().pageGeneration = generation;
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("page generation: " + generation);
+    }
+    return generation;
+  }
+
   /**
    * Store any object in the current threads context.
    *
@@ -19,8 +19,6 @@
  */
 package io.wcm.qa.glnm.junit.combinatorial;
 
-import static com.google.common.collect.Lists.cartesianProduct;
-
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.List;
@@ -32,10 +30,8 @@ import org.junit.platform.commons.util.Preconditions;
 class CartesianProductProvider extends CombinatorialTestExtension {
 
   @Override
-  protected Stream<Combination> combine(List<List<Combinable>> collectedInputs) {
-    return cartesianProduct(collectedInputs)
-        .stream()
-        .map(Combination::new);
+  protected Stream<Combination> combine(List<CombinableInput> collectedInputs) {
+    return SwitchCostOrder.cartesianProduct(collectedInputs);
   }
 
   @Override
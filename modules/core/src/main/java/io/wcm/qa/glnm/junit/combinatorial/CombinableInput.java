@@ -0,0 +1,68 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.junit.combinatorial;
+
+import java.util.Iterator;
+
+/**
+ * One input to combinatorial tests together with the cost of switching between its values.
+ *
+ * @since 5.0.0
+ */
+final class CombinableInput implements Iterable<Combinable> {
+
+  private final int switchCost;
+  private final Iterable<Combinable> values;
+
+  private CombinableInput(Iterable<Combinable> values, int switchCost) {
+    this.values = values;
+    this.switchCost = switchCost;
+  }
+
+  @Override
+  public Iterator<Combinable> iterator() {
+    return values.iterator();
+  }
+
+  int getSwitchCost() {
+    return switchCost;
+  }
+
+  Iterable<Combinable> getValues() {
+    return values;
+  }
+
+  /**
+   * @param values arguments which are free to switch
+   * @return input without switch cost
+   */
+  static CombinableInput of(Iterable<Combinable> values) {
+    return new CombinableInput(values, 0);
+  }
+
+  /**
+   * @param provider providing values and their switch cost
+   * @return input with cost declared by provider
+   */
+  static CombinableInput of(CombinableProvider provider) {
+    return new CombinableInput(provider.combinables(), provider.switchCost());
+  }
+
+}
@@ -43,4 +43,16 @@ public interface CombinableProvider {
    * @since 5.0.0
    */
   Class providedType();
+
+  /**
+   * Relative cost of switching from one provided value to another between invocations, e.g. starting a different
+   * browser. Invocations are ordered so that inputs with higher cost switch less often. Inputs without cost are
+   * combined in plain nested loop order.
+   *
+   * @return cost of switching values, 0 by default
+   * @since 5.0.0
+   */
+  default int switchCost() {
+    return 0;
+  }
 }
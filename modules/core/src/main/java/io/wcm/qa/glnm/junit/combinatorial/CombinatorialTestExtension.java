@@ -28,7 +28,7 @@ import static org.junit.jupiter.params.CombinatorialTestNameFormatter.formatter;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
@@ -94,10 +94,10 @@ abstract class CombinatorialTestExtension implements TestTemplateInvocationConte
     return true;
   }
 
-  private List<List<Combinable>> collectExtensions(ExtensionContext context) {
+  private List<CombinableInput> collectExtensions(ExtensionContext context) {
     List<CombinableProvider> extensionSources = extractExtensionSources(context);
     return extensionSources.stream()
-        .map(CombinableProvider::combinables)
+        .map(CombinableInput::of)
         .collect(toList());
   }
 
@@ -128,19 +128,23 @@ abstract class CombinatorialTestExtension implements TestTemplateInvocationConte
     return AnnotationSupport.isAnnotated(testMethod, getAnnotationClass());
   }
 
-  protected abstract Stream<Combination> combine(List<List<Combinable>> list);
+  protected abstract Stream<Combination> combine(List<CombinableInput> inputs);
 
   protected abstract Class<? extends Annotation> getAnnotationClass();
 
   protected abstract String getNamePattern(Method templateMethod);
 
+  protected List<CombinableInput> collectInputs(ExtensionContext extensionContext) {
+    List<CombinableInput> inputs = new ArrayList<CombinableInput>();
+    for (Iterable<Combinable> arguments : extractArguments(extensionContext)) {
+      inputs.add(CombinableInput.of(arguments));
+    }
+    inputs.addAll(collectExtensions(extensionContext));
+    return inputs;
+  }
+
   protected Stream<Combination> provideCombinations(ExtensionContext extensionContext) {
-    List<List<Combinable>> arguments = extractArguments(extensionContext);
-    List<List<Combinable>> extensions = collectExtensions(extensionContext);
-    return combine(
-        Stream.of(arguments, extensions)
-            .flatMap(Collection::stream)
-            .collect(toList()));
+    return combine(collectInputs(extensionContext));
   }
 
   ExtensionContext.Store getStore(ExtensionContext context) {
@@ -19,7 +19,6 @@
  */
 package io.wcm.qa.glnm.junit.combinatorial;
 
-import static com.google.common.collect.Lists.transform;
 import static io.wcm.qa.glnm.junit.combinatorial.ReAnnotationUtils.findRepeatableAnnotations;
 import static java.util.stream.Collectors.toList;
 import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
@@ -142,12 +141,12 @@ final class CombinatorialUtil {
     throw new GaleniumException("Did not find type of consumed annotation: " + annotationConsumer);
   }
 
-  private static List<List<Combinable>> providersToArguments(
+  private static List<Iterable<Combinable>> providersToArguments(
       List<ArgumentsProvider> providers,
       ExtensionContext context) {
-    return transform(
-        providers,
-        p -> arguments(p, context));
+    return providers.stream()
+        .map(p -> arguments(p, context))
+        .collect(toList());
   }
 
   @SuppressWarnings("unchecked")
@@ -155,17 +154,25 @@ final class CombinatorialUtil {
     return (Class<? extends Annotation>)TypeUtils.getRawType(argumentType, Annotation.class);
   }
 
-  static List<Combinable> arguments(
+  /**
+   * Arguments are not collected. Every iteration asks the provider for a new stream, so large sources can be combined
+   * without holding all their arguments in memory. Each stream is closed when its iterator is exhausted or closed.
+   *
+   * @param provider to fetch arguments from
+   * @param context of test
+   * @return re-iterable arguments
+   */
+  static Iterable<Combinable> arguments(
       ArgumentsProvider provider,
       ExtensionContext context) {
-    try {
-      return provider.provideArguments(context)
-          .map(Combinable::new)
-          .collect(toList());
-    }
-    catch (Exception e) {
-      throw ExceptionUtils.throwAsUncheckedException(e);
-    }
+    return () -> {
+      try {
+        return new StreamIterator<Combinable>(provider.provideArguments(context).map(Combinable::new));
+      }
+      catch (Exception e) {
+        throw ExceptionUtils.throwAsUncheckedException(e);
+      }
+    };
   }
 
   static Object[] consumedArguments(
@@ -176,7 +183,7 @@ final class CombinatorialUtil {
         : (arguments.length > parameterCount ? Arrays.copyOf(arguments, parameterCount) : arguments);
   }
 
-  static List<List<Combinable>> extractArguments(ExtensionContext context) {
+  static List<Iterable<Combinable>> extractArguments(ExtensionContext context) {
     return providersToArguments(extractArgumentProviders(context), context);
   }
 
@@ -0,0 +1,168 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.junit.combinatorial;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Iterates over the cartesian product of re-iterable inputs without materializing them. Like nested loops, the last
+ * input changes fastest. Whenever an input is exhausted, a new iteration over it is started, so only one value per
+ * input is held at a time. Reflected inputs are walked back and forth instead, so consecutive combinations differ in
+ * only one of them. Inputs are only iterated again while there are combinations left. Iterators of inputs are closed
+ * before an input is iterated again and when the product is exhausted or its stream is closed.
+ *
+ * @since 5.0.0
+ */
+final class LazyCartesianProduct implements Iterator<Combination> {
+
+  private final Combinable[] current;
+  private boolean hasNext = true;
+  private final List<? extends Iterable<Combinable>> inputs;
+  private final Iterator<Combinable>[] iterators;
+  private final int[] positions;
+  private final boolean[] reflected;
+  private final boolean[] reversed;
+
+  @SuppressWarnings("unchecked")
+  private LazyCartesianProduct(List<? extends Iterable<Combinable>> inputs, int[] positions, boolean[] reflected) {
+    this.inputs = inputs;
+    this.positions = positions;
+    this.reflected = reflected;
+    this.current = new Combinable[inputs.size()];
+    this.iterators = new Iterator[inputs.size()];
+    this.reversed = new boolean[inputs.size()];
+    for (int i = 0; i < iterators.length; i++) {
+      iterators[i] = inputs.get(i).iterator();
+      if (!iterators[i].hasNext()) {
+        finish();
+        return;
+      }
+      current[i] = iterators[i].next();
+    }
+    hasNext = iterators.length > 0;
+  }
+
+  /**
+   * Closes iterators of all inputs.
+   */
+  private void finish() {
+    hasNext = false;
+    for (Iterator<Combinable> iterator : iterators) {
+      if (iterator != null) {
+        StreamIterator.closeIfNeeded(iterator);
+      }
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    return hasNext;
+  }
+
+  @Override
+  public Combination next() {
+    if (!hasNext) {
+      throw new NoSuchElementException("cartesian product exhausted.");
+    }
+    Combinable[] combinables = new Combinable[current.length];
+    for (int i = 0; i < current.length; i++) {
+      combinables[positions[i]] = current[i];
+    }
+    Combination combination = new Combination(new ArrayList<Combinable>(Arrays.asList(combinables)));
+    advance();
+    return combination;
+  }
+
+  private void advance() {
+    int i = iterators.length - 1;
+    while (i >= 0 && !iterators[i].hasNext()) {
+      i--;
+    }
+    if (i < 0) {
+      // last combination, do not start new iterations
+      finish();
+      return;
+    }
+    current[i] = iterators[i].next();
+    for (int inner = i + 1; inner < iterators.length; inner++) {
+      if (!restart(inner)) {
+        finish();
+        return;
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private boolean restart(int i) {
+    StreamIterator.closeIfNeeded(iterators[i]);
+    if (reflected[i]) {
+      // turn around and keep current value, so only the outer input changes
+      reversed[i] = !reversed[i];
+      List<Combinable> values = (List<Combinable>)inputs.get(i);
+      iterators[i] = reversed[i] ? Lists.reverse(values).iterator() : values.iterator();
+      iterators[i].next();
+      return true;
+    }
+    iterators[i] = inputs.get(i).iterator();
+    if (!iterators[i].hasNext()) {
+      // input changed between iterations
+      return false;
+    }
+    current[i] = iterators[i].next();
+    return true;
+  }
+
+  /**
+   * @param inputs re-iterable inputs to combine
+   * @return sequential stream of all combinations
+   */
+  static Stream<Combination> stream(List<? extends Iterable<Combinable>> inputs) {
+    int[] positions = new int[inputs.size()];
+    for (int i = 0; i < positions.length; i++) {
+      positions[i] = i;
+    }
+    return stream(inputs, positions, new boolean[inputs.size()]);
+  }
+
+  /**
+   * @param inputs re-iterable inputs to combine, first input changes slowest
+   * @param positions position of each input's value in combinations
+   * @param reflected inputs to walk back and forth, these have to be lists
+   * @return sequential stream of all combinations
+   */
+  static Stream<Combination> stream(List<? extends Iterable<Combinable>> inputs, int[] positions, boolean[] reflected) {
+    LazyCartesianProduct product = new LazyCartesianProduct(inputs, positions, reflected);
+    Spliterator<Combination> spliterator = Spliterators.spliteratorUnknownSize(
+        product,
+        Spliterator.ORDERED | Spliterator.NONNULL);
+    return StreamSupport.stream(spliterator, false).onClose(product::finish);
+  }
+
+}
@@ -29,8 +29,11 @@ import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 
+import io.wcm.qa.glnm.pairwise.PairwiseDefinition;
+
 /**
- * Combines all sources by pairwise combination.
+ * Combines all sources by pairwise combination. Use {@link #strength()} to cover combinations of more than two
+ * sources.
  *
  * @since 5.0.0
  */
@@ -50,4 +53,13 @@ public @interface Pairwise {
    * @return name to use in reporting
    */
   String name() default DEFAULT_DISPLAY_NAME;
+
+  /**
+   * Number of sources whose value combinations all have to be covered. Higher strength finds more interaction bugs,
+   * but needs more invocations. Strength equal to the number of sources is the same as {@link CartesianProduct}.
+   *
+   * @return strength of combinatorial coverage
+   * @since 5.0.0
+   */
+  int strength() default PairwiseDefinition.DEFAULT_STRENGTH;
 }
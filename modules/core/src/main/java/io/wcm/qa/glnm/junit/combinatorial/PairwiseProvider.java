@@ -20,7 +20,7 @@
 package io.wcm.qa.glnm.junit.combinatorial;
 
 import static com.google.common.collect.Lists.newArrayList;
-import static io.wcm.qa.glnm.pairwise.PairwiseDefinition.getTupelsFor;
+import static io.wcm.qa.glnm.pairwise.PairwiseDefinition.getTupelsWithStrength;
 import static java.util.stream.Collectors.toList;
 
 import java.lang.annotation.Annotation;
@@ -28,10 +28,12 @@ import java.lang.reflect.Method;
 import java.util.List;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
 import org.junit.platform.commons.support.AnnotationSupport;
 import org.junit.platform.commons.util.Preconditions;
 
+import io.wcm.qa.glnm.pairwise.PairwiseDefinition;
 
 class PairwiseProvider
     extends CombinatorialTestExtension
@@ -64,16 +66,41 @@ class PairwiseProvider
         .toArray(new Integer[0]);
   }
 
-  private int[][] getIndexTupelsFor(List<List<Combinable>> collectedInputArguments) {
+  private int[][] getIndexTupelsFor(List<List<Combinable>> collectedInputArguments, int strength) {
     Integer[] domainSizes = getDomainSizes(collectedInputArguments);
-    return getTupelsFor(domainSizes);
+    return getTupelsWithStrength(strength, domainSizes);
+  }
+
+  private int getStrength(Method templateMethod) {
+    Pairwise pairwise = AnnotationSupport.findAnnotation(templateMethod, Pairwise.class).get();
+    int strength = pairwise.strength();
+    Preconditions.condition(strength > 0,
+        () -> String.format(
+            "Configuration error: @Pairwise on method [%s] must be declared with a positive strength.",
+            templateMethod));
+    return strength;
   }
 
   @Override
-  protected Stream<Combination> combine(List<List<Combinable>> collectedInputs) {
-    int[][] tupelsArray = getIndexTupelsFor(collectedInputs);
+  protected Stream<Combination> combine(List<CombinableInput> collectedInputs) {
+    return combine(collectedInputs, PairwiseDefinition.DEFAULT_STRENGTH);
+  }
+
+  /**
+   * Tupels need random access to the inputs, so each input is collected once. Combinations are still created lazily.
+   * Tupels are sorted, so inputs with switch cost change as rarely as possible.
+   *
+   * @param collectedInputs inputs to combine
+   * @param strength of combinatorial coverage
+   * @return stream of combinations
+   */
+  protected Stream<Combination> combine(List<CombinableInput> collectedInputs, int strength) {
+    List<List<Combinable>> inputs = collectedInputs.stream()
+        .map(input -> newArrayList(input))
+        .collect(toList());
+    int[][] tupelsArray = SwitchCostOrder.sort(getIndexTupelsFor(inputs, strength), collectedInputs);
     return Stream.of(tupelsArray)
-        .map(t -> combinationFromTupel(t, collectedInputs));
+        .map(t -> combinationFromTupel(t, inputs));
   }
 
   @Override
@@ -81,4 +108,10 @@ class PairwiseProvider
     return Pairwise.class;
   }
 
+  @Override
+  protected Stream<Combination> provideCombinations(ExtensionContext extensionContext) {
+    int strength = getStrength(extensionContext.getRequiredTestMethod());
+    return combine(collectInputs(extensionContext), strength);
+  }
+
 }
@@ -0,0 +1,89 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.junit.combinatorial;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * Iterator over a stream which closes the stream once it is exhausted. Streams of argument providers can hold open
+ * readers, which would otherwise leak whenever an input is iterated again.
+ *
+ * @param <T> type of elements
+ * @since 5.0.0
+ */
+final class StreamIterator<T> implements Iterator<T>, AutoCloseable {
+
+  private boolean closed;
+  private final Iterator<T> iterator;
+  private final Stream<T> stream;
+
+  StreamIterator(Stream<T> stream) {
+    this.stream = stream;
+    this.iterator = stream.iterator();
+  }
+
+  /**
+   * Closes underlying stream. Can be called more than once.
+   */
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true;
+      stream.close();
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (closed) {
+      return false;
+    }
+    if (iterator.hasNext()) {
+      return true;
+    }
+    close();
+    return false;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("stream exhausted.");
+    }
+    return iterator.next();
+  }
+
+  /**
+   * @param iterator to close, if it holds resources
+   */
+  static void closeIfNeeded(Iterator<?> iterator) {
+    if (iterator instanceof AutoCloseable) {
+      try {
+        ((AutoCloseable)iterator).close();
+      }
+      catch (Exception ex) {
+        throw new IllegalStateException("could not close iterator.", ex);
+      }
+    }
+  }
+
+}
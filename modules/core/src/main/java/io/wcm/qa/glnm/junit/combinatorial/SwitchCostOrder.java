@@ -0,0 +1,99 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.junit.combinatorial;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Orders invocations so inputs with high {@link CombinableProvider#switchCost()} change as rarely as possible. The
+ * most expensive input changes slowest. Inputs with cost are walked back and forth (reflected Gray code), so switching
+ * one of them never switches a cheaper one at the same time. Coverage is not affected.
+ *
+ * @since 5.0.0
+ */
+final class SwitchCostOrder {
+
+  private SwitchCostOrder() {
+    // do not instantiate
+  }
+
+  /**
+   * @param inputs to combine
+   * @return all combinations ordered by switch cost
+   */
+  static Stream<Combination> cartesianProduct(List<CombinableInput> inputs) {
+    if (!hasSwitchCost(inputs)) {
+      return LazyCartesianProduct.stream(inputs);
+    }
+    int[] order = order(inputs);
+    List<Iterable<Combinable>> orderedInputs = new ArrayList<Iterable<Combinable>>();
+    boolean[] reflected = new boolean[order.length];
+    for (int i = 0; i < order.length; i++) {
+      CombinableInput input = inputs.get(order[i]);
+      Iterable<Combinable> values = input.getValues();
+      reflected[i] = input.getSwitchCost() > 0 && values instanceof List;
+      orderedInputs.add(values);
+    }
+    return LazyCartesianProduct.stream(orderedInputs, order, reflected);
+  }
+
+  /**
+   * @param tupels indices of values per input
+   * @param inputs values are taken from
+   * @return tupels sorted by values of inputs with switch cost, most expensive first
+   */
+  static int[][] sort(int[][] tupels, List<CombinableInput> inputs) {
+    if (!hasSwitchCost(inputs)) {
+      return tupels;
+    }
+    int[] costly = Arrays.stream(order(inputs))
+        .filter(index -> inputs.get(index).getSwitchCost() > 0)
+        .toArray();
+    int[][] sorted = Arrays.copyOf(tupels, tupels.length);
+    Arrays.sort(sorted, (a, b) -> {
+      for (int index : costly) {
+        int comparison = Integer.compare(a[index], b[index]);
+        if (comparison != 0) {
+          return comparison;
+        }
+      }
+      return 0;
+    });
+    return sorted;
+  }
+
+  private static boolean hasSwitchCost(List<CombinableInput> inputs) {
+    return inputs.stream().anyMatch(input -> input.getSwitchCost() > 0);
+  }
+
+  private static int[] order(List<CombinableInput> inputs) {
+    return IntStream.range(0, inputs.size())
+        .boxed()
+        .sorted(Comparator.comparingInt((Integer index) -> inputs.get(index).getSwitchCost()).reversed())
+        .mapToInt(Integer::intValue)
+        .toArray();
+  }
+
+}
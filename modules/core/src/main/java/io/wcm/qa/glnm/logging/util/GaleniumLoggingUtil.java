@@ -19,6 +19,7 @@
  */
 package io.wcm.qa.glnm.logging.util;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -38,6 +39,7 @@ import io.qameta.allure.Allure;
 import io.qameta.allure.model.Status;
 import io.wcm.qa.glnm.configuration.GaleniumConfiguration;
 import io.wcm.qa.glnm.logging.logback.MarkedLogger;
+import io.wcm.qa.glnm.reporting.AttachmentWriter;
 
 /**
  * Utility methods and constants around logging.
@@ -172,23 +174,24 @@ public final class GaleniumLoggingUtil {
         if (LOG.isTraceEnabled()) {
           LOG.trace("Attaching " + logFile + " to Allure report.");
         }
-        Allure.addAttachment(logFile.getName(), asString(logFile));
+        // read now, appender may still write to log file while attachment waits for writer thread
+        byte[] content = readLogFile(logFile);
+        AttachmentWriter.write(logFile.getName(), "text/plain", ".txt", () -> new ByteArrayInputStream(content));
       }
     }
   }
 
-  private static String asString(File logFile) {
-    String logFileContentAsString;
+  private static byte[] readLogFile(File logFile) {
     try {
-      logFileContentAsString = FileUtils.readFileToString(logFile, StandardCharsets.UTF_8);
+      return FileUtils.readFileToByteArray(logFile);
     }
     catch (IOException ex) {
       if (LOG.isInfoEnabled()) {
         LOG.info("could not read log file.", ex);
       }
-      logFileContentAsString = "Could not read log file: '" + logFile.getPath() + "' (" + ex.getMessage() + ")";
+      String message = "Could not read log file: '" + logFile.getPath() + "' (" + ex.getMessage() + ")";
+      return message.getBytes(StandardCharsets.UTF_8);
     }
-    return logFileContentAsString;
   }
 
   private static Collection<File> getLogFiles(String testIdOfFinishedTest) {
@@ -0,0 +1,62 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free counter. Concurrent increments are striped and only summed up when read.
+ *
+ * @since 5.0.0
+ */
+public final class Counter {
+
+  private final LongAdder count = new LongAdder();
+
+  Counter() {
+    // created by registry
+  }
+
+  /**
+   * @param delta to add
+   * @since 5.0.0
+   */
+  public void add(long delta) {
+    count.add(delta);
+  }
+
+  /**
+   * @return current count
+   * @since 5.0.0
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Adds one.
+   *
+   * @since 5.0.0
+   */
+  public void increment() {
+    count.increment();
+  }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative values in the style of HdrHistogram. Values are counted in log-linear buckets:
+ * every power of two is split into 32 linear sub-buckets, so percentiles are accurate to about 3% over the whole
+ * range while recording stays a single atomic increment. Count, sum, minimum and maximum are exact.
+ *
+ * @since 5.0.0
+ */
+public final class Histogram {
+
+  private static final int MAX_EXPONENT = 42;
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+  /** Largest value which is distinguished, larger values are counted as this value. */
+  static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder count = new LongAdder();
+  private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+  private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+  private final LongAdder sum = new LongAdder();
+
+  Histogram() {
+    // created by registry
+  }
+
+  /**
+   * @return number of recorded values
+   * @since 5.0.0
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * @return largest recorded value or zero, if nothing was recorded
+   * @since 5.0.0
+   */
+  public long getMax() {
+    long value = max.get();
+    return value == Long.MIN_VALUE ? 0 : value;
+  }
+
+  /**
+   * @return mean of recorded values or zero, if nothing was recorded
+   * @since 5.0.0
+   */
+  public double getMean() {
+    long currentCount = getCount();
+    if (currentCount == 0) {
+      return 0;
+    }
+    return (double)getSum() / currentCount;
+  }
+
+  /**
+   * @return smallest recorded value or zero, if nothing was recorded
+   * @since 5.0.0
+   */
+  public long getMin() {
+    long value = min.get();
+    return value == Long.MAX_VALUE ? 0 : value;
+  }
+
+  /**
+   * @return sum of recorded values
+   * @since 5.0.0
+   */
+  public long getSum() {
+    return sum.sum();
+  }
+
+  /**
+   * @param percentile between 0 and 100
+   * @return largest value equivalent to the value at percentile, but never more than maximum
+   * @since 5.0.0
+   */
+  public long getValueAtPercentile(double percentile) {
+    long[] snapshot = new long[BUCKET_COUNT];
+    long total = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      snapshot[i] = counts.get(i);
+      total += snapshot[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    double boundedPercentile = Math.min(Math.max(percentile, 0), 100);
+    long target = Math.max(1, (long)Math.ceil(boundedPercentile / 100 * total));
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += snapshot[i];
+      if (seen >= target) {
+        return Math.min(highestEquivalentValue(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * @param value to record, negative values are recorded as zero
+   * @since 5.0.0
+   */
+  public void record(long value) {
+    long bounded = Math.max(value, 0);
+    counts.incrementAndGet(bucketIndex(bounded));
+    count.increment();
+    sum.add(bounded);
+    if (bounded < min.get()) {
+      min.accumulateAndGet(bounded, Math::min);
+    }
+    if (bounded > max.get()) {
+      max.accumulateAndGet(bounded, Math::max);
+    }
+  }
+
+  static int bucketIndex(long value) {
+    long bounded = Math.min(value, MAX_VALUE);
+    if (bounded < SUB_BUCKET_COUNT) {
+      return (int)bounded;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(bounded);
+    int shift = exponent - SUB_BUCKET_BITS;
+    int subBucket = (int)(bounded >>> shift) - SUB_BUCKET_COUNT;
+    return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  static long highestEquivalentValue(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    long lowest = (long)(SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+
+}
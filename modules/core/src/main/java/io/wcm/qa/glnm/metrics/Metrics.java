@@ -0,0 +1,220 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.wcm.qa.glnm.configuration.GaleniumConfiguration;
+
+/**
+ * Collects timings and counters of hot paths. Every value is recorded for the whole run and for the test currently
+ * running in this thread, if one was started with {@link #startTest()}. Collection can be switched off with
+ * {@link GaleniumConfiguration#isMetricsCollection()}, which makes recording a no-op. Nesting of timers
+ * is only tracked while a {@link TimingBreakdown} is started for the thread.
+ *
+ * <p>
+ * Timing a call:
+ * </p>
+ *
+ * <pre>
+ * long start = Metrics.start();
+ * try {
+ *   ...
+ * }
+ * finally {
+ *   Metrics.stop("element.find", selector.elementName(), start);
+ * }
+ * </pre>
+ *
+ * @since 5.0.0
+ */
+public final class Metrics {
+
+  private static final ThreadLocal<TimingBreakdown> BREAKDOWN = new ThreadLocal<>();
+  private static final boolean ENABLED = GaleniumConfiguration.isMetricsCollection();
+  private static final String FILE_NAME_RUN_METRICS = "metrics.json";
+  private static final Logger LOG = LoggerFactory.getLogger(Metrics.class);
+  private static final MetricsRegistry RUN_METRICS = new MetricsRegistry();
+  private static final ThreadLocal<MetricsRegistry> TEST_METRICS = new ThreadLocal<>();
+
+  private Metrics() {
+    // do not instantiate
+  }
+
+  /**
+   * Ends attributing time to nested timers in this thread.
+   *
+   * @return breakdown or null, if none was started
+   * @since 5.0.0
+   */
+  public static TimingBreakdown endBreakdown() {
+    TimingBreakdown breakdown = BREAKDOWN.get();
+    BREAKDOWN.remove();
+    return breakdown;
+  }
+
+  /**
+   * Ends collecting metrics for the test running in this thread.
+   *
+   * @return metrics of test or null, if no test was started
+   * @since 5.0.0
+   */
+  public static MetricsRegistry endTest() {
+    MetricsRegistry testMetrics = TEST_METRICS.get();
+    TEST_METRICS.remove();
+    return testMetrics;
+  }
+
+  /**
+   * @return metrics of the whole run
+   * @since 5.0.0
+   */
+  public static MetricsRegistry getRunMetrics() {
+    return RUN_METRICS;
+  }
+
+  /**
+   * @param name of counter
+   * @param label identifying what is counted, null for no label
+   * @since 5.0.0
+   */
+  public static void increment(String name, String label) {
+    if (!ENABLED) {
+      return;
+    }
+    RUN_METRICS.counter(name, label).increment();
+    MetricsRegistry testMetrics = TEST_METRICS.get();
+    if (testMetrics != null) {
+      testMetrics.counter(name, label).increment();
+    }
+  }
+
+  /**
+   * @return whether metrics are collected
+   * @since 5.0.0
+   */
+  public static boolean isEnabled() {
+    return ENABLED;
+  }
+
+  /**
+   * @param name of timer
+   * @param label identifying what was timed, null for no label
+   * @param nanos duration in nanoseconds
+   * @since 5.0.0
+   */
+  public static void record(String name, String label, long nanos) {
+    if (!ENABLED) {
+      return;
+    }
+    RUN_METRICS.timer(name, label).record(nanos);
+    MetricsRegistry testMetrics = TEST_METRICS.get();
+    if (testMetrics != null) {
+      testMetrics.timer(name, label).record(nanos);
+    }
+  }
+
+  /**
+   * @return start time to pass to {@link #stop(String, String, long)}
+   * @since 5.0.0
+   */
+  public static long start() {
+    if (!ENABLED) {
+      return 0;
+    }
+    long start = System.nanoTime();
+    TimingBreakdown breakdown = BREAKDOWN.get();
+    if (breakdown != null) {
+      breakdown.enter(start);
+    }
+    return start;
+  }
+
+  /**
+   * Starts attributing time to nested timers in this thread.
+   *
+   * @since 5.0.0
+   */
+  public static void startBreakdown() {
+    if (ENABLED) {
+      BREAKDOWN.set(new TimingBreakdown());
+    }
+  }
+
+  /**
+   * Starts collecting metrics for the test running in this thread.
+   *
+   * @since 5.0.0
+   */
+  public static void startTest() {
+    if (ENABLED) {
+      TEST_METRICS.set(new MetricsRegistry());
+    }
+  }
+
+  /**
+   * @param name of timer
+   * @param label identifying what was timed, null for no label
+   * @param start time returned by {@link #start()}
+   * @since 5.0.0
+   */
+  public static void stop(String name, String label, long start) {
+    if (!ENABLED) {
+      return;
+    }
+    long end = System.nanoTime();
+    record(name, label, end - start);
+    TimingBreakdown breakdown = BREAKDOWN.get();
+    if (breakdown != null) {
+      breakdown.exit(name, start, end);
+    }
+  }
+
+  /**
+   * Writes metrics of the whole run to <code>metrics.json</code> in the report directory.
+   *
+   * @return file written or null, if nothing was recorded or writing failed
+   * @since 5.0.0
+   */
+  public static File writeRunMetrics() {
+    if (RUN_METRICS.isEmpty()) {
+      return null;
+    }
+    File file = new File(GaleniumConfiguration.getReportDirectory(), FILE_NAME_RUN_METRICS);
+    try {
+      FileUtils.writeStringToFile(file, RUN_METRICS.toJson(), StandardCharsets.UTF_8);
+      if (LOG.isInfoEnabled()) {
+        LOG.info("wrote run metrics to '" + file.getPath() + "'");
+      }
+      return file;
+    }
+    catch (IOException ex) {
+      LOG.warn("could not write run metrics.", ex);
+      return null;
+    }
+  }
+
+}
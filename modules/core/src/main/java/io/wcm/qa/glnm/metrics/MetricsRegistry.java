@@ -0,0 +1,169 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.metrics;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import io.wcm.qa.glnm.exceptions.GaleniumException;
+
+/**
+ * Counters and timers grouped by metric name and label. Labels identify what was measured, i.e. a selector, a spec or
+ * a sampler type. Lookups of existing metrics do not lock.
+ *
+ * @since 5.0.0
+ */
+public final class MetricsRegistry {
+
+  /** Label used when metrics are recorded without label. */
+  public static final String LABEL_NONE = "all";
+
+  /** Label collecting values of labels beyond {@link #MAX_LABELS} per metric. */
+  public static final String LABEL_OTHER = "other";
+
+  /** Maximal number of distinct labels per metric. */
+  public static final int MAX_LABELS = 500;
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final ConcurrentMap<String, ConcurrentMap<String, Counter>> counters = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, ConcurrentMap<String, Histogram>> timers = new ConcurrentHashMap<>();
+
+  /**
+   * @param name of metric
+   * @param label identifying what is counted, null for no label
+   * @return counter for name and label
+   * @since 5.0.0
+   */
+  public Counter counter(String name, String label) {
+    return lookup(counters, name, label, Counter::new);
+  }
+
+  /**
+   * @return whether nothing was recorded
+   * @since 5.0.0
+   */
+  public boolean isEmpty() {
+    return counters.isEmpty() && timers.isEmpty();
+  }
+
+  /**
+   * @param name of metric
+   * @param label identifying what is timed, null for no label
+   * @return histogram of durations in nanoseconds for name and label
+   * @since 5.0.0
+   */
+  public Histogram timer(String name, String label) {
+    return lookup(timers, name, label, Histogram::new);
+  }
+
+  /**
+   * Serializes all metrics. Names are sorted alphabetically, timer labels by total time with the slowest first.
+   * Durations are in milliseconds.
+   *
+   * @return metrics as JSON
+   * @since 5.0.0
+   */
+  public String toJson() {
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+      generator.useDefaultPrettyPrinter();
+      generator.writeStartObject();
+      writeCounters(generator);
+      writeTimers(generator);
+      generator.writeEndObject();
+    }
+    catch (IOException ex) {
+      throw new GaleniumException("could not serialize metrics.", ex);
+    }
+    return writer.toString();
+  }
+
+  private void writeCounters(JsonGenerator generator) throws IOException {
+    generator.writeObjectFieldStart("counters");
+    for (Entry<String, ConcurrentMap<String, Counter>> metric : new TreeMap<>(counters).entrySet()) {
+      generator.writeObjectFieldStart(metric.getKey());
+      for (Entry<String, Counter> labelled : new TreeMap<>(metric.getValue()).entrySet()) {
+        generator.writeNumberField(labelled.getKey(), labelled.getValue().getCount());
+      }
+      generator.writeEndObject();
+    }
+    generator.writeEndObject();
+  }
+
+  private void writeTimers(JsonGenerator generator) throws IOException {
+    generator.writeObjectFieldStart("timers");
+    for (Entry<String, ConcurrentMap<String, Histogram>> metric : new TreeMap<>(timers).entrySet()) {
+      generator.writeObjectFieldStart(metric.getKey());
+      List<Entry<String, Histogram>> labelled = new ArrayList<>(metric.getValue().entrySet());
+      labelled.sort(Comparator.comparingLong((Entry<String, Histogram> e) -> e.getValue().getSum()).reversed());
+      for (Entry<String, Histogram> entry : labelled) {
+        Histogram histogram = entry.getValue();
+        generator.writeObjectFieldStart(entry.getKey());
+        generator.writeNumberField("count", histogram.getCount());
+        generator.writeNumberField("totalMs", toMillis(histogram.getSum()));
+        generator.writeNumberField("minMs", toMillis(histogram.getMin()));
+        generator.writeNumberField("meanMs", toMillis(histogram.getMean()));
+        generator.writeNumberField("p50Ms", toMillis(histogram.getValueAtPercentile(50)));
+        generator.writeNumberField("p90Ms", toMillis(histogram.getValueAtPercentile(90)));
+        generator.writeNumberField("p99Ms", toMillis(histogram.getValueAtPercentile(99)));
+        generator.writeNumberField("maxMs", toMillis(histogram.getMax()));
+        generator.writeEndObject();
+      }
+      generator.writeEndObject();
+    }
+    generator.writeEndObject();
+  }
+
+  private static <T> T lookup(ConcurrentMap<String, ConcurrentMap<String, T>> metrics, String name, String label,
+      Supplier<T> factory) {
+    ConcurrentMap<String, T> labelled = metrics.get(name);
+    if (labelled == null) {
+      labelled = metrics.computeIfAbsent(name, k -> new ConcurrentHashMap<>());
+    }
+    String key = label == null ? LABEL_NONE : label;
+    T metric = labelled.get(key);
+    if (metric != null) {
+      return metric;
+    }
+    if (labelled.size() >= MAX_LABELS) {
+      key = LABEL_OTHER;
+    }
+    return labelled.computeIfAbsent(key, k -> factory.get());
+  }
+
+  private static double toMillis(double nanos) {
+    return Math.round(nanos / NANOS_PER_MILLI * 1000) / 1000d;
+  }
+
+}
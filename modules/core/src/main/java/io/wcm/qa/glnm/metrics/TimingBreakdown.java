@@ -0,0 +1,135 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.metrics;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Attributes time to nested timers of a single thread. Each timer started with {@link Metrics#start()} opens a frame
+ * which is closed by the matching {@link Metrics#stop(String, String, long)}. Time spent in a frame is split into time
+ * spent in nested frames and self time, which is kept per stack of timer names joined with <code>;</code> as used by
+ * collapsed stack files for flame graphs.
+ *
+ * @since 5.0.0
+ */
+public final class TimingBreakdown {
+
+  private static final String SEPARATOR = ";";
+
+  private final Deque<Frame> frames = new ArrayDeque<>();
+  private final Map<String, Long> selfNanos = new TreeMap<>();
+  private long trackedNanos;
+
+  TimingBreakdown() {
+    // created by Metrics
+  }
+
+  /**
+   * @return self time in nanoseconds per stack of timer names, outermost first
+   * @since 5.0.0
+   */
+  public Map<String, Long> getSelfNanos() {
+    return Collections.unmodifiableMap(selfNanos);
+  }
+
+  /**
+   * @return sum of time spent in outermost timers in nanoseconds
+   * @since 5.0.0
+   */
+  public long getTrackedNanos() {
+    return trackedNanos;
+  }
+
+  /**
+   * @return whether no timer was stopped
+   * @since 5.0.0
+   */
+  public boolean isEmpty() {
+    return selfNanos.isEmpty();
+  }
+
+  void enter(long start) {
+    frames.push(new Frame(start));
+  }
+
+  void exit(String name, long start, long end) {
+    Frame frame = popFrame(start);
+    if (frame == null) {
+      // timer was started before breakdown
+      return;
+    }
+    long elapsed = end - start;
+    Frame parent = frames.peek();
+    Map<String, Long> target;
+    if (parent == null) {
+      target = selfNanos;
+      trackedNanos += elapsed;
+    }
+    else {
+      target = parent.nested;
+      parent.nestedNanos += elapsed;
+    }
+    String frameName = name.replace(SEPARATOR, "_");
+    add(target, frameName, Math.max(0, elapsed - frame.nestedNanos));
+    for (Entry<String, Long> entry : frame.nested.entrySet()) {
+      add(target, frameName + SEPARATOR + entry.getKey(), entry.getValue());
+    }
+  }
+
+  /**
+   * Removes frame opened at start together with all frames opened later. Those were not closed, because their timer
+   * threw before stopping.
+   */
+  private Frame popFrame(long start) {
+    Iterator<Frame> iterator = frames.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().start == start) {
+        Frame frame = frames.pop();
+        while (frame.start != start) {
+          frame = frames.pop();
+        }
+        return frame;
+      }
+    }
+    return null;
+  }
+
+  private static void add(Map<String, Long> target, String stack, long nanos) {
+    target.merge(stack, nanos, Long::sum);
+  }
+
+  private static final class Frame {
+
+    private final Map<String, Long> nested = new TreeMap<>();
+    private long nestedNanos;
+    private final long start;
+
+    Frame(long start) {
+      this.start = start;
+    }
+  }
+
+}
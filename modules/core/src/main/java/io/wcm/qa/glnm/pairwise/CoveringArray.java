@@ -0,0 +1,296 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.pairwise;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates t-wise covering arrays using the in-parameter-order strategy (IPOG). Starts with all combinations of the
+ * t largest domains and adds one domain at a time. Each new domain is first assigned to existing rows, choosing the
+ * value covering most uncovered combinations (horizontal growth). Remaining combinations are then covered by filling
+ * unset values of rows or adding new rows (vertical growth). Uncovered combinations of the new domain with each set of
+ * t-1 previous domains are tracked in one bitset per set of domains.
+ *
+ * @since 5.0.0
+ */
+final class CoveringArray {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CoveringArray.class);
+
+  private static final int NOT_SET = -1;
+
+  private final List<int[]> rows = new ArrayList<int[]>();
+  private final int[] sizes;
+  private final int strength;
+
+  private CoveringArray(int strength, int[] sizes) {
+    this.strength = Math.min(strength, sizes.length);
+    this.sizes = sizes;
+  }
+
+  /**
+   * @param strength number of domains whose value combinations have to be covered
+   * @param domainSizes sizes of the individual domains
+   * @return rows covering all combinations of values from any <code>strength</code> domains
+   */
+  static int[][] generate(int strength, int... domainSizes) {
+    if (strength < 1) {
+      throw new IllegalArgumentException("Strength needs to be positive: " + strength);
+    }
+    Integer[] order = IntStream.range(0, domainSizes.length)
+        .boxed()
+        .sorted(Comparator.comparingInt((Integer domain) -> domainSizes[domain]).reversed())
+        .toArray(Integer[]::new);
+    int[] sortedSizes = new int[order.length];
+    for (int i = 0; i < order.length; i++) {
+      sortedSizes[i] = domainSizes[order[i]];
+    }
+
+    CoveringArray coveringArray = new CoveringArray(strength, sortedSizes);
+    coveringArray.build();
+
+    int[][] tupels = new int[coveringArray.rows.size()][domainSizes.length];
+    for (int rowIndex = 0; rowIndex < tupels.length; rowIndex++) {
+      int[] row = coveringArray.rows.get(rowIndex);
+      for (int i = 0; i < order.length; i++) {
+        tupels[rowIndex][order[i]] = row[i] == NOT_SET ? 0 : row[i];
+      }
+    }
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("generated " + tupels.length + " tupels of strength " + strength + " for " + Arrays.toString(domainSizes));
+    }
+    return tupels;
+  }
+
+  private void build() {
+    rows.add(newRow());
+    for (int domain = 0; domain < strength; domain++) {
+      List<int[]> product = new ArrayList<int[]>();
+      for (int[] row : rows) {
+        for (int value = 0; value < sizes[domain]; value++) {
+          int[] extended = Arrays.copyOf(row, row.length);
+          extended[domain] = value;
+          product.add(extended);
+        }
+      }
+      rows.clear();
+      rows.addAll(product);
+    }
+    for (int domain = strength; domain < sizes.length; domain++) {
+      extend(domain);
+    }
+  }
+
+  private int cover(List<Interaction> interactions, int[] row) {
+    int covered = 0;
+    for (Interaction interaction : interactions) {
+      int combination = interaction.index(row);
+      if (combination >= 0 && interaction.uncovered.get(combination)) {
+        interaction.uncovered.clear(combination);
+        covered++;
+      }
+    }
+    return covered;
+  }
+
+  private void extend(int domain) {
+    List<Interaction> interactions = new ArrayList<Interaction>();
+    long remaining = 0;
+    for (int[] others : subsets(domain, strength - 1)) {
+      Interaction interaction = new Interaction(others, domain);
+      interactions.add(interaction);
+      remaining += interaction.uncovered.cardinality();
+    }
+    remaining -= growHorizontally(interactions, domain, remaining);
+    if (remaining > 0) {
+      growVertically(interactions, domain);
+    }
+  }
+
+  private int[] findCompatibleRow(List<int[]> candidates, int[] required) {
+    for (int[] row : candidates) {
+      if (isCompatible(row, required)) {
+        return row;
+      }
+    }
+    return null;
+  }
+
+  private long growHorizontally(List<Interaction> interactions, int domain, long remaining) {
+    long covered = 0;
+    for (int[] row : rows) {
+      if (covered == remaining) {
+        break;
+      }
+      int bestValue = NOT_SET;
+      int bestGain = 0;
+      for (int value = 0; value < sizes[domain]; value++) {
+        row[domain] = value;
+        int gain = 0;
+        for (Interaction interaction : interactions) {
+          int combination = interaction.index(row);
+          if (combination >= 0 && interaction.uncovered.get(combination)) {
+            gain++;
+          }
+        }
+        if (gain > bestGain) {
+          bestValue = value;
+          bestGain = gain;
+        }
+      }
+      row[domain] = bestValue;
+      covered += cover(interactions, row);
+    }
+    return covered;
+  }
+
+  private void growVertically(List<Interaction> interactions, int domain) {
+    List<int[]> candidates = new ArrayList<int[]>();
+    for (int[] row : rows) {
+      if (hasUnset(row, domain)) {
+        candidates.add(row);
+      }
+    }
+    for (Interaction interaction : interactions) {
+      BitSet combinations = interaction.uncovered;
+      for (int combination = combinations.nextSetBit(0); combination >= 0; combination = combinations.nextSetBit(combination + 1)) {
+        int[] required = interaction.values(combination);
+        int[] row = findCompatibleRow(candidates, required);
+        if (row == null) {
+          row = newRow();
+          rows.add(row);
+          candidates.add(row);
+        }
+        for (int i = 0; i <= domain; i++) {
+          if (required[i] != NOT_SET) {
+            row[i] = required[i];
+          }
+        }
+        cover(interactions, row);
+      }
+    }
+  }
+
+  private int[] newRow() {
+    int[] row = new int[sizes.length];
+    Arrays.fill(row, NOT_SET);
+    return row;
+  }
+
+  private static boolean hasUnset(int[] row, int domain) {
+    for (int i = 0; i <= domain; i++) {
+      if (row[i] == NOT_SET) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isCompatible(int[] row, int[] required) {
+    for (int i = 0; i < required.length; i++) {
+      if (required[i] != NOT_SET && row[i] != NOT_SET && row[i] != required[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static List<int[]> subsets(int domainCount, int subsetSize) {
+    List<int[]> subsets = new ArrayList<int[]>();
+    int[] subset = new int[subsetSize];
+    for (int i = 0; i < subsetSize; i++) {
+      subset[i] = i;
+    }
+    while (true) {
+      subsets.add(Arrays.copyOf(subset, subsetSize));
+      int position = subsetSize - 1;
+      while (position >= 0 && subset[position] == domainCount - subsetSize + position) {
+        position--;
+      }
+      if (position < 0) {
+        return subsets;
+      }
+      subset[position]++;
+      for (int i = position + 1; i < subsetSize; i++) {
+        subset[i] = subset[i - 1] + 1;
+      }
+    }
+  }
+
+  /**
+   * Combinations of a new domain with a set of previous domains. Each combination of values is indexed in mixed radix
+   * of the domain sizes.
+   */
+  private final class Interaction {
+
+    private final int domain;
+    private final int[] others;
+    private final BitSet uncovered;
+
+    Interaction(int[] others, int domain) {
+      this.domain = domain;
+      this.others = others;
+      long combinationCount = sizes[domain];
+      for (int other : others) {
+        combinationCount *= sizes[other];
+      }
+      if (combinationCount > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Too many combinations for strength " + strength + ": " + combinationCount);
+      }
+      uncovered = new BitSet((int)combinationCount);
+      uncovered.set(0, (int)combinationCount);
+    }
+
+    int index(int[] row) {
+      if (row[domain] == NOT_SET) {
+        return NOT_SET;
+      }
+      int index = 0;
+      for (int other : others) {
+        if (row[other] == NOT_SET) {
+          return NOT_SET;
+        }
+        index = index * sizes[other] + row[other];
+      }
+      return index * sizes[domain] + row[domain];
+    }
+
+    int[] values(int index) {
+      int[] values = new int[domain + 1];
+      Arrays.fill(values, NOT_SET);
+      values[domain] = index % sizes[domain];
+      int remainder = index / sizes[domain];
+      for (int i = others.length - 1; i >= 0; i--) {
+        values[others[i]] = remainder % sizes[others[i]];
+        remainder /= sizes[others[i]];
+      }
+      return values;
+    }
+  }
+
+}
@@ -20,11 +20,6 @@
 package io.wcm.qa.glnm.pairwise;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Helper to reduce test cases by applying pairwise approach.
@@ -35,28 +30,44 @@ import org.slf4j.LoggerFactory;
  */
 public final class PairwiseDefinition {
 
-  private static final Logger LOG = LoggerFactory.getLogger(PairwiseDefinition.class);
+  /**
+   * Strength of pairwise combination.
+   */
+  public static final int DEFAULT_STRENGTH = 2;
 
   private PairwiseDefinition() {
     // do not instantiate
   }
 
   /**
-   * Returns pairwise selected tupels for the domain sizes
+   * Returns pairwise selected tupels for the domain sizes. Tupels are generated by {@link CoveringArray}.
    *
    * @param domainSizes sizes of the individual domains
    * @return all tupels in array form
    * @since 5.0.0
    */
   public static int[][] getTupelsFor(Integer... domainSizes) {
+    return getTupelsWithStrength(DEFAULT_STRENGTH, domainSizes);
+  }
+
+  /**
+   * Returns tupels covering all combinations of values from any <code>strength</code> domains. Strength 2 is
+   * pairwise, higher strengths find more interaction bugs at the cost of more tupels. Strength equal to the number of
+   * domains yields the full cartesian product.
+   *
+   * @param strength number of domains whose value combinations have to be covered
+   * @param domainSizes sizes of the individual domains
+   * @return all tupels in array form
+   * @since 5.0.0
+   */
+  public static int[][] getTupelsWithStrength(int strength, Integer... domainSizes) {
     TupelDefinition tupelDefinition = new TupelDefinition(domainDefinitions(domainSizes));
-    Collection<Tupel> tupelCollection = getTupelsFor(tupelDefinition);
-    int[][] tupelArray = new int[tupelCollection.size()][];
-    Iterator<Tupel> tupels = tupelCollection.iterator();
-    for (int i = 0; i < tupelArray.length; i++) {
-      tupelArray[i] = tupels.next().toArray();
+    DomainDefinition[] domains = tupelDefinition.getDomains();
+    int[] sizes = new int[domains.length];
+    for (int i = 0; i < sizes.length; i++) {
+      sizes[i] = domains[i].getSize();
     }
-    return tupelArray;
+    return CoveringArray.generate(strength, sizes);
   }
 
   private static DomainDefinition[] domainDefinitions(Integer... domainSizes) {
@@ -67,87 +78,4 @@ public final class PairwiseDefinition {
     return domains.toArray(new DomainDefinition[0]);
   }
 
-  private static boolean ensureWithExistingTupels(Collection<Tupel> tupels, Requirement requirement) {
-    for (Tupel tupel : tupels) {
-      if (tupel.satisfy(requirement)) {
-        return true;
-      }
-    }
-    return false;
-  }
-
-  private static void finish(Collection<Tupel> tupels) {
-    for (Tupel tupel : tupels) {
-      if (!tupel.isFinished()) {
-        tupel.finish();
-      }
-    }
-  }
-
-  private static Collection<Requirement> generateRequirements(int indexForDomainA, int sizeOfDomainA, int indexForDomainB, int sizeOfDomainB) {
-    Collection<Requirement> requirementsAB = new ArrayList<Requirement>();
-    for (int i = 0; i < sizeOfDomainA; i++) {
-      Value a = new Value(indexForDomainA, i);
-      for (int j = 0; j < sizeOfDomainB; j++) {
-        Value b = new Value(indexForDomainB, j);
-        Requirement requirement = new Requirement(a, b);
-        if (LOG.isTraceEnabled()) {
-          LOG.trace("requirement: " + requirement);
-        }
-        requirementsAB.add(requirement);
-      }
-    }
-    return requirementsAB;
-  }
-
-  private static Collection<Tupel> generateTupels(TupelDefinition def, Collection<Requirement> requirements) {
-    Collection<Tupel> tupels = new ArrayList<Tupel>();
-    for (Requirement req : requirements) {
-      if (!ensureWithExistingTupels(tupels, req)) {
-        tupels.add(def.newTupelFor(req));
-      }
-    }
-    finish(tupels);
-    return tupels;
-  }
-
-  static Collection<Requirement> generateRequirements(TupelDefinition def) {
-    Collection<Requirement> requirements = new ArrayList<Requirement>();
-    DomainDefinition[] domains = def.getDomains();
-    for (int i = 0; i < domains.length - 1; i++) {
-      DomainDefinition domainA = domains[i];
-      int indexA = def.getIndexFor(domainA);
-      int sizeA = domainA.getSize();
-      if (LOG.isTraceEnabled()) {
-        LOG.trace("generate requirements for " + domainA);
-      }
-      for (int j = i + 1; j < domains.length; j++) {
-        DomainDefinition domainB = domains[j];
-        int indexB = def.getIndexFor(domainB);
-        int sizeB = domainB.getSize();
-        if (LOG.isTraceEnabled()) {
-          LOG.trace("generate requirements for " + domainA + " combined with " + domainB);
-        }
-        requirements.addAll(generateRequirements(indexA, sizeA, indexB, sizeB));
-      }
-    }
-    return requirements;
-  }
-
-  /**
-   * <p>getTupelsFor.</p>
-   *
-   * @param def a {@link io.wcm.qa.glnm.pairwise.TupelDefinition} object.
-   * @return a {@link java.util.Collection} object.
-   * @since 5.0.0
-   */
-  static Collection<Tupel> getTupelsFor(TupelDefinition def) {
-
-    Collection<Requirement> requirements = generateRequirements(def);
-
-    Collection<Tupel> tupels = generateTupels(def, requirements);
-
-    return tupels;
-  }
-
 }
@@ -1,57 +0,0 @@
-/*
- * #%L
- * wcm.io
- * %%
- * Copyright (C) 2019 wcm.io
- * %%
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *      http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- * #L%
- */
-package io.wcm.qa.glnm.pairwise;
-
-class Requirement {
-
-  private Value valueA;
-  private Value valueB;
-
-  protected Requirement(Value a, Value b) {
-    if (a.getDomain() == b.getDomain()) {
-      throw new IllegalArgumentException("Cannot have a requirement on a single domain.");
-    }
-    setValueA(a);
-    setValueB(b);
-  }
-
-  /** {@inheritDoc} */
-  @Override
-  public String toString() {
-    return "[" + getValueA() + "x" + getValueB() + "]";
-  }
-
-  protected void setValueA(Value a) {
-    this.valueA = a;
-  }
-
-  protected void setValueB(Value b) {
-    this.valueB = b;
-  }
-
-  Value getValueA() {
-    return valueA;
-  }
-
-  Value getValueB() {
-    return valueB;
-  }
-
-}
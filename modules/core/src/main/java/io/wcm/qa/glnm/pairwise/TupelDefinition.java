@@ -43,18 +43,4 @@ class TupelDefinition {
   void setDomains(DomainDefinition[] domains) {
     this.domains = domains;
   }
-
-  int getIndexFor(DomainDefinition domain) {
-    return ArrayUtils.indexOf(getDomains(), domain);
-  }
-
-  Tupel newTupel() {
-    return new Tupel(domains.length);
-  }
-
-  Tupel newTupelFor(Requirement req) {
-    Tupel tupel = newTupel();
-    tupel.satisfy(req);
-    return tupel;
-  }
 }
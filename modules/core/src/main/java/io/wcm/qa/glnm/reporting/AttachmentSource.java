@@ -0,0 +1,42 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.reporting;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Provides content of an attachment when it is written.
+ *
+ * @since 5.0.0
+ */
+@FunctionalInterface
+public interface AttachmentSource {
+
+  /**
+   * Called once on the thread writing the attachment.
+   *
+   * @return stream with attachment content
+   * @throws IOException if content cannot be read
+   * @since 5.0.0
+   */
+  InputStream open() throws IOException;
+
+}
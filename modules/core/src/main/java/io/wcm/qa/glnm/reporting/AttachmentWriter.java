@@ -0,0 +1,314 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.reporting;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StatusDetails;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.wcm.qa.glnm.exceptions.GaleniumException;
+import io.wcm.qa.glnm.metrics.Metrics;
+
+/**
+ * Writes Allure attachments in the background. Attachments are registered with the current step or test case on the
+ * calling thread and their content is written by a small pool of writer threads. When the queue is full, the calling
+ * thread writes the attachment itself, which slows down tests producing attachments faster than the disk can take
+ * them.
+ *
+ * <p>
+ * Scheduled attachments are tracked per Allure test case, independent of the thread scheduling them.
+ * {@link #flush(String)} waits for the attachments of a test case and is called before Allure writes the test result.
+ * Pending attachments are also written on JVM shutdown. When content cannot be written, flushing marks the step or test
+ * case holding the attachment as broken.
+ * </p>
+ *
+ * @since 5.0.0
+ */
+public final class AttachmentWriter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AttachmentWriter.class);
+  private static final String METRIC_ATTACHMENT = "allure.attachment";
+
+  private static final String NO_TEST_CASE = "";
+  private static final int POOL_SIZE = 2;
+  private static final int QUEUE_CAPACITY = 32;
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+  private static final Map<String, Queue<AttachmentTask>> PENDING = new ConcurrentHashMap<>();
+  private static final ThreadPoolExecutor WRITERS = new ThreadPoolExecutor(
+      POOL_SIZE,
+      POOL_SIZE,
+      0,
+      TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<Runnable>(QUEUE_CAPACITY),
+      new WriterThreadFactory(),
+      new ThreadPoolExecutor.CallerRunsPolicy());
+
+  static {
+    Runtime.getRuntime().addShutdownHook(new Thread(AttachmentWriter::shutdown, "glnm-attachment-writer-shutdown"));
+  }
+
+  private AttachmentWriter() {
+    // do not instantiate
+  }
+
+  /**
+   * Waits until all scheduled attachments are written.
+   *
+   * @since 5.0.0
+   */
+  public static void flush() {
+    List<AttachmentTask> pending = new ArrayList<>();
+    for (String testCase : PENDING.keySet()) {
+      take(testCase, pending);
+    }
+    await(pending);
+  }
+
+  /**
+   * Waits until all attachments of test case and attachments scheduled outside of any test case are written.
+   *
+   * @param testCaseUuid Allure UUID of test case
+   * @since 5.0.0
+   */
+  public static void flush(String testCaseUuid) {
+    List<AttachmentTask> pending = new ArrayList<>();
+    take(testCaseUuid, pending);
+    take(NO_TEST_CASE, pending);
+    await(pending);
+  }
+
+  /**
+   * Registers attachment with current step and schedules writing its content.
+   *
+   * @param name of attachment
+   * @param type MIME type
+   * @param extension file extension including dot
+   * @param content provider of content called on writer thread
+   * @return source reference of attachment in Allure results
+   * @since 5.0.0
+   */
+  public static String write(String name, String type, String extension, AttachmentSource content) {
+    return write(name, type, extension, content, false);
+  }
+
+  /**
+   * Registers attachment and schedules writing its content.
+   *
+   * @param name of attachment
+   * @param type MIME type
+   * @param extension file extension including dot
+   * @param content provider of content called on writer thread
+   * @param attachToTestCase whether to attach at test case level instead of inside step
+   * @return source reference of attachment in Allure results
+   * @since 5.0.0
+   */
+  public static String write(String name, String type, String extension, AttachmentSource content, boolean attachToTestCase) {
+    long start = Metrics.start();
+    try {
+      return scheduleWrite(name, type, extension, content, attachToTestCase);
+    }
+    finally {
+      Metrics.stop(METRIC_ATTACHMENT, type, start);
+    }
+  }
+
+  private static void await(Collection<AttachmentTask> pending) {
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("flushing " + pending.size() + " attachments");
+    }
+    for (AttachmentTask task : pending) {
+      try {
+        task.get();
+      }
+      catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new GaleniumException("interrupted when flushing attachments.", ex);
+      }
+      catch (ExecutionException ex) {
+        LOG.error("when writing attachment: " + task.getSource(), ex.getCause());
+        task.markBroken(ex.getCause());
+      }
+    }
+  }
+
+  /**
+   * Looks up step or test case holding the attachment on the scheduling thread, so it can be marked as broken when
+   * writing fails. Results are only written after flushing, so they can still be changed then.
+   */
+  private static Runnable getBrokenMarker(AllureLifecycle lifecycle, boolean attachToTestCase, String message) {
+    Optional<String> testCase = lifecycle.getCurrentTestCase();
+    if (!testCase.isPresent()) {
+      return () -> {
+        // not attached to test case or step
+      };
+    }
+    if (!attachToTestCase && !testCase.equals(lifecycle.getCurrentTestCaseOrStep())) {
+      AtomicReference<StepResult> step = new AtomicReference<>();
+      lifecycle.updateStep(step::set);
+      return () -> {
+        StepResult stepResult = step.get();
+        if (stepResult != null && stepResult.getStatus() != Status.FAILED) {
+          stepResult.setStatus(Status.BROKEN);
+          stepResult.setStatusDetails(getStatusDetails(message));
+        }
+      };
+    }
+    AtomicReference<TestResult> result = new AtomicReference<>();
+    lifecycle.updateTestCase(result::set);
+    return () -> {
+      TestResult testResult = result.get();
+      if (testResult != null && testResult.getStatus() != Status.FAILED) {
+        testResult.setStatus(Status.BROKEN);
+        testResult.setStatusDetails(getStatusDetails(message));
+      }
+    };
+  }
+
+  private static StatusDetails getStatusDetails(String message) {
+    StatusDetails details = new StatusDetails();
+    details.setMessage(message);
+    return details;
+  }
+
+  @SuppressWarnings("deprecation")
+  private static String scheduleWrite(String name, String type, String extension, AttachmentSource content, boolean attachToTestCase) {
+    AllureLifecycle lifecycle = Allure.getLifecycle();
+    String source = lifecycle.prepareAttachment(name, type, extension);
+    if (attachToTestCase) {
+      Attachment attachment = new Attachment();
+      attachment.setName(name);
+      attachment.setSource(source);
+      attachment.setType(type);
+      lifecycle.updateTestCase(result -> result.getAttachments().add(attachment));
+    }
+    AttachmentTask task = new AttachmentTask(
+        () -> writeContent(lifecycle, source, content),
+        source,
+        getBrokenMarker(lifecycle, attachToTestCase, "could not write attachment '" + name + "': " + source));
+    if (WRITERS.isShutdown()) {
+      task.run();
+      await(Collections.singletonList(task));
+      return source;
+    }
+    // register before executing, so flushing cannot miss a task which is already running
+    PENDING.compute(lifecycle.getCurrentTestCase().orElse(NO_TEST_CASE), (testCase, pending) -> {
+      Queue<AttachmentTask> scheduled = pending == null ? new ConcurrentLinkedQueue<>() : pending;
+      scheduled.removeIf(AttachmentTask::isDone);
+      scheduled.add(task);
+      return scheduled;
+    });
+    WRITERS.execute(task);
+    if (!task.isDone() && WRITERS.isShutdown()) {
+      // discarded by executor shutting down in the meantime, running it twice is a no-op
+      task.run();
+    }
+    return source;
+  }
+
+  private static void shutdown() {
+    WRITERS.shutdown();
+    try {
+      if (!WRITERS.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        LOG.warn("attachments still pending after " + SHUTDOWN_TIMEOUT_SECONDS + " seconds.");
+      }
+    }
+    catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void take(String testCase, Collection<AttachmentTask> pending) {
+    Queue<AttachmentTask> scheduled = PENDING.remove(testCase);
+    if (scheduled != null) {
+      pending.addAll(scheduled);
+    }
+  }
+
+  private static void writeContent(AllureLifecycle lifecycle, String source, AttachmentSource content) {
+    try (InputStream inputStream = content.open()) {
+      lifecycle.writeAttachment(source, inputStream);
+    }
+    catch (Exception ex) {
+      throw new GaleniumException("when writing attachment: " + source, ex);
+    }
+  }
+
+  private static final class AttachmentTask extends FutureTask<Void> {
+
+    private final Runnable brokenMarker;
+    private final String source;
+
+    AttachmentTask(Runnable write, String source, Runnable brokenMarker) {
+      super(write, null);
+      this.source = source;
+      this.brokenMarker = brokenMarker;
+    }
+
+    String getSource() {
+      return source;
+    }
+
+    void markBroken(Throwable cause) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("marking holder of attachment as broken: " + source, cause);
+      }
+      brokenMarker.run();
+    }
+  }
+
+  private static final class WriterThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "glnm-attachment-writer-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+
+}
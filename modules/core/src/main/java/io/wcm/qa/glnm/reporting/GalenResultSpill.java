@@ -0,0 +1,191 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.reporting;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.galenframework.reports.GalenTestInfo;
+import com.galenframework.reports.HtmlReportBuilder;
+
+/**
+ * Writes each Galen result to its own partial Galen HTML report as soon as it is added, so no results are held in
+ * memory. A one line summary per result is appended to an index file, which is used to render an overview page linking
+ * to all partial reports. Reports of previous runs are only removed by {@link #clean()}.
+ *
+ * @since 5.0.0
+ */
+final class GalenResultSpill {
+
+  private static final String FILE_NAME_INDEX = "index.html";
+  private static final String FILE_NAME_PARTIAL_REPORT = "report.html";
+  private static final String FILE_NAME_SUMMARY = "summary.tsv";
+  private static final String FOLDER_NAME_PARTS = "parts";
+  private static final Logger LOG = LoggerFactory.getLogger(GalenResultSpill.class);
+  private static final String SEPARATOR = "\t";
+  private static final String SUFFIX_SUMMARY = ".tsv";
+
+  private final AtomicInteger partCounter = new AtomicInteger();
+  private final File partsFolder;
+  private final File reportFolder;
+  private final Object summaryLock = new Object();
+
+  GalenResultSpill(String reportPath) {
+    this.reportFolder = new File(reportPath);
+    this.partsFolder = new File(reportFolder, FOLDER_NAME_PARTS);
+  }
+
+  /**
+   * Writes result to its own partial report and appends its summary to index file.
+   * @param galenTestInfo result to add
+   */
+  void add(GalenTestInfo galenTestInfo) {
+    if (galenTestInfo.getReport() == null) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("skipping Galen result without report: " + galenTestInfo.getName());
+      }
+      return;
+    }
+    if (galenTestInfo.getStartedAt() == null) {
+      galenTestInfo.setStartedAt(new Date());
+    }
+    if (galenTestInfo.getEndedAt() == null) {
+      // HTML report needs both to calculate duration
+      galenTestInfo.setEndedAt(new Date());
+    }
+    String partName = String.format("%05d", partCounter.incrementAndGet());
+    File partFolder = new File(partsFolder, partName);
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("writing Galen result to " + partFolder.getPath());
+    }
+    try {
+      new HtmlReportBuilder().build(Collections.singletonList(galenTestInfo), partFolder.getPath());
+      String summary = getSummary(partName, galenTestInfo);
+      synchronized (summaryLock) {
+        FileUtils.writeLines(
+            new File(partsFolder, FILE_NAME_SUMMARY),
+            StandardCharsets.UTF_8.name(),
+            Collections.singletonList(summary),
+            true);
+      }
+    }
+    catch (IOException ex) {
+      LOG.error("could not generate Galen report for " + partName, ex);
+    }
+  }
+
+  /**
+   * Removes partial reports and overview page of previous runs. Call once at start of run, before adding results.
+   */
+  void clean() {
+    if (FileUtils.deleteQuietly(partsFolder) && LOG.isDebugEnabled()) {
+      LOG.debug("removed partial Galen reports from previous run: " + partsFolder.getPath());
+    }
+    FileUtils.deleteQuietly(new File(reportFolder, FILE_NAME_INDEX));
+  }
+
+  /**
+   * Renders overview page from summaries of all written results.
+   */
+  void flush() {
+    synchronized (summaryLock) {
+      writeIndex();
+    }
+  }
+
+  private void writeIndex() {
+    File[] summaryFiles = partsFolder.listFiles((dir, name) -> name.endsWith(SUFFIX_SUMMARY));
+    if (summaryFiles == null || summaryFiles.length == 0) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("no Galen results to report.");
+      }
+      return;
+    }
+    Arrays.sort(summaryFiles);
+    StringBuilder rows = new StringBuilder();
+    int total = 0;
+    int failed = 0;
+    try {
+      for (File summaryFile : summaryFiles) {
+        for (String line : FileUtils.readLines(summaryFile, StandardCharsets.UTF_8)) {
+          String[] fields = StringUtils.splitPreserveAllTokens(line, SEPARATOR, 5);
+          if (fields.length < 5) {
+            continue;
+          }
+          total++;
+          boolean isFailed = Boolean.parseBoolean(fields[1]);
+          if (isFailed) {
+            failed++;
+          }
+          rows.append("<tr class=\"")
+              .append(isFailed ? "failed" : "passed")
+              .append("\"><td><a href=\"")
+              .append(FOLDER_NAME_PARTS).append('/').append(fields[0]).append('/').append(FILE_NAME_PARTIAL_REPORT)
+              .append("\">")
+              .append(GaleniumReportUtil.escapeHtml(fields[4]))
+              .append("</a></td><td>")
+              .append(fields[2])
+              .append("</td><td>")
+              .append(fields[3])
+              .append("</td></tr>\n");
+        }
+      }
+      StringBuilder html = new StringBuilder();
+      html.append("<!DOCTYPE html>\n<html><head><meta charset=\"UTF-8\"><title>Galen Reports</title>")
+          .append("<style>.failed td{background:#fdd}.passed td{background:#dfd}td,th{padding:2px 8px}</style>")
+          .append("</head><body>\n<h1>Galen Reports</h1>\n<p>")
+          .append(total).append(" tests, ").append(failed).append(" failed</p>\n")
+          .append("<table><tr><th>Test</th><th>Errors</th><th>Warnings</th></tr>\n")
+          .append(rows)
+          .append("</table>\n</body></html>\n");
+      File indexFile = new File(reportFolder, FILE_NAME_INDEX);
+      FileUtils.writeStringToFile(indexFile, html.toString(), StandardCharsets.UTF_8);
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("wrote Galen report overview for " + total + " tests: " + indexFile.getPath());
+      }
+    }
+    catch (IOException ex) {
+      LOG.error("could not generate Galen report overview.", ex);
+    }
+  }
+
+  private static String getSummary(String partName, GalenTestInfo testInfo) {
+    return StringUtils.join(
+        new Object[] {
+            partName,
+            testInfo.isFailed(),
+            testInfo.getReport().fetchStatistic().getErrors(),
+            testInfo.getReport().fetchStatistic().getWarnings(),
+            StringUtils.replaceChars(testInfo.getName(), "\t\r\n", "   ")
+        },
+        SEPARATOR);
+  }
+
+}
@@ -23,12 +23,10 @@ package io.wcm.qa.glnm.reporting;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Consumer;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openqa.selenium.OutputType;
@@ -45,13 +43,12 @@ import com.galenframework.utils.GalenUtils;
 import com.google.common.html.HtmlEscapers;
 
 import io.qameta.allure.Allure;
-import io.qameta.allure.AllureLifecycle;
-import io.qameta.allure.model.Attachment;
 import io.qameta.allure.model.Status;
 import io.qameta.allure.model.StepResult;
 import io.wcm.qa.glnm.configuration.GaleniumConfiguration;
 import io.wcm.qa.glnm.context.GaleniumContext;
 import io.wcm.qa.glnm.exceptions.GaleniumException;
+import io.wcm.qa.glnm.metrics.Metrics;
 
 /**
  * Utility class containing methods handling reporting.
@@ -60,18 +57,18 @@ import io.wcm.qa.glnm.exceptions.GaleniumException;
  */
 public final class GaleniumReportUtil {
 
-  private static final List<GalenTestInfo> GLOBAL_GALEN_RESULTS = new ArrayList<GalenTestInfo>();
-
   private static final Logger LOG = LoggerFactory.getLogger(GaleniumReportUtil.class);
+  private static final String METRIC_SCREENSHOT = "screenshot";
   private static final String PATH_GALEN_REPORT = GaleniumConfiguration.getReportDirectory() + "/galen";
-  private static final String PATH_SCREENSHOTS_ROOT = GaleniumConfiguration.getReportDirectory() + "/screenshots";
+
+  private static final GalenResultSpill GLOBAL_GALEN_RESULTS = new GalenResultSpill(PATH_GALEN_REPORT);
 
   private GaleniumReportUtil() {
     // do not instantiate
   }
 
   /**
-   * Add GalenTestInfo to global list for generating reports.
+   * Add GalenTestInfo to global result set for generating reports. Results are written to disk in batches per thread.
    *
    * @param galenTestInfo Galen test info to add to result set
    * @since 3.0.0
@@ -145,16 +142,20 @@ public final class GaleniumReportUtil {
     FileInputStream inputStream;
     try {
       inputStream = new FileInputStream(file);
-      addAttachment(
-          name,
-          "image/png",
-          inputStream,
-          ".png", attachToTestCase);
-      inputStream.close();
     }
     catch (IOException ex) {
       throw new GaleniumException("When adding PNG attachment from: " + file, ex);
     }
+    AttachmentWriter.write(name, "image/png", ".png", () -> inputStream, attachToTestCase);
+  }
+
+  /**
+   * Removes Galen reports of previous runs. Call once at start of run, before any Galen results are added.
+   *
+   * @since 5.0.0
+   */
+  public static void cleanGalenReports() {
+    GLOBAL_GALEN_RESULTS.clean();
   }
 
   /**
@@ -174,12 +175,13 @@ public final class GaleniumReportUtil {
   }
 
   /**
-   * Create reports from global list of GalenTestInfos.
+   * Create reports from global result set of GalenTestInfos. Writes pending results of all threads and an overview page
+   * linking all partial reports.
    *
    * @since 3.0.0
    */
   public static void createGalenReports() {
-    createGalenHtmlReport(GLOBAL_GALEN_RESULTS);
+    GLOBAL_GALEN_RESULTS.flush();
   }
 
   /**
@@ -358,15 +360,24 @@ public final class GaleniumReportUtil {
    * @since 5.0.0
    */
   public static void takeScreenshot(String resultName, TakesScreenshot takesScreenshot, boolean dedicatedStep) {
-    String step = null;
-    if (dedicatedStep) {
-      step = startStep("taking screenshot: " + takesScreenshot);
+    long start = Metrics.start();
+    try {
+      String step = null;
+      if (dedicatedStep) {
+        step = startStep("taking screenshot: " + takesScreenshot);
+      }
+      String screenshot = takesScreenshot.getScreenshotAs(OutputType.BASE64);
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("screenshot taken: " + resultName);
+      }
+      ScreenshotWriter.attach("Screenshot: " + resultName, screenshot);
+      if (dedicatedStep) {
+        passStep(step);
+        stopStep();
+      }
     }
-    File screenshotFile = takesScreenshot.getScreenshotAs(OutputType.FILE);
-    attachScreenshotFile(resultName, screenshotFile);
-    if (dedicatedStep) {
-      passStep(step);
-      stopStep();
+    finally {
+      Metrics.stop(METRIC_SCREENSHOT, null, start);
     }
   }
 
@@ -414,62 +425,17 @@ public final class GaleniumReportUtil {
     });
   }
 
-  private static void addAttachment(String name, String type, FileInputStream inputStream, String extension, boolean attachToTestCase) {
-    if (attachToTestCase) {
-      attachToTestCase(name, type, inputStream, extension);
-      return;
-    }
-    attachToCurrentStep(name, type, inputStream, extension);
-  }
-
   private static void attachScreenshotFile(File screenshotFile) {
-    attachScreenshotFile(screenshotFile.getName(), screenshotFile);
-  }
-
-  private static void attachScreenshotFile(String resultName, File screenshotFile) {
-    if (screenshotFile != null) {
-      if (LOG.isTraceEnabled()) {
-        LOG.trace("screenshot taken: " + screenshotFile.getPath());
-      }
-      try {
-        String destFilename = System.currentTimeMillis() + "_" + resultName + ".png";
-        File destFile = new File(PATH_SCREENSHOTS_ROOT, destFilename);
-        FileUtils.copyFile(screenshotFile, destFile);
-        if (LOG.isTraceEnabled()) {
-          LOG.trace("copied screenshot: " + destFile.getPath());
-        }
-        addPngAttachment("Screenshot: " + resultName, destFile);
-        if (FileUtils.deleteQuietly(screenshotFile)) {
-          if (LOG.isTraceEnabled()) {
-            LOG.trace("deleted screenshot file: " + screenshotFile.getPath());
-          }
-        }
-        else if (LOG.isTraceEnabled()) {
-          LOG.trace("could not delete screenshot file: " + screenshotFile.getPath());
-        }
-      }
-      catch (IOException ex) {
-        LOG.error("Cannot copy screenshot.", ex);
+    if (screenshotFile == null) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("screenshot file is null.");
       }
+      return;
     }
-    else if (LOG.isDebugEnabled()) {
-      LOG.debug("screenshot file is null.");
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("screenshot taken: " + screenshotFile.getPath());
     }
-  }
-
-  private static void attachToCurrentStep(String name, String type, FileInputStream inputStream, String extension) {
-    Allure.addAttachment(name, type, inputStream, extension);
-  }
-
-  @SuppressWarnings("deprecation")
-  private static void attachToTestCase(String name, String type, FileInputStream inputStream, String extension) {
-    AllureLifecycle lifecycle = Allure.getLifecycle();
-    String source = lifecycle.prepareAttachment(name, type, extension);
-    lifecycle.writeAttachment(source, inputStream);
-    Attachment attachment = new Attachment();
-    attachment.setName(name);
-    attachment.setSource(source);
-    lifecycle.updateTestCase(result -> result.getAttachments().add(attachment));
+    ScreenshotWriter.attach("Screenshot: " + screenshotFile.getName(), screenshotFile);
   }
 
   private static TakesScreenshot getTakesScreenshot() {
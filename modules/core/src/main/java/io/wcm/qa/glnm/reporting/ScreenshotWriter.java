@@ -0,0 +1,176 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.reporting;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.CharSequenceInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.wcm.qa.glnm.configuration.GaleniumConfiguration;
+
+/**
+ * Writes screenshots to Allure results using {@link AttachmentWriter}. Base64 payloads from the driver are decoded
+ * while streaming into the attachment, so each screenshot is written exactly once.
+ *
+ * <p>
+ * With {@link GaleniumConfiguration#isRecompressScreenshots()} the writer thread drops the alpha channel and deflates
+ * with best compression before writing. PNG writers offering explicit compression (Java 9 and later) are asked for
+ * quality 0, the PNG writer of Java 8 always deflates with best compression.
+ * </p>
+ *
+ * @since 5.0.0
+ */
+final class ScreenshotWriter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ScreenshotWriter.class);
+
+  private static final String EXTENSION_PNG = ".png";
+  private static final String FORMAT_PNG = "png";
+  private static final String TYPE_PNG = "image/png";
+
+  private ScreenshotWriter() {
+    // do not instantiate
+  }
+
+  /**
+   * Attaches base64 encoded PNG to current step.
+   *
+   * @param name of attachment
+   * @param base64Png screenshot as returned by driver
+   */
+  static void attach(String name, String base64Png) {
+    attach(name, () -> Base64.getMimeDecoder().wrap(new CharSequenceInputStream(base64Png, StandardCharsets.US_ASCII)));
+  }
+
+  /**
+   * Attaches PNG file to current step and deletes it once written.
+   *
+   * @param name of attachment
+   * @param png temporary screenshot file
+   */
+  static void attach(String name, File png) {
+    attach(name, () -> new TemporaryFileInputStream(png));
+  }
+
+  private static void attach(String name, AttachmentSource screenshot) {
+    AttachmentSource content = screenshot;
+    if (GaleniumConfiguration.isRecompressScreenshots()) {
+      content = () -> recompressed(screenshot);
+    }
+    AttachmentWriter.write(name, TYPE_PNG, EXTENSION_PNG, content);
+  }
+
+  private static byte[] recompress(byte[] png) throws IOException {
+    BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+    if (image == null) {
+      throw new IOException("could not decode screenshot.");
+    }
+    BufferedImage opaque = image;
+    if (image.getColorModel().hasAlpha()) {
+      opaque = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+      Graphics2D graphics = opaque.createGraphics();
+      graphics.drawImage(image, 0, 0, null);
+      graphics.dispose();
+    }
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    writeBestCompression(opaque, outputStream);
+    return outputStream.toByteArray();
+  }
+
+  private static InputStream recompressed(AttachmentSource screenshot) throws IOException {
+    byte[] original;
+    try (InputStream inputStream = screenshot.open()) {
+      original = IOUtils.toByteArray(inputStream);
+    }
+    try {
+      byte[] recompressed = recompress(original);
+      if (recompressed.length < original.length) {
+        return new ByteArrayInputStream(recompressed);
+      }
+    }
+    catch (IOException | RuntimeException ex) {
+      LOG.warn("could not recompress screenshot, writing original.", ex);
+    }
+    return new ByteArrayInputStream(original);
+  }
+
+  private static void writeBestCompression(BufferedImage image, ByteArrayOutputStream outputStream) throws IOException {
+    Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(FORMAT_PNG);
+    if (!writers.hasNext()) {
+      throw new IOException("no PNG writer available.");
+    }
+    ImageWriter writer = writers.next();
+    try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      if (param.canWriteCompressed()) {
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        if (param.getCompressionType() == null) {
+          param.setCompressionType(param.getCompressionTypes()[0]);
+        }
+        // lowest quality means strongest deflate level, PNG stays lossless
+        param.setCompressionQuality(0f);
+      }
+      writer.setOutput(imageOutputStream);
+      writer.write(null, new IIOImage(image, null, null), param);
+    }
+    finally {
+      writer.dispose();
+    }
+  }
+
+  private static final class TemporaryFileInputStream extends FileInputStream {
+
+    private final File file;
+
+    TemporaryFileInputStream(File file) throws IOException {
+      super(file);
+      this.file = file;
+    }
+
+    @Override
+    public void close() throws IOException {
+      super.close();
+      if (!FileUtils.deleteQuietly(file) && LOG.isTraceEnabled()) {
+        LOG.trace("could not delete screenshot file: " + file.getPath());
+      }
+    }
+  }
+
+}
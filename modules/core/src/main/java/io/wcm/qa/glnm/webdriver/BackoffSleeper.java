@@ -0,0 +1,86 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.webdriver;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openqa.selenium.support.ui.Sleeper;
+
+import io.wcm.qa.glnm.configuration.GaleniumConfiguration;
+
+/**
+ * Sleeper for waits starting with short intervals and doubling them after each poll up to a maximum. Each interval is
+ * randomly varied by the jitter, so parallel waits do not poll in lockstep. The interval passed by the wait is
+ * ignored.
+ *
+ * <p>
+ * Instances keep track of the number of polls and should only be used for a single wait.
+ * </p>
+ *
+ * @since 5.0.0
+ */
+public final class BackoffSleeper implements Sleeper {
+
+  private final int jitterPercent;
+  private final long maxIntervalInMillis;
+  private long nextIntervalInMillis;
+
+  /**
+   * @param initialIntervalInMillis interval before first retry
+   * @param maxIntervalInMillis upper bound for interval
+   * @param jitterPercent maximal random deviation in percent of interval
+   * @since 5.0.0
+   */
+  public BackoffSleeper(long initialIntervalInMillis, long maxIntervalInMillis, int jitterPercent) {
+    this.nextIntervalInMillis = Math.max(1, initialIntervalInMillis);
+    this.maxIntervalInMillis = Math.max(nextIntervalInMillis, maxIntervalInMillis);
+    this.jitterPercent = Math.max(0, Math.min(100, jitterPercent));
+  }
+
+  @Override
+  public void sleep(Duration ignored) throws InterruptedException {
+    Thread.sleep(nextInterval());
+  }
+
+  long nextInterval() {
+    long interval = nextIntervalInMillis;
+    nextIntervalInMillis = Math.min(maxIntervalInMillis, nextIntervalInMillis * 2);
+    if (jitterPercent == 0) {
+      return interval;
+    }
+    long jitter = interval * jitterPercent / 100;
+    return interval + ThreadLocalRandom.current().nextLong(-jitter, jitter + 1);
+  }
+
+  /**
+   * Sleeper using intervals and jitter from {@link GaleniumConfiguration}.
+   *
+   * @return new sleeper for a single wait
+   * @since 5.0.0
+   */
+  public static BackoffSleeper fromConfiguration() {
+    return new BackoffSleeper(
+        GaleniumConfiguration.getPollingInitialInterval(),
+        GaleniumConfiguration.getPollingMaxInterval(),
+        GaleniumConfiguration.getPollingJitter());
+  }
+
+}
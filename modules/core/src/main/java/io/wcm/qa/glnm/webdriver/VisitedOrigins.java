@@ -0,0 +1,98 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.webdriver;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Origins the current thread's driver navigated to. Drivers reused across tests need to clear cookies and storage for
+ * each of them, because WebDriver only gives access to those of the page currently loaded.
+ *
+ * @since 5.0.0
+ */
+public final class VisitedOrigins {
+
+  private static final ThreadLocal<Set<String>> ORIGINS = ThreadLocal.withInitial(LinkedHashSet::new);
+
+  private VisitedOrigins() {
+    // do not instantiate
+  }
+
+  /**
+   * @param url to extract origin from
+   * @return origin of HTTP(S) URL or null for other URLs
+   * @since 5.0.0
+   */
+  public static String originOf(String url) {
+    if (StringUtils.isBlank(url)) {
+      return null;
+    }
+    try {
+      URI uri = new URI(url);
+      String scheme = uri.getScheme();
+      if (!StringUtils.equalsAnyIgnoreCase(scheme, "http", "https") || uri.getHost() == null) {
+        return null;
+      }
+      StringBuilder origin = new StringBuilder()
+          .append(scheme.toLowerCase())
+          .append("://")
+          .append(uri.getHost().toLowerCase());
+      if (uri.getPort() != -1) {
+        origin.append(':').append(uri.getPort());
+      }
+      return origin.toString();
+    }
+    catch (URISyntaxException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Records origin of URL the current thread's driver navigated to.
+   *
+   * @param url navigated to
+   * @since 5.0.0
+   */
+  public static void record(String url) {
+    String origin = originOf(url);
+    if (origin != null) {
+      ORIGINS.get().add(origin);
+    }
+  }
+
+  /**
+   * Returns and forgets origins recorded in current thread.
+   *
+   * @return origins in order of first visit
+   * @since 5.0.0
+   */
+  public static Set<String> take() {
+    Set<String> origins = ORIGINS.get();
+    ORIGINS.remove();
+    return Collections.unmodifiableSet(origins);
+  }
+
+}
@@ -19,6 +19,7 @@
  */
 package io.wcm.qa.glnm.webdriver;
 
+import java.time.Clock;
 import java.util.concurrent.TimeUnit;
 
 import org.openqa.selenium.WebDriver;
@@ -56,12 +57,24 @@ public final class WebDriverManagement {
    * <p>
    * Get a {@link org.openqa.selenium.support.ui.WebDriverWait} for the current driver..
    * </p>
+   * <p>
+   * Polls with exponential backoff when {@link GaleniumConfiguration#isAdaptivePolling()} is set.
+   * </p>
    *
    * @param timeOutInSeconds how many seconds to wait until giving up
    * @return a {@link org.openqa.selenium.support.ui.WebDriverWait} configured with custom timeouts
    * @since 4.0.0
    */
   public static WebDriverWait getWait(int timeOutInSeconds) {
+    if (GaleniumConfiguration.isAdaptivePolling()) {
+      WebDriver driver = GaleniumContext.getDriver();
+      return new WebDriverWait(
+          driver,
+          Clock.systemDefaultZone(),
+          BackoffSleeper.fromConfiguration(),
+          timeOutInSeconds,
+          GaleniumConfiguration.getPollingInitialInterval());
+    }
     return getWait(timeOutInSeconds, getPollingIntervalForTimeout(timeOutInSeconds));
   }
 
@@ -0,0 +1,167 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.junit.combinatorial;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.provider.Arguments;
+
+import com.google.common.collect.Lists;
+
+class LazyCartesianProductTest {
+
+  @Test
+  void testEmptyInput() {
+    List<Iterable<Combinable>> inputs = Lists.newArrayList(input("A", "B"), Collections.<Combinable>emptyList());
+    assertThat(names(inputs), empty());
+  }
+
+  @Test
+  void testInputsAreNotRestartedAfterLastCombination() {
+    AtomicInteger outerCalls = new AtomicInteger();
+    AtomicInteger innerCalls = new AtomicInteger();
+    List<Iterable<Combinable>> inputs = Lists.newArrayList(once(outerCalls, "A", "B"), twice(innerCalls, "1", "2"));
+    assertThat(names(inputs), contains("A1", "A2", "B1", "B2"));
+    assertThat(outerCalls.get(), is(1));
+    assertThat(innerCalls.get(), is(2));
+  }
+
+  @Test
+  void testInputEmptyOnRestartEndsProduct() {
+    AtomicInteger calls = new AtomicInteger();
+    List<Iterable<Combinable>> inputs = Lists.newArrayList(input("A", "B"), once(calls, "1", "2"));
+    assertThat(names(inputs), contains("A1", "A2"));
+  }
+
+  @Test
+  void testInputStreamsAreClosedWhenExhausted() {
+    AtomicInteger opened = new AtomicInteger();
+    AtomicInteger closed = new AtomicInteger();
+    List<Iterable<Combinable>> inputs = Lists.newArrayList(
+        closeable(opened, closed, "A", "B"),
+        closeable(opened, closed, "1", "2"));
+    assertThat(names(inputs), contains("A1", "A2", "B1", "B2"));
+    assertThat(opened.get(), is(3));
+    assertThat(closed.get(), is(3));
+  }
+
+  @Test
+  void testInputStreamsAreClosedWithProductStream() {
+    AtomicInteger opened = new AtomicInteger();
+    AtomicInteger closed = new AtomicInteger();
+    List<Iterable<Combinable>> inputs = Lists.newArrayList(
+        closeable(opened, closed, "A", "B"),
+        closeable(opened, closed, "1", "2"));
+    try (Stream<Combination> combinations = LazyCartesianProduct.stream(inputs)) {
+      assertThat(names(combinations.limit(1)), contains("A1"));
+    }
+    assertThat(opened.get(), is(2));
+    assertThat(closed.get(), is(2));
+  }
+
+  @Test
+  void testLastInputChangesFastest() {
+    List<Iterable<Combinable>> inputs = Lists.newArrayList(input("A", "B"), input("1", "2", "3"));
+    assertThat(names(inputs), contains("A1", "A2", "A3", "B1", "B2", "B3"));
+  }
+
+  @Test
+  void testReflectedInputsChangeOneAtATime() {
+    List<Iterable<Combinable>> inputs = Lists.newArrayList(list("A", "B"), list("1", "2", "3"));
+    List<String> names = names(LazyCartesianProduct.stream(inputs, new int[] { 0, 1 }, new boolean[] { true, true }));
+    assertThat(names, contains("A1", "A2", "A3", "B3", "B2", "B1"));
+  }
+
+  @Test
+  void testReorderedInputsKeepPositions() {
+    List<Iterable<Combinable>> inputs = Lists.newArrayList(list("1", "2", "3"), list("A", "B"));
+    List<String> names = names(LazyCartesianProduct.stream(inputs, new int[] { 1, 0 }, new boolean[] { false, true }));
+    assertThat(names, contains("A1", "B1", "B2", "A2", "A3", "B3"));
+  }
+
+  @Test
+  void testStartsNewIterationOfExhaustedInputs() {
+    List<Iterable<Combinable>> inputs = Lists.newArrayList(input("A", "B"), input("X"), input("1", "2"));
+    assertThat(names(inputs), contains("AX1", "AX2", "BX1", "BX2"));
+  }
+
+  private static Iterable<Combinable> closeable(AtomicInteger opened, AtomicInteger closed, String... values) {
+    return () -> {
+      opened.incrementAndGet();
+      return new StreamIterator<Combinable>(Stream.of(values)
+          .map(value -> (Combinable)new Combinable<Arguments>(Arguments.of(value)))
+          .onClose(closed::incrementAndGet));
+    };
+  }
+
+  private static Iterable<Combinable> input(String... values) {
+    return () -> Stream.of(values)
+        .map(value -> (Combinable)new Combinable<Arguments>(Arguments.of(value)))
+        .iterator();
+  }
+
+  private static Iterable<Combinable> once(AtomicInteger calls, String... values) {
+    return times(1, calls, values);
+  }
+
+  private static Iterable<Combinable> times(int maxCalls, AtomicInteger calls, String... values) {
+    return () -> {
+      if (calls.incrementAndGet() > maxCalls) {
+        return Collections.emptyIterator();
+      }
+      return input(values).iterator();
+    };
+  }
+
+  private static Iterable<Combinable> twice(AtomicInteger calls, String... values) {
+    return times(2, calls, values);
+  }
+
+  private static List<Combinable> list(String... values) {
+    return Lists.newArrayList(input(values));
+  }
+
+  private static List<String> names(List<Iterable<Combinable>> inputs) {
+    return names(LazyCartesianProduct.stream(inputs));
+  }
+
+  private static List<String> names(Stream<Combination> combinations) {
+    return combinations
+        .map(combination -> {
+          StringBuilder name = new StringBuilder();
+          for (Object argument : combination.arguments().get()) {
+            name.append(argument);
+          }
+          return name.toString();
+        })
+        .collect(toList());
+  }
+
+}
@@ -72,6 +72,17 @@ public class PairwiseProviderTest {
     assertThat(y, anyOf(is("X"), is("Y")));
   }
 
+  @Pairwise(strength = 3)
+  @CsvSource({ "A, B", "C, D", "A, D" })
+  @ValueSource(strings = { "X", "1" })
+  @MethodSource("checkParameters")
+  void checkParametersWithStrength(String a, String b, String x, String y) {
+    assertThat(a, anyOf(is("A"), is("C")));
+    assertThat(b, anyOf(is("B"), is("D")));
+    assertThat(x, anyOf(is("X"), is("1")));
+    assertThat(y, anyOf(is("X"), is("Y")));
+  }
+
   static Stream<Arguments> checkParameters() {
     return Lists.newArrayList("X", "Y").stream()
         .map(arg -> Arguments.of(arg));
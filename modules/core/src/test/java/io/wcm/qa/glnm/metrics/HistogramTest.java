@@ -0,0 +1,71 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.junit.jupiter.api.Test;
+
+class HistogramTest {
+
+  @Test
+  void testBucketsAreExactForSmallValues() {
+    for (long value = 0; value < 32; value++) {
+      assertThat(Histogram.highestEquivalentValue(Histogram.bucketIndex(value)), is(value));
+    }
+  }
+
+  @Test
+  void testBucketsKeepRelativePrecision() {
+    for (long value = 32; value < Histogram.MAX_VALUE; value = value * 3 / 2 + 7) {
+      long equivalent = Histogram.highestEquivalentValue(Histogram.bucketIndex(value));
+      assertThat(equivalent, allOf(greaterThanOrEqualTo(value), lessThanOrEqualTo(value + value / 32)));
+    }
+  }
+
+  @Test
+  void testEmpty() {
+    Histogram histogram = new Histogram();
+    assertThat(histogram.getCount(), is(0L));
+    assertThat(histogram.getMin(), is(0L));
+    assertThat(histogram.getMax(), is(0L));
+    assertThat(histogram.getValueAtPercentile(99), is(0L));
+  }
+
+  @Test
+  void testPercentiles() {
+    Histogram histogram = new Histogram();
+    for (long value = 1; value <= 1000; value++) {
+      histogram.record(value * 1000);
+    }
+    assertThat(histogram.getCount(), is(1000L));
+    assertThat(histogram.getMin(), is(1000L));
+    assertThat(histogram.getMax(), is(1000000L));
+    assertThat(histogram.getMean(), is(500500d));
+    assertThat(histogram.getValueAtPercentile(50), allOf(greaterThanOrEqualTo(500000L), lessThanOrEqualTo(516000L)));
+    assertThat(histogram.getValueAtPercentile(99), allOf(greaterThanOrEqualTo(990000L), lessThanOrEqualTo(1000000L)));
+    assertThat(histogram.getValueAtPercentile(100), is(1000000L));
+  }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+class TimingBreakdownTest {
+
+  @Test
+  void testNestedTimersAreSubtracted() {
+    TimingBreakdown breakdown = new TimingBreakdown();
+    breakdown.enter(0);
+    breakdown.enter(10);
+    breakdown.exit("element.find", 10, 40);
+    breakdown.enter(50);
+    breakdown.exit("element.find", 50, 60);
+    breakdown.exit("sampling.fresh", 0, 100);
+    assertThat(breakdown.getSelfNanos().size(), is(2));
+    assertThat(breakdown.getSelfNanos(), hasEntry("sampling.fresh", 60L));
+    assertThat(breakdown.getSelfNanos(), hasEntry("sampling.fresh;element.find", 40L));
+    assertThat(breakdown.getTrackedNanos(), is(100L));
+  }
+
+  @Test
+  void testTimerStartedBeforeBreakdownIsIgnored() {
+    TimingBreakdown breakdown = new TimingBreakdown();
+    breakdown.exit("galen.check", 0, 100);
+    assertThat(breakdown.isEmpty(), is(true));
+  }
+
+  @Test
+  void testUnclosedTimerCountsAsSelfTimeOfParent() {
+    TimingBreakdown breakdown = new TimingBreakdown();
+    breakdown.enter(0);
+    breakdown.enter(10);
+    breakdown.exit("browser.navigation", 0, 100);
+    assertThat(breakdown.getSelfNanos().size(), is(1));
+    assertThat(breakdown.getSelfNanos(), hasEntry("browser.navigation", 100L));
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.pairwise;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class CoveringArrayTest {
+
+  @Test
+  void testLargeDomains() {
+    int[] sizes = { 20, 20, 20, 20, 20, 20, 20, 20, 20, 20, 15, 15 };
+    int[][] tupels = CoveringArray.generate(2, sizes);
+    assertThat(coversAll(tupels, 2, sizes), is(true));
+    assertThat(tupels.length, lessThanOrEqualTo(700));
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideTupelCounts")
+  void testTupelCount(int size, int strength, int... domainSizes) {
+    int[][] tupels = CoveringArray.generate(strength, domainSizes);
+    assertThat(tupels, arrayWithSize(size));
+    assertThat(coversAll(tupels, strength, domainSizes), is(true));
+  }
+
+  private static boolean coversAll(int[][] tupels, int strength, int[] sizes) {
+    return coversAll(tupels, Math.min(strength, sizes.length), sizes, new int[0]);
+  }
+
+  private static boolean coversAll(int[][] tupels, int strength, int[] sizes, int[] domains) {
+    if (domains.length == strength) {
+      Set<List<Integer>> covered = new HashSet<List<Integer>>();
+      int combinationCount = 1;
+      for (int domain : domains) {
+        combinationCount *= sizes[domain];
+      }
+      for (int[] tupel : tupels) {
+        List<Integer> combination = new ArrayList<Integer>();
+        for (int domain : domains) {
+          combination.add(tupel[domain]);
+        }
+        covered.add(combination);
+      }
+      return covered.size() == combinationCount;
+    }
+    int first = domains.length == 0 ? 0 : domains[domains.length - 1] + 1;
+    for (int next = first; next < sizes.length; next++) {
+      int[] extended = Arrays.copyOf(domains, domains.length + 1);
+      extended[domains.length] = next;
+      if (!coversAll(tupels, strength, sizes, extended)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Stream<Arguments> provideTupelCounts() {
+    return Stream.of(
+        Arguments.of(1, 2, new int[] { 1, 1 }),
+        Arguments.of(1, 2, new int[] { 1, 1, 1 }),
+        Arguments.of(4, 2, new int[] { 2, 2 }),
+        Arguments.of(25, 2, new int[] { 5, 5 }),
+        Arguments.of(25, 2, new int[] { 5, 5, 2 }),
+        Arguments.of(25, 2, new int[] { 3, 5, 5 }),
+        Arguments.of(25, 2, new int[] { 5, 3, 5 }),
+        Arguments.of(20, 2, new int[] { 10, 2, 2 }),
+        Arguments.of(60, 2, new int[] { 10, 3, 6 }),
+        Arguments.of(10, 2, new int[] { 10, 1 }),
+        Arguments.of(10, 2, new int[] { 3, 3, 3, 3 }),
+        Arguments.of(16, 2, new int[] { 4, 4, 4, 4, 4 }),
+        Arguments.of(5, 1, new int[] { 5, 4, 3, 2, 2 }),
+        Arguments.of(75, 3, new int[] { 3, 5, 5 }),
+        Arguments.of(32, 3, new int[] { 3, 3, 3, 3 }),
+        Arguments.of(20, 3, new int[] { 2, 2, 2, 2, 2, 2, 2, 2, 2, 2 }),
+        Arguments.of(64, 3, new int[] { 5, 4, 3, 2, 2 }),
+        Arguments.of(81, 4, new int[] { 3, 3, 3, 3 }),
+        Arguments.of(4, 3, new int[] { 2, 2 }));
+  }
+
+}
@@ -20,9 +20,12 @@
 package io.wcm.qa.glnm.pairwise;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
-import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -33,90 +36,65 @@ import org.junit.jupiter.params.provider.MethodSource;
 class PairwiseDefinitionTest {
 
   @Test
-  void testMinimalRequirements() {
-    TupelDefinition simpleDef = tupelDef(1, 1);
-    Collection<Requirement> reqs = PairwiseDefinition.generateRequirements(simpleDef);
-    assertThat(reqs, hasSize(1));
+  void testMinimalTupel() {
+    assertThat(PairwiseDefinition.getTupelsFor(1, 1), arrayWithSize(1));
   }
 
   @Test
-  void testMinimalTupel() {
-    TupelDefinition simpleDef = tupelDef(1, 1);
-    Collection<Tupel> tupelsFor = PairwiseDefinition.getTupelsFor(simpleDef);
-    assertThat(tupelsFor, hasSize(1));
+  void testNeedsAtLeastTwoDomains() {
+    assertThrows(IllegalArgumentException.class, () -> PairwiseDefinition.getTupelsFor(5));
   }
 
-  @ParameterizedTest
-  @MethodSource("provideRequirementCounts")
-  void testRequirementsCount(int size, DomainDefinition... domainDefinitions) {
-    TupelDefinition def = tupelDef(domainDefinitions);
-    Collection<Requirement> generatedRequirements = PairwiseDefinition.generateRequirements(def);
-    assertThat(generatedRequirements, hasSize(size));
+  @Test
+  void testNeedsPositiveDomainSizes() {
+    assertThrows(IllegalArgumentException.class, () -> PairwiseDefinition.getTupelsFor(2, 0));
+  }
+
+  @Test
+  void testStrengthCanBeRaised() {
+    assertThat(PairwiseDefinition.getTupelsWithStrength(3, 3, 5, 5), arrayWithSize(75));
   }
 
   @ParameterizedTest
   @MethodSource("provideTupelCounts")
-  void testTupelCount(int size, TupelDefinition def) {
-    Collection<Tupel> tupelsFor = PairwiseDefinition.getTupelsFor(def);
-    assertThat(tupelsFor, hasSize(size));
+  void testTupelCount(int size, Integer... domainSizes) {
+    int[][] tupels = PairwiseDefinition.getTupelsFor(domainSizes);
+    assertThat(tupels, arrayWithSize(size));
+    assertThat(coversAllPairs(tupels, domainSizes), is(true));
   }
 
-  private static DomainDefinition[] domains(int... domainSizes) {
-    DomainDefinition[] domains = new DomainDefinition[domainSizes.length];
-    for (int i = 0; i < domainSizes.length; i++) {
-      int size = domainSizes[i];
-      domains[i] = new DomainDefinition("D" + i, size);
+  private static boolean coversAllPairs(int[][] tupels, Integer... sizes) {
+    for (int a = 0; a < sizes.length - 1; a++) {
+      for (int b = a + 1; b < sizes.length; b++) {
+        Set<String> pairs = new HashSet<String>();
+        for (int[] tupel : tupels) {
+          pairs.add(tupel[a] + ":" + tupel[b]);
+        }
+        if (pairs.size() != sizes[a] * sizes[b]) {
+          return false;
+        }
+      }
     }
-    return domains;
-  }
-
-  private static Stream<Arguments> provideRequirementCounts() {
-    return Stream.of(
-        requirementsCount(1, domains(1, 1)),
-        requirementsCount(2, domains(2, 1)),
-        requirementsCount(2, domains(1, 2)),
-        requirementsCount(5, domains(2, 1, 1)),
-        requirementsCount(5, domains(1, 2, 1)),
-        requirementsCount(5, domains(1, 1, 2)),
-        requirementsCount(11, domains(1, 2, 3)),
-        requirementsCount(11, domains(1, 3, 2)),
-        requirementsCount(11, domains(2, 1, 3)),
-        requirementsCount(11, domains(2, 3, 1)),
-        requirementsCount(11, domains(3, 1, 2)),
-        requirementsCount(11, domains(3, 2, 1)),
-        requirementsCount(25, domains(5, 5)),
-        requirementsCount(870, domains(1, 2, 3, 4, 5, 6, 7, 8, 9)),
-        requirementsCount(108, domains(10, 3, 6)));
+    return true;
   }
 
   private static Stream<Arguments> provideTupelCounts() {
     return Stream.of(
-        Arguments.of(1, tupelDef(1, 1)),
-        Arguments.of(1, tupelDef(1, 1, 1)),
-        Arguments.of(4, tupelDef(2, 2)),
-        Arguments.of(25, tupelDef(5, 5)),
-        Arguments.of(27, tupelDef(5, 5, 2)),
-        Arguments.of(31, tupelDef(5, 5, 3)),
-        Arguments.of(35, tupelDef(3, 5, 5)),
-        Arguments.of(31, tupelDef(5, 3, 5)),
-        Arguments.of(37, tupelDef(5, 5, 4)),
-        Arguments.of(45, tupelDef(5, 5, 5)),
-        Arguments.of(50, tupelDef(5, 5, 6)),
-        Arguments.of(22, tupelDef(10, 2, 2)),
-        Arguments.of(66, tupelDef(10, 3, 6)),
-        Arguments.of(10, tupelDef(10, 1))
-        );
+        tupelCount(1, 1, 1),
+        tupelCount(1, 1, 1, 1),
+        tupelCount(4, 2, 2),
+        tupelCount(25, 5, 5),
+        tupelCount(25, 5, 5, 2),
+        tupelCount(25, 3, 5, 5),
+        tupelCount(25, 5, 3, 5),
+        tupelCount(20, 10, 2, 2),
+        tupelCount(60, 10, 3, 6),
+        tupelCount(10, 10, 1),
+        tupelCount(10, 3, 3, 3, 3));
   }
 
-  private static Arguments requirementsCount(int count, DomainDefinition[] domains) {
-    return Arguments.of(count, domains);
+  private static Arguments tupelCount(int count, Integer... domainSizes) {
+    return Arguments.of(count, domainSizes);
   }
 
-  private static TupelDefinition tupelDef(DomainDefinition[] domains) {
-    return new TupelDefinition(domains);
-  }
-
-  private static TupelDefinition tupelDef(int... domains) {
-    return tupelDef(domains(domains));
-  }
 }
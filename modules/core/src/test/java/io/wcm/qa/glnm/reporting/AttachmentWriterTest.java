@@ -0,0 +1,177 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.reporting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+
+class AttachmentWriterTest {
+
+  private static final long SLOW_WRITE_MILLIS = 300;
+
+  private AllureLifecycle previousLifecycle;
+  private RecordingWriter writer;
+  private String uuid;
+
+  @BeforeEach
+  void setUp() {
+    previousLifecycle = Allure.getLifecycle();
+    writer = new RecordingWriter();
+    AllureLifecycle lifecycle = new AllureLifecycle(writer);
+    Allure.setLifecycle(lifecycle);
+    uuid = UUID.randomUUID().toString();
+    lifecycle.scheduleTestCase(new TestResult().setUuid(uuid).setName("attachment-writer-test"));
+    lifecycle.startTestCase(uuid);
+  }
+
+  @AfterEach
+  void tearDown() {
+    AllureLifecycle lifecycle = Allure.getLifecycle();
+    lifecycle.stopTestCase(uuid);
+    lifecycle.writeTestCase(uuid);
+    Allure.setLifecycle(previousLifecycle);
+  }
+
+  @Test
+  void testFlushWaitsForAttachmentsFromOtherThreads() throws InterruptedException {
+    String[] source = new String[1];
+    // new thread inherits current test case from Allure's thread context
+    Thread scheduling = new Thread(() -> source[0] = AttachmentWriter.write("slow", "text/plain", ".txt", () -> slow("content")));
+    scheduling.start();
+    scheduling.join();
+
+    AttachmentWriter.flush(uuid);
+
+    assertThat(writer.attachments, hasKey(source[0]));
+    assertThat(writer.attachments.get(source[0]), is("content"));
+  }
+
+  @Test
+  void testFlushWaitsAfterFailedAttachment() {
+    AttachmentWriter.write("failing", "text/plain", ".txt", () -> {
+      throw new IOException("cannot read");
+    });
+    String source = AttachmentWriter.write("slow", "text/plain", ".txt", () -> slow("after failure"));
+
+    AttachmentWriter.flush(uuid);
+
+    assertThat(writer.attachments.get(source), is("after failure"));
+  }
+
+  @Test
+  void testFailedAttachmentMarksStepBroken() {
+    AllureLifecycle lifecycle = Allure.getLifecycle();
+    String stepUuid = UUID.randomUUID().toString();
+    lifecycle.startStep(stepUuid, new StepResult().setName("step with attachment").setStatus(Status.PASSED));
+    AttachmentWriter.write("failing", "text/plain", ".txt", () -> {
+      throw new IOException("cannot read");
+    });
+    lifecycle.stopStep(stepUuid);
+
+    AttachmentWriter.flush(uuid);
+
+    AtomicReference<TestResult> result = new AtomicReference<>();
+    lifecycle.updateTestCase(uuid, result::set);
+    assertThat(result.get().getSteps().get(0).getStatus(), is(Status.BROKEN));
+  }
+
+  @Test
+  void testFailedTestCaseAttachmentMarksTestCaseBroken() {
+    AttachmentWriter.write("failing", "text/plain", ".txt", () -> {
+      throw new IOException("cannot read");
+    }, true);
+
+    AttachmentWriter.flush(uuid);
+
+    AtomicReference<TestResult> result = new AtomicReference<>();
+    Allure.getLifecycle().updateTestCase(uuid, result::set);
+    assertThat(result.get().getStatus(), is(Status.BROKEN));
+  }
+
+  @Test
+  void testGlobalFlushWaitsForAllTestCases() {
+    String source = AttachmentWriter.write("slow", "text/plain", ".txt", () -> slow("global"));
+
+    AttachmentWriter.flush();
+
+    assertThat(writer.attachments.get(source), is("global"));
+  }
+
+  private static InputStream slow(String content) throws IOException {
+    try {
+      Thread.sleep(SLOW_WRITE_MILLIS);
+    }
+    catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException("interrupted", ex);
+    }
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static final class RecordingWriter implements AllureResultsWriter {
+
+    private final Map<String, String> attachments = new ConcurrentHashMap<>();
+
+    @Override
+    public void write(TestResult testResult) {
+      // not recorded
+    }
+
+    @Override
+    public void write(TestResultContainer testResultContainer) {
+      // not recorded
+    }
+
+    @Override
+    public void write(String source, InputStream attachment) {
+      try {
+        attachments.put(source, IOUtils.toString(attachment, StandardCharsets.UTF_8));
+      }
+      catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+  }
+
+}
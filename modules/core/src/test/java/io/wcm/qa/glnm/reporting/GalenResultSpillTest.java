@@ -0,0 +1,149 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.reporting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.galenframework.reports.GalenTestInfo;
+
+class GalenResultSpillTest {
+
+  @TempDir
+  File reportFolder;
+
+  private File indexFile;
+  private File partsFolder;
+
+  @BeforeEach
+  void setUp() {
+    indexFile = new File(reportFolder, "index.html");
+    partsFolder = new File(reportFolder, "parts");
+  }
+
+  @Test
+  void testResultIsWrittenWhenAdded() {
+    GalenResultSpill spill = new GalenResultSpill(reportFolder.getPath());
+    spill.add(result("first"));
+    assertThat(partFolders(), arrayContaining("00001"));
+    assertThat(indexFile.exists(), is(false));
+  }
+
+  @Test
+  void testFlushListsAllResults() throws IOException {
+    GalenResultSpill spill = new GalenResultSpill(reportFolder.getPath());
+    spill.add(result("first"));
+    spill.add(result("second"));
+    spill.add(result("third"));
+    spill.flush();
+
+    assertThat(partFolders(), arrayContaining("00001", "00002", "00003"));
+    String index = readIndex();
+    assertThat(index, containsString("3 tests, 0 failed"));
+    assertThat(index, containsString("parts/00001/report.html"));
+    assertThat(index, containsString("parts/00003/report.html"));
+  }
+
+  @Test
+  void testFlushListsResultsOfAllThreads() throws InterruptedException, IOException {
+    GalenResultSpill spill = new GalenResultSpill(reportFolder.getPath());
+    spill.add(result("main thread"));
+    Thread other = new Thread(() -> spill.add(failedResult("other thread")));
+    other.start();
+    other.join();
+    spill.flush();
+
+    assertThat(partFolders(), arrayContaining("00001", "00002"));
+    String index = readIndex();
+    assertThat(index, containsString("2 tests, 1 failed"));
+    assertThat(index, containsString("main thread"));
+    assertThat(index, containsString("other thread"));
+  }
+
+  @Test
+  void testNamesAreEscaped() throws IOException {
+    GalenResultSpill spill = new GalenResultSpill(reportFolder.getPath());
+    spill.add(result("<b>bold</b>"));
+    spill.flush();
+    assertThat(readIndex(), not(containsString("<b>bold</b>")));
+  }
+
+  @Test
+  void testPreviousRunIsOnlyRemovedByClean() throws IOException {
+    GalenResultSpill previousRun = new GalenResultSpill(reportFolder.getPath());
+    previousRun.add(result("previous"));
+    previousRun.flush();
+
+    GalenResultSpill spill = new GalenResultSpill(reportFolder.getPath());
+    assertThat(partFolders(), arrayContaining("00001"));
+    assertThat(indexFile.exists(), is(true));
+
+    spill.clean();
+    assertThat(partsFolder.exists(), is(false));
+    assertThat(indexFile.exists(), is(false));
+  }
+
+  @Test
+  void testResultWithoutEndIsWritten() throws IOException {
+    GalenTestInfo result = GalenTestInfo.fromString("not ended");
+    result.setEndedAt(null);
+    GalenResultSpill spill = new GalenResultSpill(reportFolder.getPath());
+    spill.add(result);
+    spill.flush();
+    assertThat(readIndex(), containsString("1 tests, 0 failed"));
+  }
+
+  private String[] partFolders() {
+    String[] names = partsFolder.list((dir, name) -> new File(dir, name).isDirectory());
+    if (names == null) {
+      return new String[0];
+    }
+    Arrays.sort(names);
+    return names;
+  }
+
+  private String readIndex() throws IOException {
+    return FileUtils.readFileToString(indexFile, StandardCharsets.UTF_8);
+  }
+
+  private static GalenTestInfo failedResult(String name) {
+    GalenTestInfo result = result(name);
+    result.setException(new AssertionError("failed on purpose"));
+    return result;
+  }
+
+  private static GalenTestInfo result(String name) {
+    return GalenTestInfo.fromString(name);
+  }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.webdriver;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class BackoffSleeperTest {
+
+  @Test
+  void testBackoffUpToMax() {
+    BackoffSleeper sleeper = new BackoffSleeper(25, 150, 0);
+    List<Long> intervals = new ArrayList<Long>();
+    for (int i = 0; i < 5; i++) {
+      intervals.add(sleeper.nextInterval());
+    }
+    assertThat(intervals, contains(25L, 50L, 100L, 150L, 150L));
+  }
+
+  @Test
+  void testJitterStaysInBounds() {
+    BackoffSleeper sleeper = new BackoffSleeper(100, 100, 20);
+    for (int i = 0; i < 100; i++) {
+      assertThat(sleeper.nextInterval(), allOf(greaterThanOrEqualTo(80L), lessThanOrEqualTo(120L)));
+    }
+  }
+
+}
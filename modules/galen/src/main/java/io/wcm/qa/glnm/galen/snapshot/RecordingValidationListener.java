@@ -0,0 +1,137 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.galen.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.galenframework.specs.Spec;
+import com.galenframework.specs.page.PageSection;
+import com.galenframework.suite.GalenPageAction;
+import com.galenframework.validation.PageValidation;
+import com.galenframework.validation.ValidationListener;
+import com.galenframework.validation.ValidationResult;
+
+/**
+ * Records validation events on a worker thread to replay them later on the test thread. Reporting listeners keep their
+ * step state per thread and cannot be called from validation threads directly.
+ *
+ * @since 5.0.0
+ */
+final class RecordingValidationListener implements ValidationListener {
+
+  private final List<Consumer<ValidationListener>> events = new ArrayList<>();
+
+  /** {@inheritDoc} */
+  @Override
+  public void onAfterObject(PageValidation pageValidation, String objectName) {
+    events.add(listener -> listener.onAfterObject(pageValidation, objectName));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onAfterPageAction(GalenPageAction action) {
+    events.add(listener -> listener.onAfterPageAction(action));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onAfterSection(PageValidation pageValidation, PageSection pageSection) {
+    events.add(listener -> listener.onAfterSection(pageValidation, pageSection));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onAfterSpecGroup(PageValidation pageValidation, String specGroupName) {
+    events.add(listener -> listener.onAfterSpecGroup(pageValidation, specGroupName));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onAfterSubLayout(PageValidation pageValidation, String objectName) {
+    events.add(listener -> listener.onAfterSubLayout(pageValidation, objectName));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onBeforePageAction(GalenPageAction action) {
+    events.add(listener -> listener.onBeforePageAction(action));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onBeforeSection(PageValidation pageValidation, PageSection pageSection) {
+    events.add(listener -> listener.onBeforeSection(pageValidation, pageSection));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onBeforeSpec(PageValidation pageValidation, String objectName, Spec spec) {
+    events.add(listener -> listener.onBeforeSpec(pageValidation, objectName, spec));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onGlobalError(Exception e) {
+    events.add(listener -> listener.onGlobalError(e));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onObject(PageValidation pageValidation, String objectName) {
+    events.add(listener -> listener.onObject(pageValidation, objectName));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onSpecError(PageValidation pageValidation, String objectName, Spec spec, ValidationResult validationResult) {
+    events.add(listener -> listener.onSpecError(pageValidation, objectName, spec, validationResult));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onSpecGroup(PageValidation pageValidation, String specGroupName) {
+    events.add(listener -> listener.onSpecGroup(pageValidation, specGroupName));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onSpecSuccess(PageValidation pageValidation, String objectName, Spec spec, ValidationResult validationResult) {
+    events.add(listener -> listener.onSpecSuccess(pageValidation, objectName, spec, validationResult));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onSubLayout(PageValidation pageValidation, String objectName) {
+    events.add(listener -> listener.onSubLayout(pageValidation, objectName));
+  }
+
+  /**
+   * Replays all recorded events in order.
+   * @param listener to replay events to
+   */
+  void replay(ValidationListener listener) {
+    for (Consumer<ValidationListener> event : events) {
+      event.accept(listener);
+    }
+  }
+
+}
@@ -0,0 +1,352 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.galen.snapshot;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.imageio.ImageIO;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.galenframework.page.Page;
+import com.galenframework.page.PageElement;
+import com.galenframework.page.Rect;
+import com.galenframework.specs.page.CorrectionsRect;
+import com.galenframework.specs.page.Locator;
+
+import io.wcm.qa.glnm.exceptions.GaleniumException;
+
+/**
+ * Immutable {@link com.galenframework.page.Page} built from a single script call sampling geometry, visibility, text
+ * and CSS properties of all locators in a spec. Safe to be used by multiple validation threads at the same time. Only
+ * the screenshot is taken lazily from the live browser on first request.
+ *
+ * @since 5.0.0
+ */
+public final class SnapshotPage implements Page {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SnapshotPage.class);
+
+  private static final List<String> SUPPORTED_LOCATOR_TYPES = Arrays.asList("css", "id", "xpath");
+
+  private static final String SCRIPT = ""
+      + "var chains = arguments[0], props = arguments[1], objects = [];"
+      + "function all(type, value, ctx) {"
+      + "  if (type === 'id') { var e = document.getElementById(value); return e ? [e] : []; }"
+      + "  if (type === 'css') { return Array.prototype.slice.call(ctx.querySelectorAll(value)); }"
+      + "  var r = document.evaluate(value, ctx, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), l = [];"
+      + "  for (var k = 0; k < r.snapshotLength; k++) { l.push(r.snapshotItem(k)); }"
+      + "  return l;"
+      + "}"
+      + "function isVisible(el, r) {"
+      + "  if (r.width <= 0 || r.height <= 0 || window.getComputedStyle(el).visibility === 'hidden') { return false; }"
+      + "  for (var e = el; e && e.nodeType === 1; e = e.parentElement) {"
+      + "    var s = window.getComputedStyle(e);"
+      + "    if (s.display === 'none' || s.opacity === '0') { return false; }"
+      + "  }"
+      + "  return true;"
+      + "}"
+      + "for (var i = 0; i < chains.length; i++) {"
+      + "  var ctx = document, el = null, count = 0;"
+      + "  for (var j = 0; j < chains[i].length; j++) {"
+      + "    var step = chains[i][j], found = all(step[0], step[1], ctx), index = step[2] > 0 ? step[2] - 1 : 0;"
+      + "    count = found.length;"
+      + "    el = found.length > index ? found[index] : null;"
+      + "    if (!el) { break; }"
+      + "    ctx = el;"
+      + "  }"
+      + "  if (!el) { objects.push({count: count}); continue; }"
+      + "  var rect = el.getBoundingClientRect(), style = window.getComputedStyle(el), css = {};"
+      + "  for (var p = 0; p < props.length; p++) { css[props[p]] = style.getPropertyValue(props[p]); }"
+      + "  objects.push({"
+      + "    count: count,"
+      + "    area: [Math.round(rect.left + window.pageXOffset), Math.round(rect.top + window.pageYOffset),"
+      + "      Math.round(rect.width), Math.round(rect.height)],"
+      + "    visible: isVisible(el, rect),"
+      + "    text: (el.innerText || el.textContent || '').trim(),"
+      + "    css: css"
+      + "  });"
+      + "}"
+      + "var doc = document.documentElement;"
+      + "return {"
+      + "  objects: objects,"
+      + "  title: document.title,"
+      + "  screen: [0, 0, Math.max(doc.scrollWidth, document.body ? document.body.scrollWidth : 0),"
+      + "    Math.max(doc.scrollHeight, document.body ? document.body.scrollHeight : 0)],"
+      + "  viewport: [Math.round(window.pageXOffset), Math.round(window.pageYOffset), doc.clientWidth, doc.clientHeight]"
+      + "};";
+
+  private final WebDriver driver;
+  private final Map<String, SnapshotPageElement> elements;
+  private final Map<String, Integer> objectCounts;
+  private File screenshotFile;
+  private final Map<String, SnapshotPageElement> specialObjects;
+  private final String title;
+
+  private SnapshotPage(
+      WebDriver driver,
+      String title,
+      Map<String, SnapshotPageElement> elements,
+      Map<String, Integer> objectCounts,
+      Map<String, SnapshotPageElement> specialObjects) {
+    this.driver = driver;
+    this.title = title;
+    this.elements = elements;
+    this.objectCounts = objectCounts;
+    this.specialObjects = specialObjects;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Page createFrameContext(PageElement mainObject) {
+    throw new GaleniumException("frames are not supported in snapshot validation.");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Page createObjectContextPage(Locator mainObjectLocator) {
+    throw new GaleniumException("components are not supported in snapshot validation.");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public PageElement getObject(Locator objectLocator) {
+    SnapshotPageElement element = elements.get(getKey(objectLocator));
+    if (element == null) {
+      throw new GaleniumException("locator not part of snapshot: " + getKey(objectLocator));
+    }
+    return element;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public PageElement getObject(String objectName, Locator objectLocator) {
+    return getObject(objectLocator);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getObjectCount(Locator locator) {
+    Integer count = objectCounts.get(getKey(locator));
+    if (count == null) {
+      throw new GaleniumException("locator not part of snapshot: " + getKey(locator));
+    }
+    return count;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized File getScreenshotFile() {
+    if (screenshotFile == null) {
+      screenshotFile = ((TakesScreenshot)driver).getScreenshotAs(OutputType.FILE);
+    }
+    return screenshotFile;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public BufferedImage getScreenshotImage() {
+    try {
+      return ImageIO.read(getScreenshotFile());
+    }
+    catch (IOException ex) {
+      throw new GaleniumException("could not read snapshot screenshot.", ex);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public PageElement getSpecialObject(String objectName) {
+    return specialObjects.get(objectName);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getTitle() {
+    return title;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized void setScreenshot(File screenshotFile) {
+    this.screenshotFile = screenshotFile;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void switchToFrame(PageElement mainObject) {
+    throw new GaleniumException("frames are not supported in snapshot validation.");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void switchToParentFrame() {
+    throw new GaleniumException("frames are not supported in snapshot validation.");
+  }
+
+  /**
+   * Samples all locators and CSS properties in a single script call.
+   *
+   * @param driver to sample page from
+   * @param locators to sample
+   * @param cssProperties names of CSS properties to sample for each locator
+   * @return snapshot of page
+   * @since 5.0.0
+   */
+  @SuppressWarnings("unchecked")
+  public static SnapshotPage capture(WebDriver driver, Collection<Locator> locators, Collection<String> cssProperties) {
+    Map<String, Locator> uniqueLocators = new LinkedHashMap<>();
+    for (Locator locator : locators) {
+      uniqueLocators.put(getKey(locator), locator);
+    }
+    List<List<List<Object>>> chains = new ArrayList<>();
+    for (Locator locator : uniqueLocators.values()) {
+      chains.add(getChain(locator));
+    }
+    long start = System.currentTimeMillis();
+    Object rawResult = ((JavascriptExecutor)driver).executeScript(SCRIPT, chains, new ArrayList<>(cssProperties));
+    if (!(rawResult instanceof Map)) {
+      throw new GaleniumException("snapshot script did not return map: " + rawResult);
+    }
+    Map<String, Object> result = (Map<String, Object>)rawResult;
+    List<Object> objects = (List<Object>)result.get("objects");
+    if (objects == null || objects.size() != chains.size()) {
+      throw new GaleniumException("snapshot script did not return one result per locator.");
+    }
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("sampled " + objects.size() + " locators in " + (System.currentTimeMillis() - start) + "ms");
+    }
+
+    Map<String, SnapshotPageElement> elements = new HashMap<>();
+    Map<String, Integer> objectCounts = new HashMap<>();
+    int index = 0;
+    for (Entry<String, Locator> entry : uniqueLocators.entrySet()) {
+      Map<String, Object> sample = (Map<String, Object>)objects.get(index++);
+      objectCounts.put(entry.getKey(), asInt(sample.get("count")));
+      elements.put(entry.getKey(), toElement(sample, entry.getValue().getCorrections()));
+    }
+
+    Map<String, SnapshotPageElement> specialObjects = new HashMap<>();
+    specialObjects.put("screen", new SnapshotPageElement(asRect(result.get("screen")), true, true, null, null));
+    specialObjects.put("viewport", new SnapshotPageElement(asRect(result.get("viewport")), true, true, null, null));
+
+    return new SnapshotPage(driver, (String)result.get("title"), elements, objectCounts, specialObjects);
+  }
+
+  /**
+   * @param locator to check
+   * @return whether locator and all its parents can be sampled in snapshot
+   * @since 5.0.0
+   */
+  public static boolean isSupported(Locator locator) {
+    for (Locator current = locator; current != null; current = current.getParent()) {
+      if (!SUPPORTED_LOCATOR_TYPES.contains(current.getLocatorType())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int asInt(Object value) {
+    if (value instanceof Number) {
+      return ((Number)value).intValue();
+    }
+    return 0;
+  }
+
+  private static Rect asRect(Object value) {
+    if (value instanceof List) {
+      List<?> values = (List<?>)value;
+      if (values.size() == 4) {
+        return new Rect(asInt(values.get(0)), asInt(values.get(1)), asInt(values.get(2)), asInt(values.get(3)));
+      }
+    }
+    throw new GaleniumException("could not get rectangle from snapshot result: " + value);
+  }
+
+  private static Rect correct(Rect area, CorrectionsRect corrections) {
+    if (corrections == null) {
+      return area;
+    }
+    return new Rect(
+        corrections.getLeft().correct(area.getLeft()),
+        corrections.getTop().correct(area.getTop()),
+        corrections.getWidth().correct(area.getWidth()),
+        corrections.getHeight().correct(area.getHeight()));
+  }
+
+  private static List<List<Object>> getChain(Locator locator) {
+    List<List<Object>> chain = new ArrayList<>();
+    for (Locator current = locator; current != null; current = current.getParent()) {
+      chain.add(0, Arrays.asList(current.getLocatorType(), current.getLocatorValue(), current.getIndex()));
+    }
+    return chain;
+  }
+
+  private static String getKey(Locator locator) {
+    StringBuilder key = new StringBuilder();
+    if (locator.getParent() != null) {
+      key.append(getKey(locator.getParent())).append(" > ");
+    }
+    return key
+        .append(locator.getLocatorType())
+        .append(':')
+        .append(locator.getLocatorValue())
+        .append('#')
+        .append(locator.getIndex())
+        .toString();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static SnapshotPageElement toElement(Map<String, Object> sample, CorrectionsRect corrections) {
+    if (!sample.containsKey("area")) {
+      return SnapshotPageElement.absent();
+    }
+    Map<String, String> cssProperties = new HashMap<>();
+    Object rawCss = sample.get("css");
+    if (rawCss instanceof Map) {
+      for (Entry<String, Object> property : ((Map<String, Object>)rawCss).entrySet()) {
+        cssProperties.put(property.getKey(), String.valueOf(property.getValue()));
+      }
+    }
+    return new SnapshotPageElement(
+        correct(asRect(sample.get("area")), corrections),
+        true,
+        Boolean.TRUE.equals(sample.get("visible")),
+        (String)sample.get("text"),
+        cssProperties);
+  }
+
+}
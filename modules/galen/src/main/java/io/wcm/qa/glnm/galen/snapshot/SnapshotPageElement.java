@@ -0,0 +1,112 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.galen.snapshot;
+
+import java.util.Collections;
+import java.util.Map;
+
+import com.galenframework.page.PageElement;
+import com.galenframework.page.Rect;
+
+/**
+ * Immutable {@link com.galenframework.page.PageElement} holding values sampled in a page snapshot.
+ *
+ * @since 5.0.0
+ */
+final class SnapshotPageElement extends PageElement {
+
+  private static final SnapshotPageElement ABSENT = new SnapshotPageElement(new Rect(0, 0, 0, 0), false, false, null, null);
+
+  private final Rect area;
+  private final Map<String, String> cssProperties;
+  private final boolean present;
+  private final String text;
+  private final boolean visible;
+
+  SnapshotPageElement(Rect area, boolean present, boolean visible, String text, Map<String, String> cssProperties) {
+    this.area = area;
+    this.present = present;
+    this.visible = visible;
+    this.text = text;
+    if (cssProperties == null) {
+      this.cssProperties = Collections.emptyMap();
+    }
+    else {
+      this.cssProperties = Collections.unmodifiableMap(cssProperties);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getCssProperty(String cssPropertyName) {
+    return cssProperties.get(cssPropertyName);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getHeight() {
+    return area.getHeight();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getLeft() {
+    return area.getLeft();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getText() {
+    return text;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getTop() {
+    return area.getTop();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getWidth() {
+    return area.getWidth();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isPresent() {
+    return present;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isVisible() {
+    return visible;
+  }
+
+  @Override
+  protected Rect calculateArea() {
+    return area;
+  }
+
+  static SnapshotPageElement absent() {
+    return ABSENT;
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.galen.snapshot;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.galenframework.api.Galen;
+import com.galenframework.browser.SeleniumBrowser;
+import com.galenframework.page.Page;
+import com.galenframework.reports.model.LayoutReport;
+import com.galenframework.speclang2.pagespec.SectionFilter;
+import com.galenframework.specs.Spec;
+import com.galenframework.specs.SpecComponent;
+import com.galenframework.specs.SpecCss;
+import com.galenframework.specs.SpecImage;
+import com.galenframework.specs.page.Locator;
+import com.galenframework.specs.page.ObjectSpecs;
+import com.galenframework.specs.page.PageSection;
+import com.galenframework.specs.page.PageSpec;
+import com.galenframework.specs.page.SpecGroup;
+import com.galenframework.validation.ValidationListener;
+import com.galenframework.validation.ValidationResult;
+
+import io.wcm.qa.glnm.exceptions.GaleniumException;
+
+/**
+ * Validates Galen specs against a {@link SnapshotPage}. All locators of the spec are sampled with a single script
+ * call and the top level sections of the spec are evaluated in parallel on the common fork join pool. Validation
+ * events are replayed to the listener on the calling thread in section order, so reporting looks the same as for
+ * sequential validation.
+ *
+ * <p>
+ * Specs using components, frames or image comparison need the live browser and are not supported.
+ * </p>
+ *
+ * @since 5.0.0
+ */
+public final class SnapshotValidation {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SnapshotValidation.class);
+
+  private SnapshotValidation() {
+    // do not instantiate
+  }
+
+  /**
+   * Validates spec against snapshot of current page.
+   *
+   * @param driver to take snapshot with
+   * @param pageSpec to validate
+   * @param sectionFilter tags to filter sections by
+   * @param validationListener to replay validation events to
+   * @return merged report of all sections
+   * @since 5.0.0
+   */
+  public static LayoutReport check(
+      WebDriver driver,
+      PageSpec pageSpec,
+      SectionFilter sectionFilter,
+      ValidationListener validationListener) {
+    SnapshotPage page = SnapshotPage.capture(driver, pageSpec.getObjects().values(), getCssProperties(pageSpec));
+    List<PageSection> sections = pageSpec.getSections();
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("validating " + sections.size() + " sections against snapshot of " + pageSpec.getObjects().size() + " objects");
+    }
+
+    List<ForkJoinTask<SectionResult>> tasks = new ArrayList<>();
+    for (PageSection section : sections) {
+      PageSpec sectionSpec = getSectionSpec(pageSpec, section);
+      tasks.add(ForkJoinPool.commonPool().submit(() -> checkSection(driver, page, sectionSpec, sectionFilter)));
+    }
+
+    LayoutReport mergedReport = null;
+    List<ValidationResult> validationErrorResults = new ArrayList<>();
+    for (ForkJoinTask<SectionResult> task : tasks) {
+      SectionResult result = task.join();
+      if (validationListener != null) {
+        result.getEvents().replay(validationListener);
+      }
+      LayoutReport sectionReport = result.getReport();
+      if (sectionReport.getValidationErrorResults() != null) {
+        validationErrorResults.addAll(sectionReport.getValidationErrorResults());
+      }
+      if (mergedReport == null) {
+        mergedReport = sectionReport;
+      }
+      else {
+        mergedReport.getSections().addAll(sectionReport.getSections());
+      }
+    }
+
+    if (mergedReport == null) {
+      // no sections, nothing to do in parallel
+      return checkSection(driver, page, pageSpec, sectionFilter).getReport();
+    }
+    mergedReport.setValidationErrorResults(validationErrorResults);
+    return mergedReport;
+  }
+
+  /**
+   * @param pageSpec to check
+   * @return whether spec can be validated against snapshot
+   * @since 5.0.0
+   */
+  public static boolean isSupported(PageSpec pageSpec) {
+    for (Locator locator : pageSpec.getObjects().values()) {
+      if (!SnapshotPage.isSupported(locator)) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("no snapshot validation for locator type: " + locator.getLocatorType());
+        }
+        return false;
+      }
+    }
+    for (Spec spec : getSpecs(pageSpec.getSections())) {
+      if (spec instanceof SpecComponent || spec instanceof SpecImage) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("no snapshot validation for spec: " + spec.getOriginalText());
+        }
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static SectionResult checkSection(WebDriver driver, Page page, PageSpec pageSpec, SectionFilter sectionFilter) {
+    RecordingValidationListener events = new RecordingValidationListener();
+    try {
+      LayoutReport report = Galen.checkLayout(new SnapshotBrowser(driver, page), pageSpec, sectionFilter, events);
+      return new SectionResult(report, events);
+    }
+    catch (IOException ex) {
+      throw new GaleniumException("Specification check failed", ex);
+    }
+  }
+
+  private static void collectSpecs(Collection<PageSection> sections, List<Spec> specs) {
+    for (PageSection section : sections) {
+      for (ObjectSpecs objectSpecs : section.getObjects()) {
+        specs.addAll(objectSpecs.getSpecs());
+        for (SpecGroup specGroup : objectSpecs.getSpecGroups()) {
+          specs.addAll(specGroup.getSpecs());
+        }
+      }
+      collectSpecs(section.getSections(), specs);
+    }
+  }
+
+  private static Set<String> getCssProperties(PageSpec pageSpec) {
+    Set<String> cssProperties = new TreeSet<>();
+    for (Spec spec : getSpecs(pageSpec.getSections())) {
+      if (spec instanceof SpecCss) {
+        cssProperties.add(((SpecCss)spec).getCssPropertyName());
+      }
+    }
+    return cssProperties;
+  }
+
+  private static PageSpec getSectionSpec(PageSpec pageSpec, PageSection section) {
+    PageSpec sectionSpec = new PageSpec();
+    sectionSpec.setObjects(pageSpec.getObjects());
+    sectionSpec.setObjectGroups(pageSpec.getObjectGroups());
+    sectionSpec.setSections(Collections.singletonList(section));
+    return sectionSpec;
+  }
+
+  private static List<Spec> getSpecs(Collection<PageSection> sections) {
+    List<Spec> specs = new ArrayList<>();
+    collectSpecs(sections, specs);
+    return specs;
+  }
+
+  private static final class SectionResult {
+
+    private final RecordingValidationListener events;
+    private final LayoutReport report;
+
+    SectionResult(LayoutReport report, RecordingValidationListener events) {
+      this.report = report;
+      this.events = events;
+    }
+
+    RecordingValidationListener getEvents() {
+      return events;
+    }
+
+    LayoutReport getReport() {
+      return report;
+    }
+  }
+
+  private static final class SnapshotBrowser extends SeleniumBrowser {
+
+    private final Page page;
+
+    SnapshotBrowser(WebDriver driver, Page page) {
+      super(driver);
+      this.page = page;
+    }
+
+    @Override
+    public Page getPage() {
+      return page;
+    }
+  }
+
+}
@@ -70,11 +70,7 @@ public abstract class AbstractGalenSpec implements GalenSpec {
       LOG.info("checking '" + runName + "'");
     }
     setUuid(GaleniumReportUtil.startStep(runName));
-    LayoutReport report = GalenLayout.check(
-        runName,
-        getPageSpec(),
-        GalenSpecUtil.getSectionFilter(tags),
-        getValidationListener());
+    LayoutReport report = checkLayout(runName, GalenSpecUtil.getSectionFilter(tags));
     GalenSpecRun specRun = createRunFromReport(report);
     GaleniumReportUtil.stopStep();
     return specRun;
@@ -171,6 +167,38 @@ public abstract class AbstractGalenSpec implements GalenSpec {
 
   protected abstract ValidationListener getValidationListener();
 
+  /**
+   * Runs Galen on this spec and adds the result to reports.
+   *
+   * @param runName name of run used in reports
+   * @param sectionFilter tags to filter sections by
+   * @return Galen report
+   * @since 5.0.0
+   */
+  protected LayoutReport checkLayout(String runName, SectionFilter sectionFilter) {
+    return GalenLayout.check(runName, getPageSpec(), sectionFilter, getValidationListener());
+  }
+
+  /**
+   * Runs Galen on page spec with browser and adds the result to reports.
+   *
+   * @param runName name of run used in reports
+   * @param pageSpec to validate
+   * @param sectionFilter tags to filter sections by
+   * @param validationListener to notify about validation events
+   * @param browser to validate in
+   * @return Galen report
+   * @since 5.0.0
+   */
+  protected static LayoutReport checkLayout(
+      String runName,
+      PageSpec pageSpec,
+      SectionFilter sectionFilter,
+      ValidationListener validationListener,
+      com.galenframework.browser.Browser browser) {
+    return GalenLayout.check(runName, pageSpec, sectionFilter, validationListener, browser);
+  }
+
   protected PageSpec initPageSpec() {
     return getGalenSpecProvider().getPageSpec();
   }
@@ -22,14 +22,19 @@ package io.wcm.qa.glnm.galen.specs;
 import java.io.IOException;
 
 import com.galenframework.api.Galen;
+import com.galenframework.browser.Browser;
 import com.galenframework.reports.GalenTestInfo;
 import com.galenframework.reports.model.LayoutReport;
 import com.galenframework.speclang2.pagespec.SectionFilter;
 import com.galenframework.specs.page.PageSpec;
 import com.galenframework.validation.ValidationListener;
 
+import io.wcm.qa.glnm.configuration.GaleniumConfiguration;
+import io.wcm.qa.glnm.context.GaleniumContext;
 import io.wcm.qa.glnm.exceptions.GaleniumException;
+import io.wcm.qa.glnm.galen.snapshot.SnapshotValidation;
 import io.wcm.qa.glnm.galen.util.GalenHelperUtil;
+import io.wcm.qa.glnm.metrics.Metrics;
 import io.wcm.qa.glnm.reporting.GaleniumReportUtil;
 
 /**
@@ -39,6 +44,8 @@ import io.wcm.qa.glnm.reporting.GaleniumReportUtil;
  */
 final class GalenLayout {
 
+  private static final String METRIC_CHECK = "galen.check";
+
   private GalenLayout() {
     // do not instantiate
   }
@@ -48,22 +55,50 @@ final class GalenLayout {
       PageSpec pageSpec,
       SectionFilter tags,
       ValidationListener validationListener) {
-    try {
+    if (GaleniumConfiguration.isGalenSnapshotValidation() && SnapshotValidation.isSupported(pageSpec)) {
+      long start = Metrics.start();
       LayoutReport layoutReport;
-      layoutReport = Galen.checkLayout(GalenHelperUtil.getBrowser(), pageSpec, tags, validationListener);
-      // Creating an object that will contain the information about the test
-      GalenTestInfo test = GalenTestInfo.fromString(testName);
-
-      // Adding layout report to the test report
-      test.getReport().layout(layoutReport, testName);
-
-      GaleniumReportUtil.addGalenResult(test);
-
+      try {
+        layoutReport = SnapshotValidation.check(GaleniumContext.getDriver(), pageSpec, tags, validationListener);
+      }
+      finally {
+        Metrics.stop(METRIC_CHECK, testName, start);
+      }
+      addGalenResult(testName, layoutReport);
       return layoutReport;
     }
+    return check(testName, pageSpec, tags, validationListener, GalenHelperUtil.getBrowser());
+  }
+
+  static LayoutReport check(
+      String testName,
+      PageSpec pageSpec,
+      SectionFilter tags,
+      ValidationListener validationListener,
+      Browser browser) {
+    long start = Metrics.start();
+    LayoutReport layoutReport;
+    try {
+      layoutReport = Galen.checkLayout(browser, pageSpec, tags, validationListener);
+    }
     catch (IOException ex) {
       throw new GaleniumException("Specification check failed", ex);
     }
+    finally {
+      Metrics.stop(METRIC_CHECK, testName, start);
+    }
+    addGalenResult(testName, layoutReport);
+    return layoutReport;
+  }
+
+  private static void addGalenResult(String testName, LayoutReport layoutReport) {
+    // Creating an object that will contain the information about the test
+    GalenTestInfo test = GalenTestInfo.fromString(testName);
+
+    // Adding layout report to the test report
+    test.getReport().layout(layoutReport, testName);
+
+    GaleniumReportUtil.addGalenResult(test);
   }
 
 }
@@ -26,15 +26,22 @@ import static org.apache.commons.io.IOUtils.toInputStream;
 import static org.apache.commons.lang3.RegExUtils.replacePattern;
 import static org.apache.commons.lang3.StringUtils.join;
 import static org.apache.commons.lang3.StringUtils.removeEnd;
+import static org.apache.commons.lang3.StringUtils.removeStart;
 import static org.apache.commons.lang3.StringUtils.startsWith;
 import static org.apache.commons.lang3.StringUtils.trim;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOUtils;
@@ -49,6 +56,8 @@ import com.galenframework.speclang2.pagespec.SectionFilter;
 import com.galenframework.specs.page.PageSpec;
 import com.galenframework.utils.GalenUtils;
 import com.google.common.collect.Lists;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 
 import io.wcm.qa.glnm.configuration.GaleniumConfiguration;
 import io.wcm.qa.glnm.exceptions.GaleniumException;
@@ -66,6 +75,7 @@ final class GalenParsing {
   private static final Map<String, Object> EMPTY_JS_VARS = null;
   private static final Properties EMPTY_PROPERTIES = new Properties();
   private static final Logger LOG = LoggerFactory.getLogger(GalenParsing.class);
+  private static final String IMPORT_PREFIX = "@import ";
 
   private GalenParsing() {
     // do not instantiate
@@ -100,8 +110,8 @@ final class GalenParsing {
 
   private static String rewriteImport(String inputLine, String importingSpecPath) {
     String trimmedInputLine = trim(inputLine);
-    if (startsWith(trimmedInputLine, "@import ")) {
-      String importedPath = StringUtils.removeStart(trimmedInputLine, "@import ");
+    if (startsWith(trimmedInputLine, IMPORT_PREFIX)) {
+      String importedPath = removeStart(trimmedInputLine, IMPORT_PREFIX);
       if (LOG.isDebugEnabled()) {
         LOG.debug("rewriting import: " + inputLine);
         LOG.debug("imported spec path: " + importedPath);
@@ -115,7 +125,7 @@ final class GalenParsing {
       String rewrittenLine = replacePattern(
           inputLine,
           "@import .*$",
-          "@import " + rewrittenImportedPath);
+          IMPORT_PREFIX + rewrittenImportedPath);
       if (LOG.isDebugEnabled()) {
         LOG.debug("rewritten import: " + rewrittenLine);
       }
@@ -126,7 +136,7 @@ final class GalenParsing {
 
   private static String prependSpecFolder(String specPath) {
     String specFolder = GaleniumConfiguration.getGalenSpecPath();
-    String relativePath = StringUtils.removeStart(specPath, "/");
+    String relativePath = removeStart(specPath, "/");
     return combine(specFolder, relativePath);
   }
 
@@ -142,22 +152,41 @@ final class GalenParsing {
   /**
    * Convenience method to read a Galen spec using current threads context. Basically a convenience mapping to
    * {@link com.galenframework.speclang2.pagespec.PageSpecReader#read(String, com.galenframework.page.Page, SectionFilter, Properties, Map, Map)}.
+   * Parsed specs are cached unless disabled by {@link GaleniumConfiguration#isGalenSpecCaching()}.
    * @param specPath path to spec file
    * @param tags include tags to use with spec
    * @return Galen page spec object
    * @since 4.0.0
    */
   static PageSpec fromPath(String specPath, String... tags) {
+    if (!GaleniumConfiguration.isGalenSpecCaching()) {
+      return parse(specPath, readSource(specPath), tags);
+    }
+    return GalenSpecCache.get(
+        specPath,
+        GalenParsing::getSourceStamp,
+        () -> readSourceWithHash(specPath),
+        source -> parse(specPath, source.getText(), tags),
+        tags);
+  }
+
+  private static String readSource(String specPath) {
+    return checkSource(specPath, getSource(specPath));
+  }
+
+  private static String checkSource(String specPath, String source) {
+    if (source == null) {
+      throw new GaleniumException("Could not find spec at '" + specPath + "'");
+    }
+    if (StringUtils.isBlank(source)) {
+      throw new GaleniumException("Found empty spec at '" + specPath + "'");
+    }
+    return source;
+  }
+
+  private static PageSpec parse(String specPath, String source, String... tags) {
     try {
-      String source = getSource(specPath);
-      if (source == null) {
-        throw new GaleniumException("Could not find spec at '" + specPath + "'");
-      }
-      if (StringUtils.isBlank(source)) {
-        throw new GaleniumException("Found empty spec at '" + specPath + "'");
-      }
       InputStream stream = toInputStream(source, GALEN_PARSING_CHARSET);
-      //      String contextPath = FilenameUtils.getPath(specPath);
       SectionFilter filter = getFilter(tags);
       return new PageSpecReader().read(stream, source, null, new MockPage(), filter, EMPTY_PROPERTIES, EMPTY_JS_VARS, null);
     }
@@ -166,6 +195,64 @@ final class GalenParsing {
     }
   }
 
+  /**
+   * Reads spec source once and hashes it together with the sources of all transitively imported specs.
+   * @param specPath path to spec file
+   * @return source for parsing with hash identifying this version of spec and its imports
+   */
+  static GalenSpecCache.Source readSourceWithHash(String specPath) {
+    List<String> sourceLines = getSourceLines(specPath);
+    String source = checkSource(specPath, join(sourceLines, "\n"));
+    Hasher hasher = Hashing.sha256().newHasher();
+    hasher.putString(source, GALEN_PARSING_CHARSET);
+    Set<String> visitedPaths = new LinkedHashSet<>();
+    visitedPaths.add(FilenameUtils.normalize(specPath, true));
+    hashImports(hasher, sourceLines, visitedPaths);
+    return new GalenSpecCache.Source(source, hasher.hash().toString(), new ArrayList<>(visitedPaths));
+  }
+
+  /**
+   * Cheap stamp of spec files to notice changes without reading them. Specs which are not plain files, i.e. resources
+   * in JARs, do not change during a run and are represented by a constant.
+   * @param specPaths paths of spec and its imports
+   * @return last modification and size of all spec files
+   */
+  static String getSourceStamp(List<String> specPaths) {
+    StringBuilder stamp = new StringBuilder();
+    for (String specPath : specPaths) {
+      File file = getSpecFile(specPath);
+      if (file == null) {
+        stamp.append("-");
+      }
+      else {
+        stamp.append(file.lastModified()).append(":").append(file.length());
+      }
+      stamp.append("|");
+    }
+    return stamp.toString();
+  }
+
+  private static void hashImports(Hasher hasher, List<String> lines, Set<String> visitedPaths) {
+    for (String line : emptyIfNull(lines)) {
+      String trimmedLine = trim(line);
+      if (!startsWith(trimmedLine, IMPORT_PREFIX)) {
+        continue;
+      }
+      String importedPath = trim(removeStart(trimmedLine, IMPORT_PREFIX));
+      if (!visitedPaths.add(importedPath)) {
+        // already hashed or circular import
+        continue;
+      }
+      List<String> importedLines = getSourceLines(importedPath);
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("hashing import: " + importedPath);
+      }
+      hasher.putString(importedPath, GALEN_PARSING_CHARSET);
+      hasher.putString(StringUtils.defaultString(join(importedLines, "\n")), GALEN_PARSING_CHARSET);
+      hashImports(hasher, importedLines, visitedPaths);
+    }
+  }
+
   private static SectionFilter getFilter(String... tags) {
     SectionFilter filter = GalenSpecUtil.getDefaultIncludeTags();
     if (ArrayUtils.isNotEmpty(tags)) {
@@ -193,6 +280,34 @@ final class GalenParsing {
     return getSourceFromResource(withSpecFolder);
   }
 
+  private static File getSpecFile(String specPath) {
+    File file = getFileOrResourceFile(specPath);
+    if (file != null) {
+      return file;
+    }
+    return getFileOrResourceFile(prependSpecFolder(specPath));
+  }
+
+  private static File getFileOrResourceFile(String specPath) {
+    File file = new File(specPath);
+    if (file.isFile()) {
+      return file;
+    }
+    URL resource = GalenUtils.class.getResource(StringUtils.prependIfMissing(specPath, "/"));
+    if (resource == null || !"file".equals(resource.getProtocol())) {
+      return null;
+    }
+    try {
+      return new File(resource.toURI());
+    }
+    catch (URISyntaxException | IllegalArgumentException ex) {
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("no file for resource: " + resource, ex);
+      }
+      return null;
+    }
+  }
+
   static InputStream getStream(String specPath) {
     return GalenUtils.findFileOrResourceAsStream(specPath);
   }
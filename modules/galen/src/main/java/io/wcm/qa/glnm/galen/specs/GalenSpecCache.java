@@ -0,0 +1,263 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.galen.specs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.galenframework.specs.page.PageSpec;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import io.wcm.qa.glnm.configuration.GaleniumConfiguration;
+import io.wcm.qa.glnm.exceptions.GaleniumException;
+
+/**
+ * Bounded cache for parsed Galen specs. Entries are keyed by normalized spec path, include tags and a hash of the spec
+ * source including all transitive imports. The hash is remembered per spec path together with a stamp of the spec and
+ * its imports (last modification and size of files), so sources are only read and hashed again when one of them
+ * changed. Specs read and hashed for a lookup are parsed from the same source.
+ *
+ * <p>
+ * Callers get their own {@link PageSpec} with own collections of objects, sections and object groups, so they can add
+ * or remove entries. Sections, locators and specs are shared with the cache and must not be modified. The object
+ * map, section list and object group lists of cached entries are unmodifiable.
+ * </p>
+ *
+ * @since 5.0.0
+ */
+public final class GalenSpecCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(GalenSpecCache.class);
+
+  private static final Cache<String, PageSpec> PARSED_SPECS = CacheBuilder.newBuilder()
+      .maximumSize(GaleniumConfiguration.getGalenSpecCacheSize())
+      .recordStats()
+      .build();
+  private static final Map<String, Version> VERSIONS = new ConcurrentHashMap<>();
+
+  private GalenSpecCache() {
+    // do not instantiate
+  }
+
+  /**
+   * Number of evicted specs.
+   *
+   * @return eviction count
+   * @since 5.0.0
+   */
+  public static long getEvictionCount() {
+    return getStats().evictionCount();
+  }
+
+  /**
+   * Number of requests served from cache.
+   *
+   * @return hit count
+   * @since 5.0.0
+   */
+  public static long getHitCount() {
+    return getStats().hitCount();
+  }
+
+  /**
+   * Number of requests which needed parsing.
+   *
+   * @return miss count
+   * @since 5.0.0
+   */
+  public static long getMissCount() {
+    return getStats().missCount();
+  }
+
+  /**
+   * Snapshot of all cache statistics.
+   *
+   * @return current statistics
+   * @since 5.0.0
+   */
+  public static CacheStats getStats() {
+    return PARSED_SPECS.stats();
+  }
+
+  /**
+   * Discards all cached specs.
+   *
+   * @since 5.0.0
+   */
+  public static void invalidateAll() {
+    PARSED_SPECS.invalidateAll();
+    VERSIONS.clear();
+  }
+
+  /**
+   * @param specPath path to spec file
+   * @param stamp stamp of current state of paths, cheap compared to reading them
+   * @param reader reads and hashes spec source
+   * @param parser parses spec from source
+   * @param tags include tags to use with spec
+   * @return copy of cached or freshly parsed spec
+   */
+  static PageSpec get(
+      String specPath,
+      Function<List<String>, String> stamp,
+      Supplier<Source> reader,
+      Function<Source, PageSpec> parser,
+      String... tags) {
+    String path = normalize(specPath);
+    Version version = VERSIONS.get(path);
+    Source source = null;
+    if (version == null || !StringUtils.equals(version.stamp, stamp.apply(version.paths))) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("reading spec source: " + path);
+      }
+      source = reader.get();
+      version = new Version(source.paths, stamp.apply(source.paths), source.hash);
+      VERSIONS.put(path, version);
+    }
+    String key = getKey(path, version.hash, tags);
+    Source alreadyRead = source;
+    Callable<PageSpec> loader = () -> freeze(parser.apply(alreadyRead != null ? alreadyRead : reader.get()));
+    try {
+      return copy(PARSED_SPECS.get(key, loader));
+    }
+    catch (ExecutionException | UncheckedExecutionException ex) {
+      if (ex.getCause() instanceof GaleniumException) {
+        throw (GaleniumException)ex.getCause();
+      }
+      throw new GaleniumException("when retrieving parsed spec for '" + specPath + "'", ex);
+    }
+  }
+
+  /**
+   * Copies collections of spec, so callers can add or remove objects and sections without touching cached spec.
+   * @param original spec to copy
+   * @return new spec sharing locators, sections and specs with original
+   */
+  private static PageSpec copy(PageSpec original) {
+    PageSpec copy = new PageSpec();
+    copy.setObjects(new HashMap<>(original.getObjects()));
+    copy.setSections(new ArrayList<>(original.getSections()));
+    Map<String, List<String>> objectGroups = new HashMap<>();
+    for (Entry<String, List<String>> group : original.getObjectGroups().entrySet()) {
+      objectGroups.put(group.getKey(), new ArrayList<>(group.getValue()));
+    }
+    copy.setObjectGroups(objectGroups);
+    return copy;
+  }
+
+  /**
+   * Wraps collections of parsed spec as unmodifiable before it is cached.
+   * @param parsed spec to freeze
+   * @return new spec with unmodifiable collections sharing locators and sections with parsed spec
+   */
+  private static PageSpec freeze(PageSpec parsed) {
+    PageSpec frozen = new PageSpec();
+    frozen.setObjects(Collections.unmodifiableMap(new HashMap<>(parsed.getObjects())));
+    frozen.setSections(Collections.unmodifiableList(new ArrayList<>(parsed.getSections())));
+    Map<String, List<String>> objectGroups = new HashMap<>();
+    for (Entry<String, List<String>> group : parsed.getObjectGroups().entrySet()) {
+      objectGroups.put(group.getKey(), Collections.unmodifiableList(new ArrayList<>(group.getValue())));
+    }
+    frozen.setObjectGroups(Collections.unmodifiableMap(objectGroups));
+    return frozen;
+  }
+
+  private static String getKey(String specPath, String sourceHash, String... tags) {
+    TreeSet<String> sortedTags = new TreeSet<>();
+    if (ArrayUtils.isNotEmpty(tags)) {
+      for (String tag : tags) {
+        sortedTags.add(tag);
+      }
+    }
+    String key = specPath
+        + "|" + StringUtils.join(sortedTags, ",")
+        + "|" + sourceHash;
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("spec cache key: " + key);
+    }
+    return key;
+  }
+
+  private static String normalize(String specPath) {
+    String normalized = FilenameUtils.normalize(specPath, true);
+    if (normalized == null) {
+      return specPath;
+    }
+    return normalized;
+  }
+
+  /**
+   * Spec source read for parsing together with hash and paths of spec and all its transitive imports.
+   */
+  static final class Source {
+
+    private final String hash;
+    private final List<String> paths;
+    private final String text;
+
+    Source(String text, String hash, List<String> paths) {
+      this.text = text;
+      this.hash = hash;
+      this.paths = paths;
+    }
+
+    String getText() {
+      return text;
+    }
+
+  }
+
+  /**
+   * Hash of spec source with stamp of files it was read from.
+   */
+  private static final class Version {
+
+    private final String hash;
+    private final List<String> paths;
+    private final String stamp;
+
+    Version(List<String> paths, String stamp, String hash) {
+      this.paths = paths;
+      this.stamp = stamp;
+      this.hash = hash;
+    }
+
+  }
+
+}
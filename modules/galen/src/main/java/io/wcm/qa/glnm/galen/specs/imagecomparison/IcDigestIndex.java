@@ -0,0 +1,179 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.galen.specs.imagecomparison;
+
+import static io.wcm.qa.glnm.configuration.GaleniumConfiguration.getExpectedImagesDirectory;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.imageio.ImageIO;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * Raw pixel digests of expected images. Digests are kept in a sidecar properties file in the expected images
+ * directory and are only recalculated when size or modification time of an image changes. Images are indexed by
+ * their path relative to the expected images directory, so the index can be shared between checkouts. New digests are
+ * written once on shutdown.
+ *
+ * @since 5.0.0
+ */
+final class IcDigestIndex {
+
+  private static final AtomicBoolean DIRTY = new AtomicBoolean();
+  private static final String FILE_NAME_INDEX = ".glnm-image-digests.properties";
+  private static final Properties INDEX = new Properties();
+  private static final File INDEX_FILE = new File(getExpectedImagesDirectory(), FILE_NAME_INDEX);
+  private static final Logger LOG = LoggerFactory.getLogger(IcDigestIndex.class);
+  private static final String SEPARATOR = ";";
+
+  static {
+    if (INDEX_FILE.isFile()) {
+      try (InputStream input = Files.newInputStream(INDEX_FILE.toPath())) {
+        INDEX.load(input);
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("loaded " + INDEX.size() + " image digests from " + INDEX_FILE.getPath());
+        }
+      }
+      catch (IOException ex) {
+        LOG.info("could not read image digest index: " + INDEX_FILE.getPath(), ex);
+      }
+    }
+    Runtime.getRuntime().addShutdownHook(new Thread(IcDigestIndex::persist, "glnm-image-digest-index-shutdown"));
+  }
+
+  private IcDigestIndex() {
+    // do not instantiate
+  }
+
+  /**
+   * Digest over dimensions and RGB values of all pixels.
+   * @param image to digest
+   * @return digest string
+   */
+  static String digest(BufferedImage image) {
+    int width = image.getWidth();
+    int height = image.getHeight();
+    Hasher hasher = Hashing.murmur3_128().newHasher();
+    hasher.putInt(width);
+    hasher.putInt(height);
+    int[] row = new int[width];
+    for (int y = 0; y < height; y++) {
+      image.getRGB(0, y, width, 1, row, 0, width);
+      for (int pixel : row) {
+        hasher.putInt(pixel);
+      }
+    }
+    return width + "x" + height + ":" + hasher.hash().toString();
+  }
+
+  /**
+   * Digest of expected image, read from index if image is unchanged since it was indexed.
+   * @param expectedImage image file to get digest for
+   * @return digest or null if image could not be read
+   */
+  static String getDigest(File expectedImage) {
+    String key = getKey(expectedImage);
+    String fingerprint = expectedImage.length() + SEPARATOR + expectedImage.lastModified();
+    String indexed = key == null ? null : INDEX.getProperty(key);
+    if (StringUtils.startsWith(indexed, fingerprint + SEPARATOR)) {
+      return StringUtils.removeStart(indexed, fingerprint + SEPARATOR);
+    }
+    try {
+      BufferedImage image = ImageIO.read(expectedImage);
+      if (image == null) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("could not decode expected image: " + expectedImage.getPath());
+        }
+        return null;
+      }
+      String digest = digest(image);
+      if (key != null) {
+        INDEX.setProperty(key, fingerprint + SEPARATOR + digest);
+        DIRTY.set(true);
+      }
+      return digest;
+    }
+    catch (IOException ex) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("could not read expected image: " + expectedImage.getPath(), ex);
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Path of image relative to expected images directory.
+   * @param expectedImage image file to get key for
+   * @return key with forward slashes or null, if image is not in expected images directory
+   */
+  static String getKey(File expectedImage) {
+    try {
+      Path root = new File(getExpectedImagesDirectory()).getCanonicalFile().toPath();
+      Path image = expectedImage.getCanonicalFile().toPath();
+      if (!image.startsWith(root)) {
+        if (LOG.isTraceEnabled()) {
+          LOG.trace("not indexing image outside of expected images directory: " + expectedImage.getPath());
+        }
+        return null;
+      }
+      return FilenameUtils.separatorsToUnix(root.relativize(image).toString());
+    }
+    catch (IOException ex) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("could not resolve path of expected image: " + expectedImage.getPath(), ex);
+      }
+      return null;
+    }
+  }
+
+  private static void persist() {
+    if (!DIRTY.getAndSet(false)) {
+      return;
+    }
+    if (!INDEX_FILE.getParentFile().isDirectory()) {
+      // expected images not in file system
+      return;
+    }
+    try (OutputStream output = Files.newOutputStream(INDEX_FILE.toPath())) {
+      INDEX.store(output, "Galenium image digests");
+    }
+    catch (IOException ex) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("could not write image digest index: " + INDEX_FILE.getPath(), ex);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,271 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.galen.specs.imagecomparison;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.galenframework.browser.Browser;
+import com.galenframework.browser.SeleniumBrowser;
+import com.galenframework.page.Page;
+import com.galenframework.page.PageElement;
+import com.galenframework.page.Rect;
+import com.galenframework.specs.Spec;
+import com.galenframework.specs.page.ObjectSpecs;
+import com.galenframework.specs.page.PageSection;
+import com.galenframework.specs.page.PageSpec;
+import com.galenframework.validation.CombinedValidationListener;
+import com.galenframework.validation.PageValidation;
+import com.galenframework.validation.ValidationListener;
+import com.galenframework.validation.ValidationObject;
+import com.galenframework.validation.ValidationResult;
+
+import io.wcm.qa.glnm.context.GaleniumContext;
+
+/**
+ * Cheap check whether sampled element is pixel identical to expected image. Only an exact match allows skipping
+ * Galen's comparison, everything else falls through to the full check.
+ *
+ * <p>
+ * The element is cut from the page screenshot Galen uses for validation, so no additional screenshot is taken. On
+ * high density displays, screenshots larger than the page are scaled down to CSS pixels first, the same way Galen
+ * does, because element areas and expected images are in CSS pixels. On a match Galen still validates the remaining
+ * specs and the skipped image comparisons are reported as passed.
+ * </p>
+ *
+ * @since 5.0.0
+ */
+final class IcPreCheck {
+
+  private static final String JS_DEVICE_PIXEL_RATIO = "return window.devicePixelRatio;";
+  private static final String JS_PAGE_WIDTH = "return Math.max("
+      + "document.body.scrollWidth, document.documentElement.scrollWidth,"
+      + "document.body.offsetWidth, document.documentElement.offsetWidth,"
+      + "document.body.clientWidth, document.documentElement.clientWidth);";
+  private static final Logger LOG = LoggerFactory.getLogger(IcPreCheck.class);
+
+  private final Browser browser;
+  private final IcsDefinition definition;
+  private Rect elementArea;
+
+  IcPreCheck(IcsDefinition def) {
+    this(def, new PreCheckBrowser(GaleniumContext.getDriver()));
+  }
+
+  IcPreCheck(IcsDefinition def, Browser browser) {
+    definition = def;
+    this.browser = browser;
+  }
+
+  /**
+   * @return browser sharing one page and its screenshot between pre-check and Galen validation
+   */
+  Browser getBrowser() {
+    return browser;
+  }
+
+  /**
+   * @return listener reporting skipped image comparisons as passed, before delegating to wrapped listener
+   */
+  ValidationListener getListener(ValidationListener listener, List<Spec> skippedSpecs) {
+    return new PreCheckedListener(listener, definition.getElementName(), elementArea, skippedSpecs);
+  }
+
+  /**
+   * @param pageSpec to remove image comparison specs from
+   * @return removed image comparison specs of pre-checked element
+   */
+  List<Spec> removeImageComparison(PageSpec pageSpec) {
+    List<Spec> removed = new ArrayList<>();
+    for (PageSection section : pageSpec.getSections()) {
+      for (ObjectSpecs objectSpecs : section.getObjects()) {
+        if (!definition.getElementName().equals(objectSpecs.getObjectName())) {
+          continue;
+        }
+        for (Spec spec : objectSpecs.getSpecs()) {
+          if (IcUtil.isImageComparisonSpec(spec)) {
+            removed.add(spec);
+          }
+        }
+        objectSpecs.getSpecs().removeAll(removed);
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * @return true only if element cut from page screenshot is identical to expected image
+   */
+  boolean isIdenticalToExpected() {
+    if (!definition.getObjectsToIgnore().isEmpty()) {
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("no pre-check when ignoring objects: " + definition.getElementName());
+      }
+      return false;
+    }
+    File expectedImage = IcUtil.getExpectedImageFile(definition);
+    if (!expectedImage.isFile()) {
+      return false;
+    }
+    String expectedDigest = IcDigestIndex.getDigest(expectedImage);
+    if (expectedDigest == null) {
+      return false;
+    }
+    BufferedImage actualImage = sampleElement();
+    if (actualImage == null) {
+      return false;
+    }
+    boolean identical = expectedDigest.equals(IcDigestIndex.digest(actualImage));
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("pre-check for '" + definition.getElementName() + "' " + (identical ? "matched" : "did not match") + ": " + expectedImage.getPath());
+    }
+    return identical;
+  }
+
+  /**
+   * @return element cut from page screenshot in CSS pixels or null if element cannot be sampled
+   */
+  BufferedImage sampleElement() {
+    try {
+      Page page = browser.getPage();
+      PageElement element = page.getObject(definition.getElementName(), definition.getSelector().asLocator());
+      if (element == null || !element.isPresent() || !element.isVisible()) {
+        return null;
+      }
+      Rect area = element.getArea();
+      BufferedImage screenshot = toCssPixels(page.getScreenshotImage());
+      if (area.getWidth() <= 0
+          || area.getHeight() <= 0
+          || area.getLeft() < 0
+          || area.getTop() < 0
+          || area.getLeft() + area.getWidth() > screenshot.getWidth()
+          || area.getTop() + area.getHeight() > screenshot.getHeight()) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("element not inside screenshot for pre-check: " + definition.getElementName());
+        }
+        return null;
+      }
+      elementArea = area;
+      return screenshot.getSubimage(area.getLeft(), area.getTop(), area.getWidth(), area.getHeight());
+    }
+    catch (WebDriverException ex) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("could not sample element for pre-check: " + definition.getElementName(), ex);
+      }
+      return null;
+    }
+  }
+
+  private static Number executeForNumber(JavascriptExecutor executor, String script) {
+    Object result = executor.executeScript(script);
+    if (result instanceof Number) {
+      return (Number)result;
+    }
+    return null;
+  }
+
+  /**
+   * Scales screenshot like Galen's GalenUtils.resizeScreenshotIfNeeded: only when device pixel ratio is above 1 and
+   * the screenshot is wider than the page, so screenshots Galen already scaled are kept.
+   */
+  private static BufferedImage toCssPixels(BufferedImage screenshot) {
+    WebDriver driver = GaleniumContext.getDriver();
+    if (!(driver instanceof JavascriptExecutor) || screenshot.getWidth() <= 0) {
+      return screenshot;
+    }
+    JavascriptExecutor executor = (JavascriptExecutor)driver;
+    Number devicePixelRatio = executeForNumber(executor, JS_DEVICE_PIXEL_RATIO);
+    if (devicePixelRatio == null || devicePixelRatio.doubleValue() <= 1.0) {
+      return screenshot;
+    }
+    Number pageWidth = executeForNumber(executor, JS_PAGE_WIDTH);
+    if (pageWidth == null || pageWidth.doubleValue() <= 0) {
+      return screenshot;
+    }
+    double estimatedPixelRatio = screenshot.getWidth() / pageWidth.doubleValue();
+    if (estimatedPixelRatio <= 1.0) {
+      return screenshot;
+    }
+    int width = (int)(screenshot.getWidth() / estimatedPixelRatio);
+    int height = (int)(screenshot.getHeight() / estimatedPixelRatio);
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("scaling screenshot for pre-check by " + estimatedPixelRatio + " to " + width + "x" + height);
+    }
+    Image scaled = screenshot.getScaledInstance(width, height, Image.SCALE_SMOOTH);
+    BufferedImage cssImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = cssImage.createGraphics();
+    graphics.drawImage(scaled, 0, 0, null);
+    graphics.dispose();
+    return cssImage;
+  }
+
+  private static final class PreCheckBrowser extends SeleniumBrowser {
+
+    private final Page page;
+
+    PreCheckBrowser(WebDriver driver) {
+      super(driver);
+      page = super.getPage();
+    }
+
+    @Override
+    public Page getPage() {
+      return page;
+    }
+  }
+
+  private static final class PreCheckedListener extends CombinedValidationListener {
+
+    private final Rect area;
+    private final String elementName;
+    private final List<Spec> passedSpecs;
+
+    PreCheckedListener(ValidationListener listener, String elementName, Rect area, List<Spec> passedSpecs) {
+      add(listener);
+      this.elementName = elementName;
+      this.area = area;
+      this.passedSpecs = passedSpecs;
+    }
+
+    @Override
+    public void onAfterObject(PageValidation pageValidation, String objectName) {
+      if (elementName.equals(objectName)) {
+        for (Spec spec : passedSpecs) {
+          onBeforeSpec(pageValidation, objectName, spec);
+          ValidationObject validationObject = new ValidationObject(area, objectName);
+          onSpecSuccess(pageValidation, objectName, spec, new ValidationResult(spec, Collections.singletonList(validationObject)));
+        }
+      }
+      super.onAfterObject(pageValidation, objectName);
+    }
+  }
+
+}
@@ -108,22 +108,22 @@ final class IcUtil {
   }
 
   private static String getImageOrDummySamplePath(String folder, String fileName) {
-    String fullFilePath;
-
-    // folder
-    if (StringUtils.isNotBlank(folder)) {
-      fullFilePath = FilenameUtils.concat(folder, fileName);
-    }
-    else {
-      // no folder means fileName is all the path info we have
-      fullFilePath = fileName;
-    }
+    String fullFilePath = getImageSamplePath(folder, fileName);
 
     createDummyIfSampleDoesNotExist(fullFilePath);
 
     return fullFilePath;
   }
 
+  private static String getImageSamplePath(String folder, String fileName) {
+    // folder
+    if (StringUtils.isNotBlank(folder)) {
+      return FilenameUtils.concat(folder, fileName);
+    }
+    // no folder means fileName is all the path info we have
+    return fileName;
+  }
+
   private static File getOriginalFilteredImage(ValidationResult result) {
     ImageComparison imageComparison = getImageComparison(result);
     if (imageComparison == null) {
@@ -214,6 +214,10 @@ final class IcUtil {
         def.getObjectsToIgnore());
   }
 
+  static File getExpectedImageFile(IcsDefinition def) {
+    return new File(getImageSamplePath(def.getFoldername(), def.getFilename()));
+  }
+
   static String getImagePathFrom(Spec spec) {
     Matcher matcher = REGEX_PATTERN_IMAGE_FILENAME.matcher(spec.toText());
     if (matcher.matches() && matcher.groupCount() >= 1) {
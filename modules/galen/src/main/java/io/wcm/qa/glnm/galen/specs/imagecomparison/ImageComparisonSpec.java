@@ -19,9 +19,21 @@
  */
 package io.wcm.qa.glnm.galen.specs.imagecomparison;
 
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.galenframework.reports.model.LayoutReport;
+import com.galenframework.speclang2.pagespec.SectionFilter;
+import com.galenframework.specs.Spec;
+import com.galenframework.specs.page.PageSpec;
 import com.galenframework.validation.ValidationListener;
 
+import io.wcm.qa.glnm.configuration.GaleniumConfiguration;
 import io.wcm.qa.glnm.galen.specs.AbstractGalenSpec;
+import io.wcm.qa.glnm.galen.specs.GalenSpecRun;
+import io.wcm.qa.glnm.metrics.Metrics;
 
 /**
  * <p>ImageComparisonSpec class.</p>
@@ -30,6 +42,12 @@ import io.wcm.qa.glnm.galen.specs.AbstractGalenSpec;
  */
 public class ImageComparisonSpec extends AbstractGalenSpec {
 
+  private static final Logger LOG = LoggerFactory.getLogger(ImageComparisonSpec.class);
+  private static final String METRIC_IMAGE_COMPARISON = "image.comparison";
+  private static final String METRIC_PRE_CHECK_MATCH = "image.comparison.precheck.match";
+
+  private final IcsDefinition definition;
+
   /**
    * <p>
    * Constructor for ImageComparisonSpec.
@@ -40,6 +58,43 @@ public class ImageComparisonSpec extends AbstractGalenSpec {
    */
   public ImageComparisonSpec(IcsDefinition specDefinition) {
     super(new ImageComparisonProvider(specDefinition));
+    definition = specDefinition;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public GalenSpecRun check(String... tags) {
+    long start = Metrics.start();
+    try {
+      return super.check(tags);
+    }
+    finally {
+      Metrics.stop(METRIC_IMAGE_COMPARISON, definition.getElementName(), start);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * Skips Galen's image comparison when sampled element is identical to expected image.
+   */
+  @Override
+  protected LayoutReport checkLayout(String runName, SectionFilter sectionFilter) {
+    if (!GaleniumConfiguration.isImageComparisonPreCheck()) {
+      return super.checkLayout(runName, sectionFilter);
+    }
+    IcPreCheck preCheck = new IcPreCheck(definition);
+    if (preCheck.isIdenticalToExpected()) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("skipping Galen image comparison for identical sample: " + definition.getElementName());
+      }
+      Metrics.increment(METRIC_PRE_CHECK_MATCH, definition.getElementName());
+      PageSpec pageSpec = IcsFactory.getPageSpec(definition);
+      List<Spec> passedSpecs = preCheck.removeImageComparison(pageSpec);
+      ValidationListener listener = preCheck.getListener(getValidationListener(), passedSpecs);
+      return checkLayout(runName, pageSpec, sectionFilter, listener, preCheck.getBrowser());
+    }
+    return checkLayout(runName, getPageSpec(), sectionFilter, getValidationListener(), preCheck.getBrowser());
   }
 
   @Override
@@ -85,6 +85,7 @@ public final class GalenHelperUtil {
    */
   public static void resizeViewport(Dimension size) {
     GalenUtils.resizeDriver(getCurrentDriver(), size.getWidth(), size.getHeight());
+    GaleniumContext.nextPageGeneration();
   }
 
   /**
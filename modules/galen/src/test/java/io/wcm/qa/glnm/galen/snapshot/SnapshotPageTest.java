@@ -0,0 +1,168 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.galen.snapshot;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.galenframework.page.AbsentPageElement;
+import com.galenframework.page.PageElement;
+import com.galenframework.page.selenium.WebPageElement;
+import com.galenframework.specs.page.Locator;
+
+/**
+ * Compares elements sampled by snapshot script with elements Galen checks live through WebDriver. Both are backed by
+ * the same fake DOM, mirroring what browser reports to script and to WebDriver.
+ */
+public class SnapshotPageTest {
+
+  private static final Locator ABSENT = Locator.css(".absent");
+  private static final Locator HIDDEN = Locator.css(".hidden");
+  private static final Locator SCROLLED = Locator.xpath("//footer");
+  private static final Locator VISIBLE = Locator.id("header");
+
+  private Map<String, FakeElement> dom;
+  private WebDriver driver;
+  private SnapshotPage snapshot;
+
+  @BeforeEach
+  public void setUp() {
+    dom = new HashMap<>();
+    dom.put(VISIBLE.getLocatorValue(), new FakeElement(10, 20, 300, 50, true));
+    dom.put(HIDDEN.getLocatorValue(), new FakeElement(0, 0, 0, 0, false));
+    dom.put(SCROLLED.getLocatorValue(), new FakeElement(0, 1800, 1024, 200, true));
+
+    driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    doAnswer(this::runSnapshotScript)
+        .when((JavascriptExecutor)driver)
+        .executeScript(anyString(), any(), any());
+
+    snapshot = SnapshotPage.capture(driver, Arrays.asList(VISIBLE, HIDDEN, SCROLLED, ABSENT), Collections.emptyList());
+  }
+
+  @Test
+  public void testAbsentElement() {
+    assertSameAsLive(ABSENT, new AbsentPageElement());
+    assertThat(snapshot.getObjectCount(ABSENT), is(0));
+  }
+
+  @Test
+  public void testElementBelowViewport() {
+    assertSameAsLive(SCROLLED, live("footer", SCROLLED));
+  }
+
+  @Test
+  public void testHiddenElement() {
+    assertSameAsLive(HIDDEN, live("hidden", HIDDEN));
+  }
+
+  @Test
+  public void testVisibleElement() {
+    assertSameAsLive(VISIBLE, live("header", VISIBLE));
+    assertThat(snapshot.getObjectCount(VISIBLE), is(1));
+  }
+
+  private void assertSameAsLive(Locator locator, PageElement live) {
+    PageElement sampled = snapshot.getObject(locator);
+    assertThat("present: " + locator, sampled.isPresent(), is(live.isPresent()));
+    assertThat("visible: " + locator, sampled.isVisible(), is(live.isVisible()));
+    if (live.isPresent()) {
+      assertThat("left: " + locator, sampled.getLeft(), is(live.getLeft()));
+      assertThat("top: " + locator, sampled.getTop(), is(live.getTop()));
+      assertThat("width: " + locator, sampled.getWidth(), is(live.getWidth()));
+      assertThat("height: " + locator, sampled.getHeight(), is(live.getHeight()));
+    }
+  }
+
+  private PageElement live(String name, Locator locator) {
+    FakeElement element = dom.get(locator.getLocatorValue());
+    WebElement webElement = mock(WebElement.class);
+    when(webElement.getLocation()).thenReturn(new Point(element.left, element.top));
+    when(webElement.getSize()).thenReturn(new Dimension(element.width, element.height));
+    when(webElement.isDisplayed()).thenReturn(element.displayed);
+    return new WebPageElement(driver, name, webElement, locator);
+  }
+
+  private Object runSnapshotScript(InvocationOnMock invocation) {
+    List<List<List<Object>>> chains = invocation.getArgument(1);
+    List<Object> objects = new ArrayList<>();
+    for (List<List<Object>> chain : chains) {
+      FakeElement element = dom.get(chain.get(chain.size() - 1).get(1));
+      Map<String, Object> sample = new HashMap<>();
+      if (element == null) {
+        sample.put("count", 0L);
+      }
+      else {
+        sample.put("count", 1L);
+        sample.put("area", Arrays.asList((long)element.left, (long)element.top, (long)element.width, (long)element.height));
+        sample.put("visible", element.displayed);
+        sample.put("text", "");
+        sample.put("css", Collections.emptyMap());
+      }
+      objects.add(sample);
+    }
+    Map<String, Object> result = new HashMap<>();
+    result.put("objects", objects);
+    result.put("title", "snapshot");
+    result.put("screen", Arrays.asList(0L, 0L, 1024L, 2000L));
+    result.put("viewport", Arrays.asList(0L, 0L, 1024L, 768L));
+    return result;
+  }
+
+  private static final class FakeElement {
+
+    private final boolean displayed;
+    private final int height;
+    private final int left;
+    private final int top;
+    private final int width;
+
+    FakeElement(int left, int top, int width, int height, boolean displayed) {
+      this.left = left;
+      this.top = top;
+      this.width = width;
+      this.height = height;
+      this.displayed = displayed;
+    }
+  }
+
+}
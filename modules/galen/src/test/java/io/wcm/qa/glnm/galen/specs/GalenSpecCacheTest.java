@@ -0,0 +1,135 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.galen.specs;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.galenframework.specs.page.PageSection;
+import com.galenframework.specs.page.PageSpec;
+
+public class GalenSpecCacheTest {
+
+  private static final String OTHER_GSPEC = "/layout/other.gspec";
+  private static final String TEST_GSPEC = "/layout/test.gspec";
+
+  @BeforeEach
+  public void clearCache() {
+    GalenSpecCache.invalidateAll();
+  }
+
+  @Test
+  public void testCacheHit() {
+    long hitsBefore = GalenSpecCache.getHitCount();
+    long missesBefore = GalenSpecCache.getMissCount();
+
+    PageSpec first = GalenParsing.fromPath(TEST_GSPEC);
+    PageSpec second = GalenParsing.fromPath(TEST_GSPEC);
+
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(GalenSpecCache.getMissCount() - missesBefore, is(1L));
+    assertThat(GalenSpecCache.getHitCount() - hitsBefore, is(1L));
+  }
+
+  @Test
+  public void testCopiesAreIndependent() {
+    PageSpec first = GalenParsing.fromPath(TEST_GSPEC);
+    first.getSections().clear();
+
+    PageSpec second = GalenParsing.fromPath(TEST_GSPEC);
+    assertThat(second.getSections(), hasSize(2));
+  }
+
+  @Test
+  public void testTagsAreDistinguished() {
+    long missesBefore = GalenSpecCache.getMissCount();
+
+    GalenParsing.fromPath(TEST_GSPEC);
+    GalenParsing.fromPath(TEST_GSPEC, "mobile");
+    GalenParsing.fromPath(TEST_GSPEC, "mobile");
+
+    assertThat(GalenSpecCache.getMissCount() - missesBefore, is(2L));
+  }
+
+  @Test
+  public void testSourceIsReadOnceWhileUnchanged() {
+    AtomicInteger read = new AtomicInteger();
+    AtomicInteger parsed = new AtomicInteger();
+    for (int i = 0; i < 3; i++) {
+      GalenSpecCache.get(
+          "/layout/../layout/test.gspec",
+          paths -> "stamp",
+          () -> source("hash", read),
+          source -> parse(parsed));
+    }
+    GalenSpecCache.get(TEST_GSPEC, paths -> "stamp", () -> source("hash", read), source -> parse(parsed));
+    assertThat(read.get(), is(1));
+    assertThat(parsed.get(), is(1));
+  }
+
+  @Test
+  public void testSourceIsReadAgainWhenChanged() {
+    AtomicInteger read = new AtomicInteger();
+    AtomicInteger parsed = new AtomicInteger();
+    AtomicReference<String> stamp = new AtomicReference<>("before");
+    GalenSpecCache.get(TEST_GSPEC, paths -> stamp.get(), () -> source("before", read), source -> parse(parsed));
+    stamp.set("after");
+    GalenSpecCache.get(TEST_GSPEC, paths -> stamp.get(), () -> source("after", read), source -> parse(parsed));
+    GalenSpecCache.get(TEST_GSPEC, paths -> stamp.get(), () -> source("after", read), source -> parse(parsed));
+    assertThat(read.get(), is(2));
+    assertThat(parsed.get(), is(2));
+  }
+
+  @Test
+  public void testParsedSpecIsNotShared() {
+    PageSpec parsed = new PageSpec();
+    parsed.addSection(new PageSection("section"));
+    GalenSpecCache.get(OTHER_GSPEC, paths -> "stamp", () -> source("hash", new AtomicInteger()), source -> parsed);
+
+    parsed.getSections().clear();
+    PageSpec cached = GalenSpecCache.get(
+        OTHER_GSPEC,
+        paths -> "stamp",
+        () -> source("hash", new AtomicInteger()),
+        source -> parsed);
+    assertThat(cached.getSections(), hasSize(1));
+  }
+
+  private static PageSpec parse(AtomicInteger parsed) {
+    parsed.incrementAndGet();
+    return new PageSpec();
+  }
+
+  private static GalenSpecCache.Source source(String hash, AtomicInteger read) {
+    read.incrementAndGet();
+    return new GalenSpecCache.Source("", hash, Collections.singletonList(TEST_GSPEC));
+  }
+
+}
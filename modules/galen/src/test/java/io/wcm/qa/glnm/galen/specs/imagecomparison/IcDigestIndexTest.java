@@ -0,0 +1,99 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.galen.specs.imagecomparison;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class IcDigestIndexTest {
+
+  private static final String PROPERTY_EXPECTED_IMAGES = "galenium.sampling.image.directory.expected";
+
+  @Test
+  public void testIdenticalImages() {
+    assertThat(IcDigestIndex.digest(image(0x336699)), is(IcDigestIndex.digest(image(0x336699))));
+  }
+
+  @Test
+  public void testDifferentDimensions() {
+    BufferedImage wide = new BufferedImage(20, 10, BufferedImage.TYPE_INT_RGB);
+    BufferedImage tall = new BufferedImage(10, 20, BufferedImage.TYPE_INT_RGB);
+    assertThat(IcDigestIndex.digest(wide), is(not(IcDigestIndex.digest(tall))));
+  }
+
+  @Test
+  public void testSinglePixelDifference() {
+    BufferedImage changed = image(0x336699);
+    changed.setRGB(5, 5, 0x336698);
+    assertThat(IcDigestIndex.digest(changed), is(not(IcDigestIndex.digest(image(0x336699)))));
+  }
+
+  @Test
+  public void testKeyIsRelativeToExpectedImagesDirectory(@TempDir Path expectedImages) {
+    withExpectedImagesDirectory(expectedImages, () -> {
+      File image = expectedImages.resolve("chrome").resolve("button.png").toFile();
+      assertThat(IcDigestIndex.getKey(image), is("chrome/button.png"));
+    });
+  }
+
+  @Test
+  public void testNoKeyOutsideExpectedImagesDirectory(@TempDir Path expectedImages) {
+    withExpectedImagesDirectory(expectedImages.resolve("expected"), () -> {
+      File image = expectedImages.resolve("elsewhere").resolve("button.png").toFile();
+      assertThat(IcDigestIndex.getKey(image), is(nullValue()));
+    });
+  }
+
+  private static BufferedImage image(int rgb) {
+    BufferedImage image = new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB);
+    for (int x = 0; x < image.getWidth(); x++) {
+      for (int y = 0; y < image.getHeight(); y++) {
+        image.setRGB(x, y, rgb);
+      }
+    }
+    return image;
+  }
+
+  private static void withExpectedImagesDirectory(Path directory, Runnable runnable) {
+    String previous = System.getProperty(PROPERTY_EXPECTED_IMAGES);
+    System.setProperty(PROPERTY_EXPECTED_IMAGES, directory.toString());
+    try {
+      runnable.run();
+    }
+    finally {
+      if (previous == null) {
+        System.clearProperty(PROPERTY_EXPECTED_IMAGES);
+      }
+      else {
+        System.setProperty(PROPERTY_EXPECTED_IMAGES, previous);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.galen.specs.imagecomparison;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.InOrder;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import com.galenframework.browser.Browser;
+import com.galenframework.page.Page;
+import com.galenframework.page.PageElement;
+import com.galenframework.page.Rect;
+import com.galenframework.specs.Spec;
+import com.galenframework.specs.page.ObjectSpecs;
+import com.galenframework.specs.page.PageSection;
+import com.galenframework.specs.page.PageSpec;
+import com.galenframework.validation.PageValidation;
+import com.galenframework.validation.ValidationListener;
+import com.galenframework.validation.ValidationResult;
+
+import io.wcm.qa.glnm.context.GaleniumContext;
+
+public class IcPreCheckTest {
+
+  private static final String ELEMENT_NAME = "button";
+  private static final String OTHER_ELEMENT_NAME = "teaser";
+
+  private Spec imageSpec;
+  private ObjectSpecs objectSpecs;
+  private ObjectSpecs otherObjectSpecs;
+  private Spec otherImageSpec;
+  private PageSpec pageSpec;
+  private IcPreCheck preCheck;
+  private Spec viewportSpec;
+
+  @BeforeEach
+  public void setUp() {
+    imageSpec = mockSpec("image file button.png, error 0px");
+    viewportSpec = mockSpec("inside viewport");
+    otherImageSpec = mockSpec("image file teaser.png, error 0px");
+
+    objectSpecs = new ObjectSpecs(ELEMENT_NAME);
+    objectSpecs.addSpec(viewportSpec);
+    objectSpecs.addSpec(imageSpec);
+    otherObjectSpecs = new ObjectSpecs(OTHER_ELEMENT_NAME);
+    otherObjectSpecs.addSpec(otherImageSpec);
+
+    PageSection section = new PageSection("section");
+    section.addObjects(objectSpecs);
+    section.addObjects(otherObjectSpecs);
+    pageSpec = new PageSpec();
+    pageSpec.addSection(section);
+
+    IcsDefinition definition = mock(IcsDefinition.class);
+    when(definition.getElementName()).thenReturn(ELEMENT_NAME);
+    preCheck = new IcPreCheck(definition, mock(Browser.class));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    GaleniumContext.getContext().setDriver(null);
+  }
+
+  @Test
+  public void testElementIsCroppedInCssPixelsAtDevicePixelRatio() {
+    WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    when(((JavascriptExecutor)driver).executeScript(startsWith("return window.devicePixelRatio"))).thenReturn(2.0);
+    when(((JavascriptExecutor)driver).executeScript(startsWith("return Math.max"))).thenReturn(100L);
+    GaleniumContext.getContext().setDriver(driver);
+
+    // 100x100 CSS pixel page with red 10x10 element at 10,10 captured with device pixel ratio 2
+    BufferedImage screenshot = new BufferedImage(200, 200, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = screenshot.createGraphics();
+    graphics.setColor(Color.WHITE);
+    graphics.fillRect(0, 0, 200, 200);
+    graphics.setColor(Color.RED);
+    graphics.fillRect(20, 20, 20, 20);
+    graphics.dispose();
+
+    PageElement element = mock(PageElement.class);
+    when(element.isPresent()).thenReturn(true);
+    when(element.isVisible()).thenReturn(true);
+    when(element.getArea()).thenReturn(new Rect(10, 10, 10, 10));
+    Page page = mock(Page.class);
+    when(page.getObject(eq(ELEMENT_NAME), any())).thenReturn(element);
+    when(page.getScreenshotImage()).thenReturn(screenshot);
+    Browser browser = mock(Browser.class);
+    when(browser.getPage()).thenReturn(page);
+    IcsDefinition definition = mock(IcsDefinition.class, withSettings().defaultAnswer(Answers.RETURNS_DEEP_STUBS));
+    when(definition.getElementName()).thenReturn(ELEMENT_NAME);
+
+    BufferedImage sample = new IcPreCheck(definition, browser).sampleElement();
+
+    assertThat(sample, notNullValue());
+    assertThat(sample.getWidth(), is(10));
+    assertThat(sample.getHeight(), is(10));
+    assertThat(new Color(sample.getRGB(0, 0)), is(Color.RED));
+    assertThat(new Color(sample.getRGB(9, 9)), is(Color.RED));
+  }
+
+  @Test
+  public void testOnlyImageComparisonOfElementIsRemoved() {
+    List<Spec> removed = preCheck.removeImageComparison(pageSpec);
+    assertThat(removed, contains(imageSpec));
+    assertThat(objectSpecs.getSpecs(), contains(viewportSpec));
+    assertThat(otherObjectSpecs.getSpecs(), contains(otherImageSpec));
+  }
+
+  @Test
+  public void testSkippedSpecIsReportedAsPassed() {
+    ValidationListener delegate = mock(ValidationListener.class);
+    PageValidation pageValidation = mock(PageValidation.class);
+    ValidationListener listener = preCheck.getListener(delegate, Collections.singletonList(imageSpec));
+
+    listener.onObject(pageValidation, ELEMENT_NAME);
+    listener.onAfterObject(pageValidation, ELEMENT_NAME);
+
+    InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).onObject(pageValidation, ELEMENT_NAME);
+    inOrder.verify(delegate).onBeforeSpec(pageValidation, ELEMENT_NAME, imageSpec);
+    inOrder.verify(delegate).onSpecSuccess(eq(pageValidation), eq(ELEMENT_NAME), eq(imageSpec), any(ValidationResult.class));
+    inOrder.verify(delegate).onAfterObject(pageValidation, ELEMENT_NAME);
+  }
+
+  @Test
+  public void testOtherObjectsAreNotReportedAsPassed() {
+    ValidationListener delegate = mock(ValidationListener.class);
+    PageValidation pageValidation = mock(PageValidation.class);
+    ValidationListener listener = preCheck.getListener(delegate, Collections.singletonList(imageSpec));
+
+    listener.onAfterObject(pageValidation, OTHER_ELEMENT_NAME);
+
+    verify(delegate, never()).onSpecSuccess(any(), any(), any(), any());
+    verify(delegate).onAfterObject(pageValidation, OTHER_ELEMENT_NAME);
+  }
+
+  private static Spec mockSpec(String text) {
+    Spec spec = mock(Spec.class);
+    when(spec.toText()).thenReturn(text);
+    return spec;
+  }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.galen.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.WebDriver;
+
+import io.wcm.qa.glnm.context.GaleniumContext;
+
+public class GalenHelperUtilTest {
+
+  private WebDriver driver;
+
+  @BeforeEach
+  void setUp() {
+    GalenHelperUtil.adjustViewport(false);
+    driver = mock(WebDriver.class, withSettings().defaultAnswer(Answers.RETURNS_DEEP_STUBS));
+    GaleniumContext.getContext().setDriver(driver);
+  }
+
+  @AfterEach
+  void tearDown() {
+    GaleniumContext.getContext().setDriver(null);
+  }
+
+  @Test
+  void testResizeViewportChangesPageGeneration() {
+    long before = GaleniumContext.getPageGeneration();
+    Dimension size = new Dimension(800, 600);
+    GalenHelperUtil.resizeViewport(size);
+    verify(driver.manage().window()).setSize(size);
+    assertThat(GaleniumContext.getPageGeneration(), greaterThan(before));
+  }
+
+}
@@ -19,6 +19,7 @@
  */
 package io.wcm.qa.glnm.hamcrest;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.function.Function;
 
@@ -31,6 +32,9 @@ import org.openqa.selenium.support.ui.FluentWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.wcm.qa.glnm.configuration.GaleniumConfiguration;
+import io.wcm.qa.glnm.webdriver.BackoffSleeper;
+
 /**
  * Matcher waiting for chained matcher.
  *
@@ -76,6 +80,10 @@ public class AfterWait<T> extends TypeSafeMatcher<T> {
   }
 
   private FluentWait<T> getFluentWait(T item) {
+    if (GaleniumConfiguration.isAdaptivePolling()) {
+      return new FluentWait<T>(item, Clock.systemDefaultZone(), BackoffSleeper.fromConfiguration())
+          .withTimeout(Duration.ofSeconds(timeoutInSeconds));
+    }
     FluentWait<T> fluentWait = new FluentWait<T>(item)
         .withTimeout(Duration.ofSeconds(timeoutInSeconds))
         .pollingEvery(Duration.ofMillis(timeoutInSeconds * 100));
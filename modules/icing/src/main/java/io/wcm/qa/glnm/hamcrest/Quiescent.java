@@ -0,0 +1,175 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.hamcrest;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.hamcrest.TypeSafeMatcher;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.wcm.qa.glnm.context.GaleniumContext;
+import io.wcm.qa.glnm.exceptions.GaleniumException;
+import io.wcm.qa.glnm.sampling.Sampler;
+
+/**
+ * Matches sampler once the page in the current browser is quiet. A tracker installed in the page records DOM mutations
+ * and pending fetch and XHR requests. Only after neither happened for the quiet window, the sampler is sampled once
+ * and the value matched. Intended to be used with {@link AfterWait}, where each poll only costs a small script call
+ * instead of sampling and comparing the full value.
+ *
+ * <p>
+ * The tracker is reinstalled after navigation. Polls do not show up as steps in the report.
+ * </p>
+ *
+ * @param <T> type of sample
+ * @since 5.0.0
+ */
+public class Quiescent<T> extends TypeSafeMatcher<Sampler<T>> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(Quiescent.class);
+
+  private static final String SCRIPT = ""
+      + "var w = window, q = w.__glnmQuiescence;"
+      + "if (!q) {"
+      + "  q = w.__glnmQuiescence = { last: Date.now(), pending: 0 };"
+      + "  var touch = function() { q.last = Date.now(); };"
+      + "  var done = function() { q.pending = Math.max(0, q.pending - 1); touch(); };"
+      + "  new MutationObserver(touch).observe(document,"
+      + "      { attributes: true, characterData: true, childList: true, subtree: true });"
+      + "  if (w.fetch) {"
+      + "    var originalFetch = w.fetch;"
+      + "    w.fetch = function() {"
+      + "      q.pending++; touch();"
+      + "      return originalFetch.apply(this, arguments).then("
+      + "          function(r) { done(); return r; }, function(e) { done(); throw e; });"
+      + "    };"
+      + "  }"
+      + "  if (w.XMLHttpRequest) {"
+      + "    var originalSend = w.XMLHttpRequest.prototype.send;"
+      + "    w.XMLHttpRequest.prototype.send = function() {"
+      + "      q.pending++; touch();"
+      + "      this.addEventListener('loadend', done);"
+      + "      try { return originalSend.apply(this, arguments); } catch (e) { done(); throw e; }"
+      + "    };"
+      + "  }"
+      + "}"
+      + "if (document.readyState !== 'complete') { q.last = Date.now(); }"
+      + "return [q.pending, Date.now() - q.last];";
+
+  private final Matcher<T> matcher;
+  private final long quietWindowInMillis;
+  private long lastActivity;
+  private long pendingRequests;
+  private boolean quiet;
+  private T sample;
+
+  /**
+   * @param quietWindow time without DOM changes and requests before sampling
+   * @param matcher to match sample with
+   * @since 5.0.0
+   */
+  public Quiescent(Duration quietWindow, Matcher<T> matcher) {
+    this.quietWindowInMillis = quietWindow.toMillis();
+    this.matcher = matcher;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void describeTo(Description description) {
+    description.appendText("after ");
+    description.appendValue(quietWindowInMillis);
+    description.appendText("ms without DOM changes or requests ");
+    matcher.describeTo(description);
+  }
+
+  private void track() {
+    WebDriver driver = GaleniumContext.getDriver();
+    if (!(driver instanceof JavascriptExecutor)) {
+      throw new GaleniumException("tracking page activity needs driver capable of executing JavaScript: " + driver);
+    }
+    Object rawResult = ((JavascriptExecutor)driver).executeScript(SCRIPT);
+    if (!(rawResult instanceof List) || ((List<?>)rawResult).size() != 2) {
+      throw new GaleniumException("page activity script returned unexpected result: " + rawResult);
+    }
+    List<?> values = (List<?>)rawResult;
+    pendingRequests = ((Number)values.get(0)).longValue();
+    lastActivity = ((Number)values.get(1)).longValue();
+    quiet = pendingRequests == 0 && lastActivity >= quietWindowInMillis;
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("page activity: " + pendingRequests + " pending requests, last activity " + lastActivity + "ms ago");
+    }
+  }
+
+  @Override
+  protected void describeMismatchSafely(Sampler<T> item, Description mismatchDescription) {
+    if (!quiet) {
+      mismatchDescription.appendText("page was busy with ");
+      mismatchDescription.appendValue(pendingRequests);
+      mismatchDescription.appendText(" pending requests and last activity ");
+      mismatchDescription.appendValue(lastActivity);
+      mismatchDescription.appendText("ms ago");
+      return;
+    }
+    matcher.describeMismatch(sample, mismatchDescription);
+  }
+
+  @Override
+  protected boolean matchesSafely(Sampler<T> item) {
+    track();
+    if (!quiet) {
+      return false;
+    }
+    sample = item.sampleValue();
+    return matcher.matches(sample);
+  }
+
+  /**
+   * Samples once page is quiet.
+   *
+   * @param <T> type of sample
+   * @param quietWindow time without DOM changes and requests before sampling
+   * @return matcher waiting for quiet page
+   * @since 5.0.0
+   */
+  public static <T> Matcher<Sampler<T>> quiescent(Duration quietWindow) {
+    return new Quiescent<T>(quietWindow, Matchers.anything());
+  }
+
+  /**
+   * Samples once page is quiet and matches sample.
+   *
+   * @param <T> type of sample
+   * @param quietWindow time without DOM changes and requests before sampling
+   * @param matcher to match sample with
+   * @return matcher waiting for quiet page
+   * @since 5.0.0
+   */
+  public static <T> Matcher<Sampler<T>> quiescent(Duration quietWindow, Matcher<T> matcher) {
+    return new Quiescent<T>(quietWindow, matcher);
+  }
+
+}
@@ -22,18 +22,31 @@ package io.wcm.qa.glnm.hamcrest;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 
+import io.wcm.qa.glnm.interaction.logs.PerformanceLogIndex;
+import io.wcm.qa.glnm.interaction.logs.ResponseEntry;
 import io.wcm.qa.glnm.sampling.jsoup.JsoupResponseCodeSampler;
 
 
 /**
  * <p>ResponseCode class.</p>
+ * <p>
+ * Requests URL to get the response code or, when using {@link #loggedResponseCode(Matcher)}, looks up the most recent
+ * response received by the browser in the {@link PerformanceLogIndex}.
+ * </p>
  *
  * @since 5.0.0
  */
 public class ResponseCode extends TypeSafeWrappingMatcher<String, Integer> {
 
+  private final boolean fromPerformanceLog;
+
   protected ResponseCode(Matcher<Integer> matcher) {
+    this(matcher, false);
+  }
+
+  protected ResponseCode(Matcher<Integer> matcher, boolean fromPerformanceLog) {
     super(matcher);
+    this.fromPerformanceLog = fromPerformanceLog;
   }
 
   /** {@inheritDoc} */
@@ -53,9 +66,27 @@ public class ResponseCode extends TypeSafeWrappingMatcher<String, Integer> {
 
   @Override
   protected Integer map(String item) {
+    if (fromPerformanceLog) {
+      ResponseEntry response = PerformanceLogIndex.forCurrentDriver().getLatestResponse(item);
+      if (response == null) {
+        return null;
+      }
+      return response.getResponseStatus();
+    }
     return new JsoupResponseCodeSampler(item).sampleValue();
   }
 
+  /**
+   * Response code of most recent response for URL received by the browser.
+   *
+   * @param matcher a {@link org.hamcrest.Matcher} object.
+   * @return a {@link org.hamcrest.Matcher} object.
+   * @since 5.0.0
+   */
+  public static Matcher<String> loggedResponseCode(Matcher<Integer> matcher) {
+    return new ResponseCode(matcher, true);
+  }
+
   /**
    * <p>responseCode.</p>
    *
@@ -19,14 +19,22 @@
  */
 package io.wcm.qa.glnm.hamcrest;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
 
+import io.wcm.qa.glnm.sampling.Sampler;
+
 /**
  * Matches when called twice in a row with the equal arguments.
+ * <p>
+ * Detecting stability by comparing samples means sampling the full value on every poll. For samples taken from the
+ * current page, {@link #stableSample(Duration)} waits for the page to stop changing and only compares samples taken
+ * while the page is quiet.
+ * </p>
  *
  * @param <T> type of argument
  * @since 5.0.0
@@ -89,4 +97,20 @@ public class Stable<T> extends TypeSafeMatcher<T> {
     return new Stable<T>();
   }
 
+  /**
+   * <p>
+   * Stability matcher only sampling while page is quiet. Matches when two samples in a row taken while page is quiet
+   * are equal.
+   * </p>
+   *
+   * @param <T> type of sample
+   * @param quietWindow time without DOM changes and requests before sampling
+   * @return a matcher comparing samples taken while page is quiet
+   * @see Quiescent
+   * @since 5.0.0
+   */
+  public static <T> Matcher<Sampler<T>> stableSample(Duration quietWindow) {
+    return Quiescent.quiescent(quietWindow, Stable.<T>stable());
+  }
+
 }
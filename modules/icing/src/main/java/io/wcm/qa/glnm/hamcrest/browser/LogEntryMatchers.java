@@ -23,6 +23,7 @@ import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
 
+import io.wcm.qa.glnm.interaction.logs.PerformanceLogIndex;
 import io.wcm.qa.glnm.interaction.logs.ResponseEntry;
 
 /**
@@ -36,6 +37,41 @@ public final class LogEntryMatchers {
     // do not instantiate
   }
 
+  /**
+   * Matches URL by most recent response received by browser.
+   *
+   * @param matcher for response
+   * @return a {@link org.hamcrest.Matcher} object.
+   * @since 5.0.0
+   */
+  public static Matcher<String> hasLoggedResponse(Matcher<ResponseEntry> matcher) {
+    return new TypeSafeMatcher<String>() {
+
+      @Override
+      public void describeTo(Description description) {
+        description.appendText("URL with logged response ");
+        matcher.describeTo(description);
+      }
+
+      @Override
+      protected void describeMismatchSafely(String item, Description mismatchDescription) {
+        ResponseEntry response = PerformanceLogIndex.forCurrentDriver().getLatestResponse(item);
+        if (response == null) {
+          mismatchDescription.appendText("no response logged for ");
+          mismatchDescription.appendValue(item);
+          return;
+        }
+        matcher.describeMismatch(response, mismatchDescription);
+      }
+
+      @Override
+      protected boolean matchesSafely(String item) {
+        ResponseEntry response = PerformanceLogIndex.forCurrentDriver().getLatestResponse(item);
+        return response != null && matcher.matches(response);
+      }
+    };
+  }
+
   /**
    * <p>hasResponseStatus.</p>
    *
@@ -58,4 +94,27 @@ public final class LogEntryMatchers {
       }
     };
   }
+
+  /**
+   * <p>hasType.</p>
+   *
+   * @param type resource type as reported by Chrome, i.e. "Document", "Image" or "XHR"
+   * @return a {@link org.hamcrest.Matcher} object.
+   * @since 5.0.0
+   */
+  public static Matcher<ResponseEntry> hasType(String type) {
+    return new TypeSafeMatcher<ResponseEntry>() {
+
+      @Override
+      public void describeTo(Description description) {
+        description.appendText("response has type ");
+        description.appendValue(type);
+      }
+
+      @Override
+      protected boolean matchesSafely(ResponseEntry item) {
+        return type.equals(item.getType());
+      }
+    };
+  }
 }
@@ -19,13 +19,9 @@
  */
 package io.wcm.qa.glnm.interaction.logs;
 
-import static io.wcm.qa.glnm.interaction.Browser.getPerformanceLog;
-import static java.util.stream.Collectors.toList;
-
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.lang3.StringUtils;
 import org.openqa.selenium.logging.LogEntry;
 
 import io.wcm.qa.glnm.sampling.transform.JsonSampler;
@@ -37,9 +33,6 @@ import io.wcm.qa.glnm.sampling.transform.JsonSampler;
  */
 public final class LogEntryUtil {
 
-  private static final String MESSAGE_METHOD = "message.method";
-  private static final String NETWORK_RESPONSE_RECEIVED = "Network.responseReceived";
-
   private LogEntryUtil() {
     // do not instantiate
   }
@@ -57,16 +50,24 @@ public final class LogEntryUtil {
   }
 
   /**
-   * <p>getResponseEntries.</p>
+   * Responses received since last call. Entries are also added to the driver's {@link PerformanceLogIndex}.
    *
    * @return a {@link java.util.List} object.
    * @since 5.0.0
    */
   public static List<ResponseEntry> getResponseEntries() {
-    return getPerformanceLog().stream()
-        .filter(entry -> isResponseReceivedEntry(entry))
-        .map(entry -> new ResponseEntry(entry))
-        .collect(toList());
+    return PerformanceLogIndex.forCurrentDriver().drain();
+  }
+
+  /**
+   * Most recent response for URL received by current driver.
+   *
+   * @param url request URL
+   * @return response or null, if none was received
+   * @since 5.0.0
+   */
+  public static ResponseEntry getLatestResponseEntry(String url) {
+    return PerformanceLogIndex.forCurrentDriver().getLatestResponse(url);
   }
 
   /**
@@ -81,12 +82,4 @@ public final class LogEntryUtil {
     return getFlatMessage(entry).get(key);
   }
 
-  private static boolean isResponseReceivedEntry(LogEntry entry) {
-    return isResponseReceivedEntry(getFlatMessage(entry));
-  }
-
-  private static boolean isResponseReceivedEntry(Map<String, String> entry) {
-    return StringUtils.equals(entry.get(MESSAGE_METHOD), NETWORK_RESPONSE_RECEIVED);
-  }
-
 }
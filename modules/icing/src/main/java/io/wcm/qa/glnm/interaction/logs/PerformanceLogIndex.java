@@ -0,0 +1,235 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.interaction.logs;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.wcm.qa.glnm.configuration.GaleniumConfiguration;
+import io.wcm.qa.glnm.context.GaleniumContext;
+import io.wcm.qa.glnm.exceptions.GaleniumException;
+import io.wcm.qa.glnm.interaction.Browser;
+
+/**
+ * Index of responses received by a driver. WebDriver hands out performance log entries only once, so every call to
+ * {@link #drain()} consumes the new entries, parses each of them once and adds received responses to lookups by URL,
+ * status and resource type. Queries drain before answering.
+ *
+ * <p>
+ * At most {@link GaleniumConfiguration#getWebDriverLogBufferSize()} responses are kept, the oldest are dropped first.
+ * Pooled drivers get a fresh index for every test via {@link #reset(WebDriver)}.
+ * </p>
+ *
+ * <p>
+ * Draining happens on the thread using the driver, as WebDriver instances are not safe for concurrent use.
+ * </p>
+ *
+ * @since 5.0.0
+ */
+public final class PerformanceLogIndex {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PerformanceLogIndex.class);
+
+  private static final Map<WebDriver, PerformanceLogIndex> INDICES = Collections.synchronizedMap(new WeakHashMap<>());
+
+  private final Map<Integer, Deque<ResponseEntry>> byStatus = new HashMap<>();
+  private final Map<String, Deque<ResponseEntry>> byType = new HashMap<>();
+  private final Map<String, Deque<ResponseEntry>> byUrl = new HashMap<>();
+  private final int capacity;
+  private final Deque<ResponseEntry> responses = new ArrayDeque<>();
+
+  PerformanceLogIndex(int capacity) {
+    this.capacity = Math.max(1, capacity);
+  }
+
+  /**
+   * Removes all indexed responses.
+   *
+   * @since 5.0.0
+   */
+  public synchronized void clear() {
+    responses.clear();
+    byStatus.clear();
+    byType.clear();
+    byUrl.clear();
+  }
+
+  /**
+   * Consumes new performance log entries and indexes received responses.
+   *
+   * @return responses received since last drain
+   * @since 5.0.0
+   */
+  public synchronized List<ResponseEntry> drain() {
+    List<LogEntry> entries = Browser.getPerformanceLog();
+    List<ResponseEntry> drained = new ArrayList<>();
+    for (LogEntry entry : entries) {
+      Map<String, String> message = PerformanceLogParser.parseResponse(entry.getMessage());
+      if (message != null) {
+        ResponseEntry response = new ResponseEntry(message, entry.getTimestamp());
+        add(response);
+        drained.add(response);
+      }
+    }
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("indexed " + drained.size() + " responses from " + entries.size() + " performance log entries");
+    }
+    return drained;
+  }
+
+  /**
+   * @param url request URL
+   * @return most recent response for URL or null, if none was received
+   * @since 5.0.0
+   */
+  public synchronized ResponseEntry getLatestResponse(String url) {
+    drain();
+    Deque<ResponseEntry> forUrl = byUrl.get(url);
+    if (forUrl == null) {
+      return null;
+    }
+    return forUrl.peekLast();
+  }
+
+  /**
+   * @return all indexed responses in order of arrival
+   * @since 5.0.0
+   */
+  public synchronized List<ResponseEntry> getResponses() {
+    drain();
+    return new ArrayList<>(responses);
+  }
+
+  /**
+   * @param url request URL
+   * @return responses for URL in order of arrival
+   * @since 5.0.0
+   */
+  public synchronized List<ResponseEntry> getResponsesForUrl(String url) {
+    return lookup(byUrl, url);
+  }
+
+  /**
+   * @param type resource type as reported by Chrome, i.e. "Document", "Image" or "XHR"
+   * @return responses for resources of type in order of arrival
+   * @since 5.0.0
+   */
+  public synchronized List<ResponseEntry> getResponsesOfType(String type) {
+    return lookup(byType, type);
+  }
+
+  /**
+   * @param status HTTP status code
+   * @return responses with status in order of arrival
+   * @since 5.0.0
+   */
+  public synchronized List<ResponseEntry> getResponsesWithStatus(int status) {
+    return lookup(byStatus, status);
+  }
+
+  synchronized void add(ResponseEntry response) {
+    if (responses.size() >= capacity) {
+      ResponseEntry oldest = responses.removeFirst();
+      unindex(byStatus, oldest.getResponseStatus());
+      unindex(byType, oldest.getType());
+      unindex(byUrl, oldest.getUrl());
+    }
+    responses.addLast(response);
+    index(byStatus, response.getResponseStatus(), response);
+    index(byType, response.getType(), response);
+    index(byUrl, response.getUrl(), response);
+  }
+
+  private <K> List<ResponseEntry> lookup(Map<K, Deque<ResponseEntry>> index, K key) {
+    drain();
+    Deque<ResponseEntry> found = index.get(key);
+    if (found == null) {
+      return Collections.emptyList();
+    }
+    return new ArrayList<>(found);
+  }
+
+  /**
+   * @return index of driver used by current thread
+   * @since 5.0.0
+   */
+  public static PerformanceLogIndex forCurrentDriver() {
+    WebDriver driver = GaleniumContext.getDriver();
+    if (driver == null) {
+      throw new GaleniumException("no driver to index performance log for.");
+    }
+    return INDICES.computeIfAbsent(driver, d -> new PerformanceLogIndex(GaleniumConfiguration.getWebDriverLogBufferSize()));
+  }
+
+  /**
+   * Drops index of driver and discards performance log entries it has not handed out yet. Used before a pooled driver
+   * is reused, so responses of earlier tests are not found by the next one.
+   *
+   * @param driver to reset index for
+   * @since 5.0.0
+   */
+  public static void reset(WebDriver driver) {
+    INDICES.remove(driver);
+    try {
+      if (driver.manage().logs().getAvailableLogTypes().contains(LogType.PERFORMANCE)) {
+        int discarded = driver.manage().logs().get(LogType.PERFORMANCE).getAll().size();
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("discarded " + discarded + " performance log entries of " + driver);
+        }
+      }
+    }
+    catch (WebDriverException ex) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("could not discard performance log of " + driver, ex);
+      }
+    }
+  }
+
+  private static <K> void index(Map<K, Deque<ResponseEntry>> index, K key, ResponseEntry response) {
+    if (key != null) {
+      index.computeIfAbsent(key, k -> new ArrayDeque<>()).addLast(response);
+    }
+  }
+
+  private static <K> void unindex(Map<K, Deque<ResponseEntry>> index, K key) {
+    if (key == null) {
+      return;
+    }
+    Deque<ResponseEntry> entries = index.get(key);
+    entries.removeFirst();
+    if (entries.isEmpty()) {
+      index.remove(key);
+    }
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.interaction.logs;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Extracts response data from performance log messages in a single streaming pass. Messages not mentioning
+ * {@value #NETWORK_RESPONSE_RECEIVED} are rejected without parsing and subtrees not containing any of the extracted
+ * keys are skipped.
+ *
+ * @since 5.0.0
+ */
+final class PerformanceLogParser {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PerformanceLogParser.class);
+
+  static final String MESSAGE_METHOD = "message.method";
+  static final String MESSAGE_PARAMS_DOCUMENT_URL = "message.params.documentURL";
+  static final String MESSAGE_PARAMS_REQUEST_METHOD = "message.params.request.method";
+  static final String MESSAGE_PARAMS_REQUEST_URL = "message.params.request.url";
+  static final String MESSAGE_PARAMS_RESPONSE_STATUS = "message.params.response.status";
+  static final String MESSAGE_PARAMS_RESPONSE_URL = "message.params.response.url";
+  static final String MESSAGE_PARAMS_TYPE = "message.params.type";
+  static final String NETWORK_RESPONSE_RECEIVED = "Network.responseReceived";
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final String QUOTED_RESPONSE_RECEIVED = "\"" + NETWORK_RESPONSE_RECEIVED + "\"";
+
+  private static final Set<String> KEYS = new HashSet<String>(Arrays.asList(
+      MESSAGE_METHOD,
+      MESSAGE_PARAMS_DOCUMENT_URL,
+      MESSAGE_PARAMS_REQUEST_METHOD,
+      MESSAGE_PARAMS_REQUEST_URL,
+      MESSAGE_PARAMS_RESPONSE_STATUS,
+      MESSAGE_PARAMS_RESPONSE_URL,
+      MESSAGE_PARAMS_TYPE));
+  private static final Set<String> PATHS = new HashSet<String>(Arrays.asList(
+      "message",
+      "message.params",
+      "message.params.request",
+      "message.params.response"));
+
+  private PerformanceLogParser() {
+    // do not instantiate
+  }
+
+  /**
+   * @param message JSON message of performance log entry
+   * @return extracted values using flattened keys or null, if message is not a received response
+   */
+  static Map<String, String> parseResponse(String message) {
+    if (message == null || !message.contains(QUOTED_RESPONSE_RECEIVED)) {
+      return null;
+    }
+    Map<String, String> values = new HashMap<String, String>();
+    Deque<String> path = new ArrayDeque<String>();
+    try (JsonParser parser = JSON_FACTORY.createParser(message)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return null;
+      }
+      String currentPath = "";
+      JsonToken token = parser.nextToken();
+      while (token != null) {
+        if (token == JsonToken.END_OBJECT) {
+          if (path.isEmpty()) {
+            break;
+          }
+          currentPath = path.pop();
+        }
+        else if (token == JsonToken.FIELD_NAME) {
+          String key = currentPath.isEmpty() ? parser.getCurrentName() : currentPath + "." + parser.getCurrentName();
+          JsonToken value = parser.nextToken();
+          if (value == JsonToken.START_OBJECT && PATHS.contains(key)) {
+            path.push(currentPath);
+            currentPath = key;
+          }
+          else if (value.isStructStart()) {
+            parser.skipChildren();
+          }
+          else if (value.isScalarValue() && KEYS.contains(key)) {
+            values.put(key, parser.getValueAsString());
+            if (MESSAGE_METHOD.equals(key) && !NETWORK_RESPONSE_RECEIVED.equals(values.get(key))) {
+              return null;
+            }
+          }
+        }
+        token = parser.nextToken();
+      }
+    }
+    catch (IOException ex) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("could not parse performance log message.", ex);
+      }
+      return null;
+    }
+    if (!NETWORK_RESPONSE_RECEIVED.equals(values.get(MESSAGE_METHOD))) {
+      return null;
+    }
+    return values;
+  }
+
+}
@@ -23,7 +23,6 @@ import java.util.Map;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
-import org.openqa.selenium.logging.LogEntry;
 
 /**
  * <p>ResponseEntry class.</p>
@@ -33,17 +32,13 @@ import org.openqa.selenium.logging.LogEntry;
 public class ResponseEntry {
 
   private static final int INVALID_STATUS = -1;
-  private static final String MESSAGE_PARAMS_DOCUMENT_URL = "message.params.documentURL";
-  private static final String MESSAGE_PARAMS_REQUEST_METHOD = "message.params.request.method";
-  private static final String MESSAGE_PARAMS_REQUEST_URL = "message.params.request.url";
-  private static final String MESSAGE_PARAMS_RESPONSE_STATUS = "message.params.response.status";
 
   private Map<String, String> message;
   private long timestamp;
 
-  ResponseEntry(LogEntry entry) {
-    setMessage(LogEntryUtil.getFlatMessage(entry));
-    setTimestamp(entry.getTimestamp());
+  ResponseEntry(Map<String, String> message, long timestamp) {
+    setMessage(message);
+    setTimestamp(timestamp);
   }
 
   /**
@@ -53,7 +48,7 @@ public class ResponseEntry {
    * @since 5.0.0
    */
   public String getDocumentUrl() {
-    return get(MESSAGE_PARAMS_DOCUMENT_URL);
+    return get(PerformanceLogParser.MESSAGE_PARAMS_DOCUMENT_URL);
   }
 
   /**
@@ -63,7 +58,7 @@ public class ResponseEntry {
    * @since 5.0.0
    */
   public String getRequestMethod() {
-    return get(MESSAGE_PARAMS_REQUEST_METHOD);
+    return get(PerformanceLogParser.MESSAGE_PARAMS_REQUEST_METHOD);
   }
 
   /**
@@ -73,7 +68,7 @@ public class ResponseEntry {
    * @since 5.0.0
    */
   public String getRequestUrl() {
-    return get(MESSAGE_PARAMS_REQUEST_URL);
+    return get(PerformanceLogParser.MESSAGE_PARAMS_REQUEST_URL);
   }
 
   /**
@@ -84,13 +79,23 @@ public class ResponseEntry {
    */
   public int getResponseStatus() {
     try {
-      return Integer.parseInt(get(MESSAGE_PARAMS_RESPONSE_STATUS));
+      return Integer.parseInt(get(PerformanceLogParser.MESSAGE_PARAMS_RESPONSE_STATUS));
     }
     catch (NumberFormatException ex) {
       return INVALID_STATUS;
     }
   }
 
+  /**
+   * <p>getResponseUrl.</p>
+   *
+   * @return response URL from log message
+   * @since 5.0.0
+   */
+  public String getResponseUrl() {
+    return get(PerformanceLogParser.MESSAGE_PARAMS_RESPONSE_URL);
+  }
+
   /**
    * <p>Getter for the field <code>timestamp</code>.</p>
    *
@@ -101,6 +106,30 @@ public class ResponseEntry {
     return timestamp;
   }
 
+  /**
+   * <p>getType.</p>
+   *
+   * @return resource type from log message, i.e. "Document", "Image" or "XHR"
+   * @since 5.0.0
+   */
+  public String getType() {
+    return get(PerformanceLogParser.MESSAGE_PARAMS_TYPE);
+  }
+
+  /**
+   * URL identifying this response.
+   *
+   * @return request URL if logged, otherwise response URL
+   * @since 5.0.0
+   */
+  public String getUrl() {
+    String requestUrl = getRequestUrl();
+    if (requestUrl != null) {
+      return requestUrl;
+    }
+    return getResponseUrl();
+  }
+
   private String get(String key) {
     return getMessage().get(key);
   }
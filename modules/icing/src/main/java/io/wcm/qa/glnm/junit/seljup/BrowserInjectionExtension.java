@@ -23,7 +23,11 @@ import static io.wcm.qa.glnm.junit.seljup.SeleniumJupiterUtil.asBrowserList;
 import static io.wcm.qa.glnm.junit.seljup.SeleniumJupiterUtil.getSeleniumExtension;
 import static org.junit.jupiter.engine.execution.GaleniumDriverParameterContext.driverParamContext;
 
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.AfterEachCallback;
@@ -39,6 +43,8 @@ import io.github.bonigarcia.seljup.Arguments;
 import io.github.bonigarcia.seljup.BrowserType;
 import io.wcm.qa.glnm.configuration.GaleniumConfiguration;
 import io.wcm.qa.glnm.context.GaleniumContext;
+import io.wcm.qa.glnm.exceptions.GaleniumException;
+import io.wcm.qa.glnm.metrics.Metrics;
 import io.wcm.qa.glnm.reporting.GaleniumReportUtil;
 import io.wcm.qa.glnm.webdriver.WebDriverManagement;
 
@@ -47,7 +53,13 @@ class BrowserInjectionExtension implements
     AfterEachCallback,
     AfterAllCallback {
 
+  private static final String ARGUMENT_ENABLE_LOGGING = "--enable-logging";
+  private static final String ARGUMENT_HEADLESS = "--headless";
   private static final Logger LOG = LoggerFactory.getLogger(BrowserInjectionExtension.class);
+  private static final String METHOD_HEADLESS_DRIVER = "setHeadlessDriver";
+  private static final String METHOD_VISIBLE_DRIVER = "setVisibleDriver";
+  private static final String METRIC_DRIVER_CREATE = "webdriver.create";
+  private static final Map<String, String> POOL_KEYS = new ConcurrentHashMap<>();
   private final BrowserType browserType;
 
   BrowserInjectionExtension(BrowserType browser) {
@@ -61,6 +73,9 @@ class BrowserInjectionExtension implements
       LOG.trace("after all: " + context.getUniqueId());
     }
     getSeleniumExtension().afterAll(context);
+    if (LOG.isDebugEnabled() && !GaleniumConfiguration.isWebDriverAlwaysNew()) {
+      LOG.debug(DriverPool.metricsAsString());
+    }
   }
 
   /** {@inheritDoc} */
@@ -70,6 +85,11 @@ class BrowserInjectionExtension implements
       LOG.trace("after each: " + context.getUniqueId());
     }
     screenshot(context);
+    if (!GaleniumConfiguration.isWebDriverAlwaysNew()) {
+      DriverPool.release(GaleniumContext.getDriver(), context.getExecutionException().isPresent());
+      setDriver((WebDriver)null);
+    }
+    // pooled drivers were created in their own context, so Selenium-Jupiter only cleans up the test's state
     getSeleniumExtension().afterEach(context);
   }
 
@@ -81,17 +101,49 @@ class BrowserInjectionExtension implements
     }
     String contextId = context.getUniqueId();
     updateBrowserList(contextId);
-    Object webDriver = getDriverFromSelJup(context);
-    if (isDriver(contextId, webDriver)) {
-      setDriver(webDriver);
+    if (GaleniumConfiguration.isWebDriverAlwaysNew()) {
+      Object webDriver = getDriverFromSelJup(context);
+      if (isDriver(contextId, webDriver)) {
+        setDriver(webDriver);
+      }
+      return;
+    }
+    WebDriver pooledDriver = DriverPool.lease(getPoolKey(), () -> {
+      ExtensionContext driverContext = new PooledDriverContext(context);
+      updateBrowserList(driverContext.getUniqueId());
+      Object webDriver = getDriverFromSelJup(driverContext);
+      if (isDriver(contextId, webDriver)) {
+        return (WebDriver)webDriver;
+      }
+      return null;
+    });
+    if (pooledDriver != null) {
+      setDriver(pooledDriver);
     }
   }
 
   private Object getDriverFromSelJup(ExtensionContext context) {
-    if (GaleniumConfiguration.isHeadless()) {
-      return SeleniumJupiterUtil.getDriverFromSelJup(driverParamContext(this, "setHeadlessDriver"), context);
+    long start = Metrics.start();
+    try {
+      return SeleniumJupiterUtil.getDriverFromSelJup(driverParamContext(this, getDriverMethodName()), context);
+    }
+    finally {
+      Metrics.stop(METRIC_DRIVER_CREATE, browserType.name(), start);
     }
-    return SeleniumJupiterUtil.getDriverFromSelJup(driverParamContext(this, "setVisibleDriver"), context);
+  }
+
+  /**
+   * Drivers are created with the arguments annotated on the injection method, so they can only be shared between tests
+   * using the same browser and the same method.
+   * @return key built from browser type and the arguments drivers are actually created with
+   */
+  String getPoolKey() {
+    String methodName = getDriverMethodName();
+    return POOL_KEYS.computeIfAbsent(browserType.name() + " " + methodName, key -> {
+      String[] arguments = getDriverArguments(methodName);
+      Arrays.sort(arguments);
+      return browserType.name() + " " + String.join(" ", arguments);
+    });
   }
 
   private boolean isDriver(String uniqueId, Object webDriver) {
@@ -145,19 +197,40 @@ class BrowserInjectionExtension implements
 
   void setHeadlessDriver(
       @Arguments({
-          "--headless",
-          "--enable-logging"
+          ARGUMENT_HEADLESS,
+          ARGUMENT_ENABLE_LOGGING
       }) WebDriver driver) {
     setDriver(driver);
   }
 
   void setVisibleDriver(
       @Arguments({
-          "--enable-logging"
+          ARGUMENT_ENABLE_LOGGING
       }) WebDriver driver) {
     setDriver(driver);
   }
 
+  private static String[] getDriverArguments(String methodName) {
+    try {
+      Method method = BrowserInjectionExtension.class.getDeclaredMethod(methodName, WebDriver.class);
+      Arguments arguments = method.getParameters()[0].getAnnotation(Arguments.class);
+      if (arguments == null) {
+        return new String[0];
+      }
+      return arguments.value().clone();
+    }
+    catch (NoSuchMethodException ex) {
+      throw new GaleniumException("could not find driver injection method: " + methodName, ex);
+    }
+  }
+
+  private static String getDriverMethodName() {
+    if (GaleniumConfiguration.isHeadless()) {
+      return METHOD_HEADLESS_DRIVER;
+    }
+    return METHOD_VISIBLE_DRIVER;
+  }
+
   private static void screenshot() {
     WebDriver currentDriver = WebDriverManagement.getCurrentDriver();
     if (currentDriver == null) {
@@ -40,6 +40,17 @@ public class BrowserTypesProvider
     CombinableProvider,
     AnnotationConsumer<BrowserTypes> {
 
+  /**
+   * Switching browser means starting a new driver.
+   */
+  private static final int SWITCH_COST = 100;
+
+  /** {@inheritDoc} */
+  @Override
+  public int switchCost() {
+    return SWITCH_COST;
+  }
+
   @Override
   protected Function<BrowserType, BrowserInjectionExtension> extensionProducer() {
     return BrowserInjectionExtension::new;
@@ -0,0 +1,379 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.junit.seljup;
+
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.wcm.qa.glnm.configuration.GaleniumConfiguration;
+import io.wcm.qa.glnm.exceptions.GaleniumException;
+import io.wcm.qa.glnm.interaction.LogRingBuffer;
+import io.wcm.qa.glnm.interaction.logs.PerformanceLogIndex;
+import io.wcm.qa.glnm.metrics.Metrics;
+import io.wcm.qa.glnm.webdriver.VisitedOrigins;
+
+/**
+ * Pool of warm drivers reused across tests. Drivers are pooled per key, which identifies browser type and arguments
+ * used to create them. At most {@link GaleniumConfiguration#getWebDriverPoolMaxSize()} drivers exist per key, further
+ * leases wait until a driver is released.
+ * <p>
+ * When a driver is released, cookies, local storage and session storage are cleared for every origin recorded in
+ * {@link VisitedOrigins} and for the page currently loaded. Afterwards a blank page is loaded, the window size is
+ * restored and log entries not read yet are discarded. Drivers are retired instead, when they visited too many origins,
+ * opened additional windows or could not be cleaned up. They are also retired after {@link GaleniumConfiguration#getWebDriverPoolMaxUses()} leases or when a
+ * test using them failed.
+ * </p>
+ *
+ * @since 5.0.0
+ */
+public final class DriverPool {
+
+  private static final String BLANK_PAGE = "about:blank";
+  private static final AtomicLong COUNT_CREATED = new AtomicLong();
+  private static final AtomicLong COUNT_LEASES = new AtomicLong();
+  private static final AtomicLong COUNT_RETIRED = new AtomicLong();
+  private static final AtomicLong COUNT_REUSED = new AtomicLong();
+  private static final Map<String, Deque<PooledDriver>> IDLE_DRIVERS = new ConcurrentHashMap<>();
+  private static final Map<WebDriver, PooledDriver> LEASED_DRIVERS = new ConcurrentHashMap<>();
+  private static final long LEASE_TIMEOUT_MINUTES = 10;
+  private static final AtomicLong LEASE_WAIT_NANOS = new AtomicLong();
+  private static final Logger LOG = LoggerFactory.getLogger(DriverPool.class);
+  private static final int MAX_CLEANED_ORIGINS = 3;
+  private static final String METRIC_LEASE = "webdriver.lease";
+  private static final Map<String, Semaphore> PERMITS = new ConcurrentHashMap<>();
+  private static final String SCRIPT_CLEAR_STORAGE = ""
+      + "try { window.localStorage.clear(); } catch (e) {}"
+      + "try { window.sessionStorage.clear(); } catch (e) {}";
+
+  static {
+    Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::retireIdleDrivers, "glnm-driver-pool-shutdown"));
+  }
+
+  private DriverPool() {
+    // do not instantiate
+  }
+
+  /**
+   * @return number of drivers instantiated by pool
+   * @since 5.0.0
+   */
+  public static long getCreatedCount() {
+    return COUNT_CREATED.get();
+  }
+
+  /**
+   * @return number of leases handed out by pool
+   * @since 5.0.0
+   */
+  public static long getLeaseCount() {
+    return COUNT_LEASES.get();
+  }
+
+  /**
+   * @return accumulated time leases waited for a driver to be released in milliseconds
+   * @since 5.0.0
+   */
+  public static long getLeaseWaitMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(LEASE_WAIT_NANOS.get());
+  }
+
+  /**
+   * @return number of drivers quit by pool
+   * @since 5.0.0
+   */
+  public static long getRetiredCount() {
+    return COUNT_RETIRED.get();
+  }
+
+  /**
+   * @return number of leases served by an already running driver
+   * @since 5.0.0
+   */
+  public static long getReuseCount() {
+    return COUNT_REUSED.get();
+  }
+
+  static WebDriver lease(String key, Supplier<WebDriver> driverFactory) {
+    long start = Metrics.start();
+    try {
+      Semaphore permits = getPermits(key);
+      acquire(key, permits);
+      boolean leased = false;
+      try {
+        Deque<PooledDriver> idleDrivers = getIdleDrivers(key);
+        PooledDriver pooledDriver = idleDrivers.pollFirst();
+        while (pooledDriver != null && !pooledDriver.isAlive()) {
+          retire(pooledDriver);
+          pooledDriver = idleDrivers.pollFirst();
+        }
+        if (pooledDriver != null) {
+          COUNT_REUSED.incrementAndGet();
+          leased = true;
+          return leased(pooledDriver);
+        }
+        WebDriver driver = driverFactory.get();
+        if (driver == null) {
+          return null;
+        }
+        COUNT_CREATED.incrementAndGet();
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("new pooled driver for '" + key + "': " + driver);
+        }
+        leased = true;
+        return leased(new PooledDriver(key, driver));
+      }
+      finally {
+        if (!leased) {
+          permits.release();
+        }
+      }
+    }
+    finally {
+      COUNT_LEASES.incrementAndGet();
+      Metrics.stop(METRIC_LEASE, key, start);
+    }
+  }
+
+  static String metricsAsString() {
+    return "driver pool: "
+        + getLeaseCount() + " leases, "
+        + getCreatedCount() + " created, "
+        + getReuseCount() + " reused, "
+        + getRetiredCount() + " retired, "
+        + getLeaseWaitMillis() + "ms waited";
+  }
+
+  static void release(WebDriver driver, boolean failed) {
+    Set<String> visitedOrigins = VisitedOrigins.take();
+    if (driver == null) {
+      return;
+    }
+    PooledDriver pooledDriver = LEASED_DRIVERS.remove(driver);
+    if (pooledDriver == null) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("not a leased driver: " + driver);
+      }
+      return;
+    }
+    try {
+      if (failed) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("retiring driver after failed test: " + driver);
+        }
+        retire(pooledDriver);
+        return;
+      }
+      if (pooledDriver.getUses() >= GaleniumConfiguration.getWebDriverPoolMaxUses()) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("retiring driver after " + pooledDriver.getUses() + " uses: " + driver);
+        }
+        retire(pooledDriver);
+        return;
+      }
+      if (!pooledDriver.reset(visitedOrigins)) {
+        retire(pooledDriver);
+        return;
+      }
+      getIdleDrivers(pooledDriver.getKey()).offerFirst(pooledDriver);
+    }
+    finally {
+      getPermits(pooledDriver.getKey()).release();
+    }
+  }
+
+  private static void acquire(String key, Semaphore permits) {
+    long start = System.nanoTime();
+    try {
+      if (!permits.tryAcquire(LEASE_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+        throw new GaleniumException("no pooled driver released for '" + key + "' within " + LEASE_TIMEOUT_MINUTES + " minutes");
+      }
+    }
+    catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new GaleniumException("interrupted when waiting for pooled driver: " + key, ex);
+    }
+    finally {
+      LEASE_WAIT_NANOS.addAndGet(System.nanoTime() - start);
+    }
+  }
+
+  private static Deque<PooledDriver> getIdleDrivers(String key) {
+    return IDLE_DRIVERS.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+  }
+
+  private static Semaphore getPermits(String key) {
+    return PERMITS.computeIfAbsent(key, k -> new Semaphore(Math.max(1, GaleniumConfiguration.getWebDriverPoolMaxSize()), true));
+  }
+
+  private static WebDriver leased(PooledDriver pooledDriver) {
+    pooledDriver.incrementUses();
+    LEASED_DRIVERS.put(pooledDriver.getDriver(), pooledDriver);
+    return pooledDriver.getDriver();
+  }
+
+  private static void retire(PooledDriver pooledDriver) {
+    COUNT_RETIRED.incrementAndGet();
+    try {
+      pooledDriver.getDriver().quit();
+    }
+    catch (WebDriverException ex) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("when quitting pooled driver: " + pooledDriver.getDriver(), ex);
+      }
+    }
+  }
+
+  private static void retireIdleDrivers() {
+    for (Deque<PooledDriver> idleDrivers : IDLE_DRIVERS.values()) {
+      PooledDriver pooledDriver = idleDrivers.pollFirst();
+      while (pooledDriver != null) {
+        retire(pooledDriver);
+        pooledDriver = idleDrivers.pollFirst();
+      }
+    }
+    if (LOG.isInfoEnabled()) {
+      LOG.info(metricsAsString());
+    }
+  }
+
+  private static final class PooledDriver {
+
+    private final WebDriver driver;
+    private final Dimension initialSize;
+    private final String key;
+    private int uses;
+
+    PooledDriver(String key, WebDriver driver) {
+      this.key = key;
+      this.driver = driver;
+      this.initialSize = getWindowSize(driver);
+    }
+
+    WebDriver getDriver() {
+      return driver;
+    }
+
+    String getKey() {
+      return key;
+    }
+
+    int getUses() {
+      return uses;
+    }
+
+    void incrementUses() {
+      uses++;
+    }
+
+    boolean isAlive() {
+      try {
+        driver.getWindowHandles();
+        return true;
+      }
+      catch (WebDriverException ex) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("idle driver is gone: " + driver, ex);
+        }
+        return false;
+      }
+    }
+
+    boolean reset(Set<String> visitedOrigins) {
+      try {
+        if (driver.getWindowHandles().size() > 1) {
+          if (LOG.isDebugEnabled()) {
+            LOG.debug("not reusing driver with additional windows: " + driver);
+          }
+          return false;
+        }
+        String currentOrigin = VisitedOrigins.originOf(driver.getCurrentUrl());
+        Set<String> origins = new LinkedHashSet<>();
+        if (currentOrigin != null) {
+          origins.add(currentOrigin);
+        }
+        origins.addAll(visitedOrigins);
+        if (origins.size() > MAX_CLEANED_ORIGINS) {
+          if (LOG.isDebugEnabled()) {
+            LOG.debug("not reusing driver after visiting " + origins.size() + " origins: " + driver);
+          }
+          return false;
+        }
+        for (String origin : origins) {
+          if (!origin.equals(currentOrigin)) {
+            driver.get(origin + "/");
+          }
+          if (!clearOrigin()) {
+            return false;
+          }
+        }
+        driver.get(BLANK_PAGE);
+        if (initialSize != null) {
+          driver.manage().window().setSize(initialSize);
+        }
+        PerformanceLogIndex.reset(driver);
+        LogRingBuffer.reset(driver);
+        return true;
+      }
+      catch (WebDriverException ex) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("could not reset pooled driver: " + driver, ex);
+        }
+        return false;
+      }
+    }
+
+    private boolean clearOrigin() {
+      if (!(driver instanceof JavascriptExecutor)) {
+        return false;
+      }
+      driver.manage().deleteAllCookies();
+      ((JavascriptExecutor)driver).executeScript(SCRIPT_CLEAR_STORAGE);
+      return true;
+    }
+
+    private static Dimension getWindowSize(WebDriver driver) {
+      try {
+        return driver.manage().window().getSize();
+      }
+      catch (WebDriverException ex) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("could not get window size of: " + driver, ex);
+        }
+        return null;
+      }
+    }
+  }
+
+}
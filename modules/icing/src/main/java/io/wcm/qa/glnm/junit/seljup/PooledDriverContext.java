@@ -0,0 +1,129 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.junit.seljup;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestInstances;
+
+/**
+ * Context used to create pooled drivers with Selenium-Jupiter. It has its own unique ID, so Selenium-Jupiter keeps the
+ * driver separate from the test's context and does not quit it when cleaning up after the test.
+ */
+class PooledDriverContext implements ExtensionContext {
+
+  private static final AtomicLong COUNT = new AtomicLong();
+
+  private final ExtensionContext delegate;
+  private final String uniqueId;
+
+  PooledDriverContext(ExtensionContext delegate) {
+    this.delegate = delegate;
+    this.uniqueId = delegate.getUniqueId() + "/[pooled-driver:" + COUNT.incrementAndGet() + "]";
+  }
+
+  @Override
+  public Optional<String> getConfigurationParameter(String key) {
+    return delegate.getConfigurationParameter(key);
+  }
+
+  public <T> Optional<T> getConfigurationParameter(String key, Function<String, T> transformer) {
+    return getConfigurationParameter(key).map(transformer);
+  }
+
+  @Override
+  public String getDisplayName() {
+    return delegate.getDisplayName();
+  }
+
+  @Override
+  public Optional<AnnotatedElement> getElement() {
+    return delegate.getElement();
+  }
+
+  @Override
+  public Optional<Throwable> getExecutionException() {
+    return delegate.getExecutionException();
+  }
+
+  @Override
+  public Optional<ExtensionContext> getParent() {
+    return delegate.getParent();
+  }
+
+  @Override
+  public ExtensionContext getRoot() {
+    return delegate.getRoot();
+  }
+
+  @Override
+  public Store getStore(Namespace namespace) {
+    return delegate.getStore(namespace);
+  }
+
+  @Override
+  public Set<String> getTags() {
+    return delegate.getTags();
+  }
+
+  @Override
+  public Optional<Class<?>> getTestClass() {
+    return delegate.getTestClass();
+  }
+
+  @Override
+  public Optional<Object> getTestInstance() {
+    return delegate.getTestInstance();
+  }
+
+  @Override
+  public Optional<Lifecycle> getTestInstanceLifecycle() {
+    return delegate.getTestInstanceLifecycle();
+  }
+
+  @Override
+  public Optional<TestInstances> getTestInstances() {
+    return delegate.getTestInstances();
+  }
+
+  @Override
+  public Optional<Method> getTestMethod() {
+    return delegate.getTestMethod();
+  }
+
+  @Override
+  public String getUniqueId() {
+    return uniqueId;
+  }
+
+  @Override
+  public void publishReportEntry(Map<String, String> map) {
+    delegate.publishReportEntry(map);
+  }
+
+}
@@ -37,6 +37,17 @@ class ViewportWidthProvider
     CombinableProvider,
     AnnotationConsumer<ViewportWidths> {
 
+  /**
+   * Switching viewport means resizing the window and layouting the page again.
+   */
+  private static final int SWITCH_COST = 10;
+
+  /** {@inheritDoc} */
+  @Override
+  public int switchCost() {
+    return SWITCH_COST;
+  }
+
   @Override
   protected Function<Integer, ViewportWidthExtension> extensionProducer() {
     return ViewportWidthExtension::new;
@@ -0,0 +1,148 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.persistence;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.wcm.qa.glnm.exceptions.GaleniumException;
+import io.wcm.qa.glnm.metrics.Metrics;
+
+/**
+ * Write-behind persistence of samples. A single background thread writes samples per class. Classes already waiting
+ * to be written are not queued again, so repeated updates are coalesced into one write of the latest state. When the
+ * queue is full, scheduling blocks until the writer caught up. Pending writes are flushed on JVM shutdown.
+ *
+ * @since 5.0.0
+ */
+final class BaselineWriter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BaselineWriter.class);
+  private static final String METRIC_WRITE = "persistence.write";
+
+  private static final int QUEUE_CAPACITY = 64;
+
+  private static final Map<Class, SampleStore> PENDING = new ConcurrentHashMap<>();
+  private static final BlockingQueue<Class> QUEUE = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+  private static final Set<Class> QUEUED = ConcurrentHashMap.newKeySet();
+  private static final Object WRITE_LOCK = new Object();
+  private static final Map<Class, String> WRITTEN = new ConcurrentHashMap<>();
+
+  static {
+    Thread writer = new Thread(BaselineWriter::writeContinuously, "glnm-baseline-writer");
+    writer.setDaemon(true);
+    writer.start();
+    Runtime.getRuntime().addShutdownHook(new Thread(BaselineWriter::flush, "glnm-baseline-writer-shutdown"));
+  }
+
+  private BaselineWriter() {
+    // do not instantiate
+  }
+
+  /**
+   * Writes all pending samples on the calling thread and waits for a write already started by the writer thread.
+   */
+  static void flush() {
+    for (Class clazz : PENDING.keySet()) {
+      write(clazz);
+    }
+    synchronized (WRITE_LOCK) {
+      // writer thread removes samples from pending only while holding the lock
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("flushed samples, " + PENDING.size() + " scheduled since");
+      }
+    }
+  }
+
+  /**
+   * Queues samples of class for writing.
+   * @param clazz class samples belong to
+   * @param samples to write
+   */
+  static void schedule(Class clazz, SampleStore samples) {
+    PENDING.put(clazz, samples);
+    if (!QUEUED.add(clazz)) {
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("coalescing samples for " + clazz);
+      }
+      return;
+    }
+    try {
+      QUEUE.put(clazz);
+    }
+    catch (InterruptedException ex) {
+      QUEUED.remove(clazz);
+      Thread.currentThread().interrupt();
+      throw new GaleniumException("interrupted when scheduling samples for " + clazz, ex);
+    }
+  }
+
+  private static void write(Class clazz) {
+    synchronized (WRITE_LOCK) {
+      QUEUED.remove(clazz);
+      SampleStore samples = PENDING.remove(clazz);
+      if (samples == null) {
+        return;
+      }
+      String content = PersistenceUtil.toString(samples.toProperties());
+      if (content == null) {
+        return;
+      }
+      if (content.equals(WRITTEN.get(clazz))) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("samples unchanged since last write for " + clazz);
+        }
+        return;
+      }
+      long start = Metrics.start();
+      try {
+        if (PersistenceUtil.writeSamplesForClass(content, samples.size(), clazz)) {
+          WRITTEN.put(clazz, content);
+        }
+      }
+      finally {
+        Metrics.stop(METRIC_WRITE, clazz.getSimpleName(), start);
+      }
+    }
+  }
+
+  private static void writeContinuously() {
+    while (true) {
+      try {
+        write(QUEUE.take());
+      }
+      catch (InterruptedException ex) {
+        LOG.debug("baseline writer interrupted.", ex);
+        Thread.currentThread().interrupt();
+        return;
+      }
+      catch (RuntimeException ex) {
+        LOG.error("when writing samples.", ex);
+      }
+    }
+  }
+
+}
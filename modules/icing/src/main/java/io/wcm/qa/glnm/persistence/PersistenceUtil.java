@@ -20,12 +20,16 @@
 package io.wcm.qa.glnm.persistence;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
-import java.io.Writer;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
 import org.apache.commons.configuration2.PropertiesConfiguration;
 import org.apache.commons.configuration2.builder.fluent.Configurations;
@@ -42,6 +46,7 @@ final class PersistenceUtil {
   private static final Logger LOG = LoggerFactory.getLogger(PersistenceUtil.class);
 
   private static final String POSTFIX_PROPERTIES = "properties";
+  private static final String SUFFIX_TEMP = ".tmp";
 
   private PersistenceUtil() {
     // do not instantiate
@@ -96,30 +101,46 @@ final class PersistenceUtil {
     }
   }
 
-  static void writeSamplesForClass(PropertiesConfiguration samples, Class clazz) {
-    Writer writer = null;
+  static String toString(PropertiesConfiguration samples) {
+    StringWriter writer = new StringWriter();
     try {
-      File outputFile = getOutputFile(clazz);
-      if (LOG.isInfoEnabled()) {
-        LOG.info("writing {} properties to '{}'", samples.size(), outputFile.getPath());
-      }
-      FileUtils.forceMkdirParent(outputFile);
-      writer = new FileWriter(outputFile, false);
-      // TODO: refactor to use FileHandler
       samples.write(writer);
+      return writer.toString();
     }
     catch (IOException | ConfigurationException ex) {
-      LOG.error("could not persist samples.", ex);
+      LOG.error("could not serialize samples.", ex);
+      return null;
     }
-    finally {
-      if (writer != null) {
-        try {
-          writer.close();
-        }
-        catch (IOException ex) {
-          LOG.error("when closing writer while persisting samples.", ex);
+  }
+
+  static boolean writeSamplesForClass(String samples, int sampleCount, Class clazz) {
+    File outputFile = getOutputFile(clazz);
+    if (LOG.isInfoEnabled()) {
+      LOG.info("writing {} properties to '{}'", sampleCount, outputFile.getPath());
+    }
+    Path tempFile = null;
+    try {
+      FileUtils.forceMkdirParent(outputFile);
+      Path target = outputFile.toPath();
+      tempFile = Files.createTempFile(target.getParent(), outputFile.getName(), SUFFIX_TEMP);
+      Files.write(tempFile, samples.getBytes(Charset.defaultCharset()));
+      try {
+        Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      }
+      catch (AtomicMoveNotSupportedException ex) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("atomic move not supported for '" + outputFile.getPath() + "'", ex);
         }
+        Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+      return true;
+    }
+    catch (IOException ex) {
+      LOG.error("could not persist samples.", ex);
+      if (tempFile != null) {
+        FileUtils.deleteQuietly(tempFile.toFile());
       }
+      return false;
     }
   }
 
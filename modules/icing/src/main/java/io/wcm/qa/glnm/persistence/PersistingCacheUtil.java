@@ -32,19 +32,21 @@ import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 
 import io.wcm.qa.glnm.exceptions.GaleniumException;
+import io.wcm.qa.glnm.metrics.Metrics;
 
 final class PersistingCacheUtil {
 
   private static final LoadingCache<Class, PropertiesConfiguration> CACHES_BASELINE_PER_CLASS = cacheWith(new BaselineCacheLoader());
 
-  private static final LoadingCache<Class, PropertiesConfiguration> CACHES_SAMPLES_PER_CLASS = cacheWith(new SampleCacheLoader());
+  private static final LoadingCache<Class, SampleStore> CACHES_SAMPLES_PER_CLASS = cacheWith(new SampleCacheLoader());
   private static final Logger LOG = LoggerFactory.getLogger(PersistingCacheUtil.class);
+  private static final String METRIC_LOAD = "persistence.load";
 
   private PersistingCacheUtil() {
     // do not instantiate
   }
 
-  private static LoadingCache<Class, PropertiesConfiguration> cacheWith(CacheLoader<Class, PropertiesConfiguration> cacheLoader) {
+  private static <T> LoadingCache<Class, T> cacheWith(CacheLoader<Class, T> cacheLoader) {
     return CacheBuilder.newBuilder().build(cacheLoader);
   }
 
@@ -57,7 +59,7 @@ final class PersistingCacheUtil {
     }
   }
 
-  static PropertiesConfiguration cachedSamplesForProperties(Class clazz) {
+  static SampleStore cachedSamples(Class clazz) {
     try {
       return CACHES_SAMPLES_PER_CLASS.get(clazz);
     }
@@ -67,7 +69,7 @@ final class PersistingCacheUtil {
   }
 
   static void persistNewBaseline() {
-    Set<Entry<Class, PropertiesConfiguration>> allSamplesForAllClasses = CACHES_SAMPLES_PER_CLASS.asMap().entrySet();
+    Set<Entry<Class, SampleStore>> allSamplesForAllClasses = CACHES_SAMPLES_PER_CLASS.asMap().entrySet();
     if (allSamplesForAllClasses.isEmpty()) {
       LOG.info("no new baseline to persist");
       return;
@@ -76,13 +78,13 @@ final class PersistingCacheUtil {
     if (LOG.isDebugEnabled()) {
       LOG.debug("persisting baseline for " + allSamplesForAllClasses.size() + " classes");
     }
-    for (Entry<Class, PropertiesConfiguration> samplesForClass : allSamplesForAllClasses) {
-      PropertiesConfiguration samples = samplesForClass.getValue();
+    for (Entry<Class, SampleStore> samplesForClass : allSamplesForAllClasses) {
+      SampleStore samples = samplesForClass.getValue();
       Class clazz = samplesForClass.getKey();
       if (LOG.isDebugEnabled()) {
-        LOG.debug("persisting " + samples.size() + " samples baseline for " + clazz);
+        LOG.debug("scheduling " + samples.size() + " samples baseline for " + clazz);
       }
-      PersistenceUtil.writeSamplesForClass(samples, clazz);
+      BaselineWriter.schedule(clazz, samples);
     }
   }
 
@@ -92,19 +94,23 @@ final class PersistingCacheUtil {
       if (LOG.isDebugEnabled()) {
         LOG.debug("initializing baseline for " + key);
       }
-      return PersistenceUtil.getPropertiesFor(key);
+      long start = Metrics.start();
+      try {
+        return PersistenceUtil.getPropertiesFor(key);
+      }
+      finally {
+        Metrics.stop(METRIC_LOAD, key.getSimpleName(), start);
+      }
     }
   }
 
-  private static final class SampleCacheLoader extends CacheLoader<Class, PropertiesConfiguration> {
+  private static final class SampleCacheLoader extends CacheLoader<Class, SampleStore> {
     @Override
-    public PropertiesConfiguration load(Class key) throws Exception {
+    public SampleStore load(Class key) throws Exception {
       if (LOG.isDebugEnabled()) {
         LOG.debug("initializing samples for " + key);
       }
-      PropertiesConfiguration samples = new PropertiesConfiguration();
-      samples.append(cachedBaselineForProperties(key));
-      return samples;
+      return new SampleStore(cachedBaselineForProperties(key));
     }
   }
 
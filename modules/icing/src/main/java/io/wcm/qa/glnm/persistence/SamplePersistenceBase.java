@@ -51,7 +51,7 @@ abstract class SamplePersistenceBase<T> implements SamplePersistence<T> {
   /** {@inheritDoc} */
   @Override
   public void storeToBaseline(Differences key, T sample) {
-    samples().setProperty(keyWithContextDifferences(key), sample);
+    samples().put(keyWithContextDifferences(key), sample);
   }
 
   private Class initResourceClass() {
@@ -89,8 +89,8 @@ abstract class SamplePersistenceBase<T> implements SamplePersistence<T> {
 
   protected abstract T fetchBaseline(String keyWithContextDifferences);
 
-  protected PropertiesConfiguration samples() {
-    return PersistingCacheUtil.cachedSamplesForProperties(getResourceClass());
+  protected SampleStore samples() {
+    return PersistingCacheUtil.cachedSamples(getResourceClass());
   }
 
   protected void setResourceClass(Class resourceClass) {
@@ -0,0 +1,93 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.persistence;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.configuration2.PropertiesConfiguration;
+import org.apache.commons.lang3.ArrayUtils;
+
+/**
+ * Samples of one resource class. Tests running in parallel store samples without locking. Samples are converted to
+ * {@link org.apache.commons.configuration2.PropertiesConfiguration} for writing, so persisted files can be read as
+ * baseline again. Keys are written in sorted order.
+ *
+ * @since 5.0.0
+ */
+final class SampleStore {
+
+  private final Map<String, Object> samples = new ConcurrentHashMap<>();
+
+  /**
+   * @param baseline initial samples
+   */
+  SampleStore(PropertiesConfiguration baseline) {
+    Iterator<String> keys = baseline.getKeys();
+    while (keys.hasNext()) {
+      String key = keys.next();
+      put(key, baseline.getProperty(key));
+    }
+  }
+
+  /**
+   * Stores sample. Collections and arrays are copied. Storing null removes the sample.
+   * @param key to store sample under
+   * @param sample to store
+   */
+  void put(String key, Object sample) {
+    if (sample == null) {
+      samples.remove(key);
+    }
+    else if (sample instanceof Collection) {
+      samples.put(key, new ArrayList<>((Collection<?>)sample));
+    }
+    else if (sample instanceof Object[]) {
+      samples.put(key, ArrayUtils.clone((Object[])sample));
+    }
+    else {
+      samples.put(key, sample);
+    }
+  }
+
+  /**
+   * @return number of samples
+   */
+  int size() {
+    return samples.size();
+  }
+
+  /**
+   * @return snapshot of samples ready to be written
+   */
+  PropertiesConfiguration toProperties() {
+    PropertiesConfiguration properties = new PropertiesConfiguration();
+    for (Entry<String, Object> sample : new TreeMap<>(samples).entrySet()) {
+      properties.setProperty(sample.getKey(), sample.getValue());
+    }
+    return properties;
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.hamcrest;
+
+import static io.wcm.qa.glnm.hamcrest.Quiescent.quiescent;
+import static io.wcm.qa.glnm.hamcrest.Stable.stableSample;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import io.wcm.qa.glnm.context.GaleniumContext;
+import io.wcm.qa.glnm.sampling.Sampler;
+
+class QuiescentTest {
+
+  private static final Object BUSY = Arrays.asList(1L, 0L);
+  private static final Duration QUIET_WINDOW = Duration.ofMillis(500);
+  private static final Object QUIET = Arrays.asList(0L, 1000L);
+
+  private final Deque<Object> activity = new ArrayDeque<>();
+  private final Deque<String> samples = new ArrayDeque<>();
+  private int sampleCount;
+  private final Sampler<String> sampler = () -> {
+    sampleCount++;
+    return samples.poll();
+  };
+
+  @BeforeEach
+  void setUp() {
+    WebDriver driver = mock(WebDriver.class, withSettings()
+        .extraInterfaces(JavascriptExecutor.class)
+        .defaultAnswer(invocation -> {
+          if ("executeScript".equals(invocation.getMethod().getName())) {
+            return activity.poll();
+          }
+          return null;
+        }));
+    GaleniumContext.getContext().setDriver(driver);
+  }
+
+  @AfterEach
+  void tearDown() {
+    GaleniumContext.getContext().setDriver(null);
+  }
+
+  @Test
+  void testBusyPageIsNotSampled() {
+    activity.add(BUSY);
+    assertThat(quiescent(QUIET_WINDOW, is("value")).matches(sampler), is(false));
+    assertThat(sampleCount, is(0));
+  }
+
+  @Test
+  void testQuietPageIsSampledAndMatched() {
+    activity.add(QUIET);
+    samples.add("value");
+    assertThat(quiescent(QUIET_WINDOW, is("value")).matches(sampler), is(true));
+    assertThat(sampleCount, is(1));
+  }
+
+  @Test
+  void testRecentActivityIsNotQuiet() {
+    activity.add(Arrays.asList(0L, 100L));
+    assertThat(quiescent(QUIET_WINDOW, is("value")).matches(sampler), is(false));
+    assertThat(sampleCount, is(0));
+  }
+
+  @Test
+  void testStableSampleNeedsTwoEqualQuietSamples() {
+    Matcher<Sampler<String>> stable = stableSample(QUIET_WINDOW);
+    activity.addAll(Arrays.asList(QUIET, BUSY, QUIET, QUIET));
+    samples.addAll(Arrays.asList("loading", "loaded", "loaded"));
+
+    assertThat("first sample has nothing to compare to", stable.matches(sampler), is(false));
+    assertThat("busy page", stable.matches(sampler), is(false));
+    assertThat("changed sample", stable.matches(sampler), is(false));
+    assertThat("same sample", stable.matches(sampler), is(true));
+    assertThat(sampleCount, is(3));
+  }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.interaction.logs;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntries;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+
+import io.wcm.qa.glnm.context.GaleniumContext;
+
+class PerformanceLogIndexTest {
+
+  private static final LogEntries NO_ENTRIES = new LogEntries(Collections.<LogEntry>emptyList());
+  private static final String URL = "https://example.com/";
+
+  private WebDriver driver;
+
+  @BeforeEach
+  void setUp() {
+    driver = mock(WebDriver.class, withSettings().defaultAnswer(Answers.RETURNS_DEEP_STUBS));
+    when(driver.manage().logs().getAvailableLogTypes()).thenReturn(Collections.singleton(LogType.PERFORMANCE));
+    when(driver.manage().logs().get(LogType.PERFORMANCE)).thenReturn(NO_ENTRIES);
+    GaleniumContext.getContext().setDriver(driver);
+  }
+
+  @AfterEach
+  void tearDown() {
+    PerformanceLogIndex.reset(driver);
+    GaleniumContext.getContext().setDriver(null);
+  }
+
+  @Test
+  void testOldestResponsesAreDropped() {
+    PerformanceLogIndex index = new PerformanceLogIndex(2);
+    ResponseEntry first = response(URL, 200);
+    ResponseEntry second = response(URL, 404);
+    ResponseEntry third = response("https://example.com/other", 200);
+    index.add(first);
+    index.add(second);
+    index.add(third);
+    assertThat(index.getResponses(), contains(second, third));
+    assertThat(index.getResponsesForUrl(URL), contains(second));
+    assertThat(index.getResponsesWithStatus(200), contains(third));
+  }
+
+  @Test
+  void testLatestResponse() {
+    PerformanceLogIndex index = new PerformanceLogIndex(10);
+    index.add(response(URL, 302));
+    ResponseEntry latest = response(URL, 200);
+    index.add(latest);
+    assertThat(index.getLatestResponse(URL), sameInstance(latest));
+  }
+
+  @Test
+  void testResetDropsResponsesOfPreviousTest() {
+    PerformanceLogIndex.forCurrentDriver().add(response(URL, 500));
+    PerformanceLogIndex.reset(driver);
+    assertThat(PerformanceLogIndex.forCurrentDriver().getLatestResponse(URL), is(nullValue()));
+  }
+
+  @Test
+  void testResetDiscardsUnreadLogEntries() {
+    LogEntry unread = new LogEntry(Level.INFO, System.currentTimeMillis(), "{\"message\":{\"method\":\"Network.responseReceived\","
+        + "\"params\":{\"type\":\"Document\",\"response\":{\"status\":500,\"url\":\"" + URL + "\"}}}}");
+    when(driver.manage().logs().get(LogType.PERFORMANCE))
+        .thenReturn(new LogEntries(Collections.singletonList(unread)))
+        .thenReturn(NO_ENTRIES);
+    PerformanceLogIndex.reset(driver);
+    assertThat(PerformanceLogIndex.forCurrentDriver().getResponses(), is(empty()));
+  }
+
+  private static ResponseEntry response(String url, int status) {
+    Map<String, String> message = new HashMap<>();
+    message.put(PerformanceLogParser.MESSAGE_PARAMS_RESPONSE_URL, url);
+    message.put(PerformanceLogParser.MESSAGE_PARAMS_RESPONSE_STATUS, Integer.toString(status));
+    message.put(PerformanceLogParser.MESSAGE_PARAMS_TYPE, "Document");
+    return new ResponseEntry(message, System.currentTimeMillis());
+  }
+
+}
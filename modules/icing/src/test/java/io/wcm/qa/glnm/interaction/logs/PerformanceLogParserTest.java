@@ -0,0 +1,71 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.interaction.logs;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Map;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+class PerformanceLogParserTest {
+
+  private static final String RESPONSE_RECEIVED = "{\"message\":{\"method\":\"Network.responseReceived\","
+      + "\"params\":{\"frameId\":\"F1\",\"requestId\":\"1000.1\",\"type\":\"Image\","
+      + "\"response\":{\"headers\":{\"content-type\":\"image/png\"},\"status\":404,"
+      + "\"timing\":{\"dnsEnd\":-1},\"url\":\"https://example.com/logo.png\"}}},"
+      + "\"webview\":\"ABC\"}";
+
+  private static final String REQUEST_WILL_BE_SENT = "{\"message\":{\"method\":\"Network.requestWillBeSent\","
+      + "\"params\":{\"initiator\":{\"type\":\"parser\",\"note\":\"Network.responseReceived\"},"
+      + "\"request\":{\"method\":\"GET\",\"url\":\"https://example.com/\"}}},\"webview\":\"ABC\"}";
+
+  @Test
+  void testOtherMethod() {
+    assertThat(PerformanceLogParser.parseResponse(REQUEST_WILL_BE_SENT), nullValue());
+  }
+
+  @Test
+  void testResponseReceived() {
+    Map<String, String> values = PerformanceLogParser.parseResponse(RESPONSE_RECEIVED);
+    assertThat(values, hasEntry(PerformanceLogParser.MESSAGE_PARAMS_RESPONSE_STATUS, "404"));
+    assertThat(values, hasEntry(PerformanceLogParser.MESSAGE_PARAMS_RESPONSE_URL, "https://example.com/logo.png"));
+    assertThat(values, hasEntry(PerformanceLogParser.MESSAGE_PARAMS_TYPE, "Image"));
+    assertThat(values, not(Matchers.hasKey("message.params.response.headers.content-type")));
+  }
+
+  @Test
+  void testResponseEntry() {
+    ResponseEntry entry = new ResponseEntry(PerformanceLogParser.parseResponse(RESPONSE_RECEIVED), 1L);
+    assertThat(entry.getResponseStatus(), is(404));
+    assertThat(entry.getUrl(), is("https://example.com/logo.png"));
+  }
+
+  @Test
+  void testUnrelatedMessage() {
+    assertThat(PerformanceLogParser.parseResponse("{\"message\":{\"method\":\"Page.loadEventFired\"}}"), nullValue());
+  }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.junit.seljup;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.bonigarcia.seljup.BrowserType;
+
+class BrowserInjectionExtensionTest {
+
+  private static final String PROPERTY_HEADLESS = "galenium.headless";
+
+  @AfterEach
+  void tearDown() {
+    System.clearProperty(PROPERTY_HEADLESS);
+  }
+
+  @Test
+  void testHeadlessPoolKeyUsesInjectedArguments() {
+    System.setProperty(PROPERTY_HEADLESS, "true");
+    assertThat(new BrowserInjectionExtension(BrowserType.CHROME).getPoolKey(), is("CHROME --enable-logging --headless"));
+  }
+
+  @Test
+  void testVisiblePoolKeyUsesInjectedArguments() {
+    System.setProperty(PROPERTY_HEADLESS, "false");
+    assertThat(new BrowserInjectionExtension(BrowserType.CHROME).getPoolKey(), is("CHROME --enable-logging"));
+  }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.junit.seljup;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.emptyIterable;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogEntries;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.Logs;
+
+import io.wcm.qa.glnm.context.GaleniumContext;
+import io.wcm.qa.glnm.sampling.browser.BrowserLogSampler;
+import io.wcm.qa.glnm.webdriver.VisitedOrigins;
+
+class DriverPoolTest {
+
+  private static final String BLANK_PAGE = "about:blank";
+  private static final String CURRENT_URL = "https://www.example.com/page.html";
+  private static final String PROPERTY_MAX_SIZE = "galenium.webdriver.pool.maxSize";
+
+  private final AtomicInteger created = new AtomicInteger();
+  private String key;
+
+  @BeforeEach
+  void setUp() {
+    // pools are static, so every test uses its own key
+    key = UUID.randomUUID().toString();
+    VisitedOrigins.take();
+  }
+
+  @AfterEach
+  void tearDown() {
+    System.clearProperty(PROPERTY_MAX_SIZE);
+    VisitedOrigins.take();
+  }
+
+  @Test
+  void testReleasedDriverIsCleanedAndReused() {
+    WebDriver driver = DriverPool.lease(key, factory());
+    DriverPool.release(driver, false);
+
+    verify(driver.manage()).deleteAllCookies();
+    verify((JavascriptExecutor)driver).executeScript(anyString());
+    verify(driver).get(BLANK_PAGE);
+    assertThat(DriverPool.lease(key, factory()), sameInstance(driver));
+    assertThat(created.get(), is(1));
+  }
+
+  @Test
+  void testVisitedOriginsAreCleaned() {
+    WebDriver driver = DriverPool.lease(key, factory());
+    VisitedOrigins.record("https://other.example.com:8443/path?query");
+    VisitedOrigins.record(CURRENT_URL);
+    DriverPool.release(driver, false);
+
+    verify(driver).get("https://other.example.com:8443/");
+    verify(driver, never()).get("https://www.example.com/");
+    assertThat(DriverPool.lease(key, factory()), sameInstance(driver));
+  }
+
+  @Test
+  void testDriverIsRetiredAfterVisitingManyOrigins() {
+    WebDriver driver = DriverPool.lease(key, factory());
+    VisitedOrigins.record("https://a.example.com/");
+    VisitedOrigins.record("https://b.example.com/");
+    VisitedOrigins.record("https://c.example.com/");
+    DriverPool.release(driver, false);
+
+    verify(driver).quit();
+    assertThat(DriverPool.lease(key, factory()), not(sameInstance(driver)));
+    assertThat(created.get(), is(2));
+  }
+
+  @Test
+  void testDriverIsRetiredWhenResetFails() {
+    WebDriver driver = DriverPool.lease(key, factory());
+    doThrow(new WebDriverException("page load timeout")).when(driver).get(BLANK_PAGE);
+    DriverPool.release(driver, false);
+
+    verify(driver).quit();
+    assertThat(DriverPool.lease(key, factory()), not(sameInstance(driver)));
+  }
+
+  @Test
+  void testBrowserLogOfPreviousTestIsDiscarded() {
+    WebDriver driver = DriverPool.lease(key, factory());
+    Logs logs = driver.manage().logs();
+    when(logs.getAvailableLogTypes()).thenReturn(Collections.singleton(LogType.BROWSER));
+    when(logs.get(LogType.BROWSER)).thenReturn(
+        new LogEntries(Collections.singletonList(new LogEntry(Level.SEVERE, 0, "previous test"))),
+        new LogEntries(Collections.emptyList()));
+    DriverPool.release(driver, false);
+
+    GaleniumContext.getContext().setDriver(driver);
+    try {
+      assertThat(new BrowserLogSampler().sampleValue(), emptyIterable());
+    }
+    finally {
+      GaleniumContext.getContext().setDriver(null);
+    }
+  }
+
+  @Test
+  void testDriverIsRetiredAfterFailedTest() {
+    WebDriver driver = DriverPool.lease(key, factory());
+    DriverPool.release(driver, true);
+
+    verify(driver).quit();
+    verify(driver, never()).get(BLANK_PAGE);
+  }
+
+  @Test
+  void testLeaseWaitsForReleaseWhenPoolIsFull() throws Exception {
+    System.setProperty(PROPERTY_MAX_SIZE, "1");
+    WebDriver driver = DriverPool.lease(key, factory());
+    CompletableFuture<WebDriver> waiting = CompletableFuture.supplyAsync(() -> DriverPool.lease(key, factory()));
+    TimeUnit.MILLISECONDS.sleep(200);
+    assertThat(waiting.isDone(), is(false));
+
+    DriverPool.release(driver, false);
+
+    assertThat(waiting.get(5, TimeUnit.SECONDS), sameInstance(driver));
+    assertThat(created.get(), is(1));
+  }
+
+  private Supplier<WebDriver> factory() {
+    return () -> {
+      created.incrementAndGet();
+      WebDriver driver = mock(WebDriver.class, withSettings()
+          .extraInterfaces(JavascriptExecutor.class)
+          .defaultAnswer(Answers.RETURNS_DEEP_STUBS));
+      when(driver.getCurrentUrl()).thenReturn(CURRENT_URL);
+      when(driver.getWindowHandles()).thenReturn(Collections.singleton("main"));
+      return driver;
+    };
+  }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.persistence;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.apache.commons.configuration2.PropertiesConfiguration;
+import org.junit.jupiter.api.Test;
+
+class SampleStoreTest {
+
+  @Test
+  void testRoundTrip() throws Exception {
+    PropertiesConfiguration baseline = new PropertiesConfiguration();
+    baseline.setProperty("string", "old");
+    baseline.setProperty("list", Arrays.asList("a", "b"));
+    SampleStore store = new SampleStore(baseline);
+
+    store.put("string", "new");
+    store.put("number", 42);
+    store.put("array", new String[] {"x", "y"});
+
+    PropertiesConfiguration reread = new PropertiesConfiguration();
+    reread.read(new StringReader(PersistenceUtil.toString(store.toProperties())));
+
+    assertThat(reread.getString("string"), is("new"));
+    assertThat(reread.getInt("number"), is(42));
+    assertThat(Arrays.asList(reread.getStringArray("list")), contains("a", "b"));
+    assertThat(Arrays.asList(reread.getStringArray("array")), contains("x", "y"));
+  }
+
+  @Test
+  void testStoringNullRemovesSample() {
+    PropertiesConfiguration baseline = new PropertiesConfiguration();
+    baseline.setProperty("key", "value");
+    SampleStore store = new SampleStore(baseline);
+
+    store.put("key", null);
+
+    assertThat(store.size(), is(0));
+    assertThat(store.toProperties().getProperty("key"), nullValue());
+  }
+
+}
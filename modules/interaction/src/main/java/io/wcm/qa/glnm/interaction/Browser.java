@@ -21,12 +21,15 @@ package io.wcm.qa.glnm.interaction;
 
 import static io.qameta.allure.Allure.addAttachment;
 import static io.wcm.qa.glnm.context.GaleniumContext.getDriver;
+import static io.wcm.qa.glnm.context.GaleniumContext.nextPageGeneration;
 import static io.wcm.qa.glnm.reporting.GaleniumReportUtil.passStep;
 import static io.wcm.qa.glnm.reporting.GaleniumReportUtil.startStep;
 import static io.wcm.qa.glnm.reporting.GaleniumReportUtil.stopStep;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.join;
 
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -46,7 +49,9 @@ import org.slf4j.LoggerFactory;
 
 import io.qameta.allure.Allure;
 import io.wcm.qa.glnm.exceptions.GaleniumException;
+import io.wcm.qa.glnm.metrics.Metrics;
 import io.wcm.qa.glnm.reporting.GaleniumReportUtil;
+import io.wcm.qa.glnm.webdriver.VisitedOrigins;
 
 /**
  * Alert related convenience methods.
@@ -57,6 +62,7 @@ public final class Browser {
 
   private static final String ABOUT_BLANK = "about:blank";
   private static final Logger LOG = LoggerFactory.getLogger(Browser.class);
+  private static final String METRIC_NAVIGATION = "browser.navigation";
 
   private Browser() {
     // do not instantiate
@@ -89,7 +95,14 @@ public final class Browser {
    */
   public static void back() {
     String step = startStep("navigating back");
-    getDriver().navigate().back();
+    long start = Metrics.start();
+    try {
+      getDriver().navigate().back();
+    }
+    finally {
+      Metrics.stop(METRIC_NAVIGATION, "back", start);
+    }
+    nextPageGeneration();
     passStep(step);
     stopStep();
   }
@@ -161,7 +174,14 @@ public final class Browser {
    */
   public static void forward() {
     String step = startStep("navigating forward");
-    getDriver().navigate().forward();
+    long start = Metrics.start();
+    try {
+      getDriver().navigate().forward();
+    }
+    finally {
+      Metrics.stop(METRIC_NAVIGATION, "forward", start);
+    }
+    nextPageGeneration();
     passStep(step);
     stopStep();
   }
@@ -204,6 +224,9 @@ public final class Browser {
    * <p>
    * Get browser log entries.
    * </p>
+   * <p>
+   * Returns entries logged since last fetch. Fetched entries are also kept in {@link LogRingBuffer} for other consumers.
+   * </p>
    *
    * @return browser log
    */
@@ -249,7 +272,7 @@ public final class Browser {
    * @return a {@link java.util.List} object.
    */
   public static List<LogEntry> getPerformanceLog() {
-    return getLog(LogType.PERFORMANCE);
+    return getDriver().manage().logs().get(LogType.PERFORMANCE).getAll();
   }
 
   /**
@@ -274,7 +297,15 @@ public final class Browser {
   public static void load(String url) {
     String step = startStep("loading URL: '" + url + "'");
     Allure.link(url, url);
-    getDriver().get(url);
+    VisitedOrigins.record(url);
+    long start = Metrics.start();
+    try {
+      getDriver().get(url);
+    }
+    finally {
+      Metrics.stop(METRIC_NAVIGATION, getNavigationLabel(url), start);
+    }
+    nextPageGeneration();
     passStep(step);
     stopStep();
   }
@@ -303,7 +334,15 @@ public final class Browser {
    */
   public static void navigateTo(String url) {
     String step = startStep("navigating to URL: '" + url + "'");
-    getDriver().navigate().to(url);
+    VisitedOrigins.record(url);
+    long start = Metrics.start();
+    try {
+      getDriver().navigate().to(url);
+    }
+    finally {
+      Metrics.stop(METRIC_NAVIGATION, getNavigationLabel(url), start);
+    }
+    nextPageGeneration();
     passStep(step);
     stopStep();
   }
@@ -316,7 +355,15 @@ public final class Browser {
    */
   public static void navigateTo(URL url) {
     String step = startStep("navigating to URL: '" + url + "'");
-    getDriver().navigate().to(url);
+    VisitedOrigins.record(url.toString());
+    long start = Metrics.start();
+    try {
+      getDriver().navigate().to(url);
+    }
+    finally {
+      Metrics.stop(METRIC_NAVIGATION, getNavigationLabel(url.toString()), start);
+    }
+    nextPageGeneration();
     passStep(step);
     stopStep();
   }
@@ -326,7 +373,14 @@ public final class Browser {
    */
   public static void refresh() {
     String step = startStep("refreshing browser");
-    getDriver().navigate().refresh();
+    long start = Metrics.start();
+    try {
+      getDriver().navigate().refresh();
+    }
+    finally {
+      Metrics.stop(METRIC_NAVIGATION, "refresh", start);
+    }
+    nextPageGeneration();
     passStep(step);
     stopStep();
   }
@@ -389,8 +443,30 @@ public final class Browser {
     throw new GaleniumException("Could not get integer from result list.");
   }
 
+  /**
+   * Metrics label for navigation without query and fragment, so labels stay few when URLs carry parameters.
+   * @param url navigated to
+   * @return origin and path of HTTP URLs, scheme of other URLs
+   */
+  static String getNavigationLabel(String url) {
+    if (StringUtils.isBlank(url)) {
+      return "invalid";
+    }
+    try {
+      URI uri = new URI(url);
+      String origin = VisitedOrigins.originOf(url);
+      if (origin == null) {
+        return StringUtils.defaultString(uri.getScheme(), "unknown") + ":";
+      }
+      return origin + StringUtils.defaultString(uri.getRawPath());
+    }
+    catch (URISyntaxException ex) {
+      return "invalid";
+    }
+  }
+
   private static List<LogEntry> getLog(String type) {
-    return getDriver().manage().logs().get(type).getAll();
+    return LogRingBuffer.forCurrentDriver(type).drain();
   }
 
 }
@@ -20,6 +20,7 @@
 package io.wcm.qa.glnm.interaction;
 
 import static io.wcm.qa.glnm.context.GaleniumContext.getDriver;
+import static io.wcm.qa.glnm.context.GaleniumContext.nextPageGeneration;
 
 import java.util.List;
 
@@ -33,6 +34,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.wcm.qa.glnm.exceptions.GaleniumException;
+import io.wcm.qa.glnm.metrics.Metrics;
 import io.wcm.qa.glnm.reporting.GaleniumReportUtil;
 import io.wcm.qa.glnm.selectors.base.Selector;
 import io.wcm.qa.glnm.webdriver.WebDriverManagement;
@@ -45,6 +47,7 @@ import io.wcm.qa.glnm.webdriver.WebDriverManagement;
 public final class Element {
 
   private static final Logger LOG = LoggerFactory.getLogger(Element.class);
+  private static final String METRIC_FIND = "element.find";
 
   private Element() {
     // do not instantiate
@@ -334,6 +337,7 @@ public final class Element {
     Actions actions = new Actions(getDriver());
     actions.moveToElement(elementToScrollTo);
     actions.perform();
+    nextPageGeneration();
   }
 
   /**
@@ -365,6 +369,7 @@ public final class Element {
       LOG.debug(message.toString());
       findNthOrFailNow(selector, index).click();
     }
+    nextPageGeneration();
     GaleniumReportUtil.step(getClickLogMessage(selector, index, extraMessage));
   }
 
@@ -377,9 +382,14 @@ public final class Element {
     if (isNow(type)) {
       switchDriverToNow();
     }
-    List<WebElement> allElements = driver.findElements(selector.asBy());
-    switchDriverToDefaultTimeout();
-    return allElements;
+    long start = Metrics.start();
+    try {
+      return driver.findElements(selector.asBy());
+    }
+    finally {
+      Metrics.stop(METRIC_FIND, selector.elementName(), start);
+      switchDriverToDefaultTimeout();
+    }
   }
 
   private static WebElement findNth(Selector selector, int index, TimeoutType type) {
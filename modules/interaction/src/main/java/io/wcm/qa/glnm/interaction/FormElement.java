@@ -19,6 +19,8 @@
  */
 package io.wcm.qa.glnm.interaction;
 
+import static io.wcm.qa.glnm.context.GaleniumContext.nextPageGeneration;
+
 import org.openqa.selenium.InvalidElementStateException;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
@@ -57,6 +59,7 @@ public final class FormElement {
       }
     }
     input.sendKeys(text);
+    nextPageGeneration();
   }
 
 }
@@ -20,6 +20,7 @@
 package io.wcm.qa.glnm.interaction;
 
 import static io.wcm.qa.glnm.context.GaleniumContext.getDriver;
+import static io.wcm.qa.glnm.context.GaleniumContext.nextPageGeneration;
 
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.interactions.Actions;
@@ -46,6 +47,7 @@ public final class Keyboard {
    */
   public static void sendKeys(String text) {
     getActions().sendKeys(text).perform();
+    nextPageGeneration();
   }
 
   /**
@@ -56,6 +58,7 @@ public final class Keyboard {
    */
   public static void sendKeys(Keys... keys) {
     getActions().sendKeys(keys).perform();
+    nextPageGeneration();
   }
 
   private static Actions getActions() {
@@ -0,0 +1,199 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.interaction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.wcm.qa.glnm.configuration.GaleniumConfiguration;
+import io.wcm.qa.glnm.context.GaleniumContext;
+import io.wcm.qa.glnm.exceptions.GaleniumException;
+
+/**
+ * Bounded buffer of WebDriver log entries per driver and log type. WebDriver hands out log entries only once, so all
+ * reads go through {@link #drain()}, which keeps the fetched entries for other consumers. Entries below the
+ * configured level are dropped on arrival and the oldest entries are overwritten once the buffer is full, which keeps
+ * memory capped on long running pages.
+ *
+ * <p>
+ * Each entry gets a sequence number. Consumers remember the sequence after reading and only get newer entries from
+ * {@link #getEntries(long, Level)} on the next read.
+ * </p>
+ *
+ * @since 5.0.0
+ */
+public final class LogRingBuffer {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LogRingBuffer.class);
+
+  private static final Map<WebDriver, Map<String, LogRingBuffer>> BUFFERS = new WeakHashMap<>();
+
+  private final int capacity;
+  private final Level[] levels;
+  private final Level minimumLevel;
+  private final String[] messages;
+  private long sequence;
+  private final long[] timestamps;
+  private final String type;
+
+  LogRingBuffer(String type, int capacity, Level minimumLevel) {
+    this.type = type;
+    this.capacity = Math.max(1, capacity);
+    this.minimumLevel = minimumLevel;
+    this.levels = new Level[this.capacity];
+    this.messages = new String[this.capacity];
+    this.timestamps = new long[this.capacity];
+  }
+
+  /**
+   * Fetches new entries from the driver of the current thread and keeps them in this buffer.
+   *
+   * @return entries fetched from driver at or above minimum level
+   * @since 5.0.0
+   */
+  public synchronized List<LogEntry> drain() {
+    WebDriver driver = GaleniumContext.getDriver();
+    List<LogEntry> fetched = driver.manage().logs().get(type).getAll();
+    List<LogEntry> kept = new ArrayList<>(fetched.size());
+    for (LogEntry entry : fetched) {
+      if (add(entry)) {
+        kept.add(entry);
+      }
+    }
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("drained " + kept.size() + " of " + fetched.size() + " '" + type + "' log entries");
+    }
+    return kept;
+  }
+
+  /**
+   * @param fromSequence sequence number to start from
+   * @param level to filter by
+   * @return buffered entries at or above level starting from sequence
+   * @since 5.0.0
+   */
+  public synchronized List<LogEntry> getEntries(long fromSequence, Level level) {
+    long start = Math.max(fromSequence, Math.max(0, sequence - capacity));
+    List<LogEntry> entries = new ArrayList<>();
+    for (long i = start; i < sequence; i++) {
+      int index = (int)(i % capacity);
+      if (levels[index].intValue() >= level.intValue()) {
+        entries.add(new LogEntry(levels[index], timestamps[index], messages[index]));
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * @return sequence number the next entry will get
+   * @since 5.0.0
+   */
+  public synchronized long getSequence() {
+    return sequence;
+  }
+
+  synchronized boolean add(LogEntry entry) {
+    if (entry.getLevel().intValue() < minimumLevel.intValue()) {
+      return false;
+    }
+    int index = (int)(sequence % capacity);
+    levels[index] = entry.getLevel();
+    messages[index] = entry.getMessage();
+    timestamps[index] = entry.getTimestamp();
+    sequence++;
+    return true;
+  }
+
+  /**
+   * Buffer for log type of current thread's driver.
+   *
+   * @param type log type as in {@link org.openqa.selenium.logging.LogType}
+   * @return buffer for driver and type
+   * @since 5.0.0
+   */
+  public static LogRingBuffer forCurrentDriver(String type) {
+    WebDriver driver = GaleniumContext.getDriver();
+    if (driver == null) {
+      throw new GaleniumException("no driver to buffer logs for.");
+    }
+    synchronized (BUFFERS) {
+      return BUFFERS
+          .computeIfAbsent(driver, d -> new HashMap<>())
+          .computeIfAbsent(type, t -> new LogRingBuffer(t, GaleniumConfiguration.getWebDriverLogBufferSize(), getMinimumLevel()));
+    }
+  }
+
+  /**
+   * Drops buffers of driver and discards log entries it has not handed out yet. Used before a pooled driver is reused,
+   * so entries logged during earlier tests are not read as new by the next one.
+   *
+   * @param driver to reset buffers for
+   * @since 5.0.0
+   */
+  public static void reset(WebDriver driver) {
+    Set<String> types = new LinkedHashSet<>();
+    types.add(LogType.BROWSER);
+    synchronized (BUFFERS) {
+      Map<String, LogRingBuffer> buffers = BUFFERS.remove(driver);
+      if (buffers != null) {
+        types.addAll(buffers.keySet());
+      }
+    }
+    try {
+      types.retainAll(driver.manage().logs().getAvailableLogTypes());
+      for (String type : types) {
+        int discarded = driver.manage().logs().get(type).getAll().size();
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("discarded " + discarded + " '" + type + "' log entries of " + driver);
+        }
+      }
+    }
+    catch (WebDriverException ex) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("could not discard logs of " + driver, ex);
+      }
+    }
+  }
+
+  private static Level getMinimumLevel() {
+    String level = GaleniumConfiguration.getWebDriverLogLevel();
+    try {
+      return Level.parse(level);
+    }
+    catch (IllegalArgumentException ex) {
+      LOG.warn("unknown log level '" + level + "', buffering all entries.");
+      return Level.ALL;
+    }
+  }
+
+}
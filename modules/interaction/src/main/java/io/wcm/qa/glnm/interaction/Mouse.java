@@ -20,6 +20,7 @@
 package io.wcm.qa.glnm.interaction;
 
 import static io.wcm.qa.glnm.context.GaleniumContext.getDriver;
+import static io.wcm.qa.glnm.context.GaleniumContext.nextPageGeneration;
 
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
@@ -49,6 +50,7 @@ public final class Mouse {
   public static void click() {
     LOG.debug("Clicking at current position.");
     getActions().click().perform();
+    nextPageGeneration();
   }
 
   /**
@@ -112,6 +114,7 @@ public final class Mouse {
    */
   public static void moveByOffset(int horizontalOffset, int verticalOffset) {
     getActions().moveByOffset(horizontalOffset, verticalOffset).perform();
+    nextPageGeneration();
   }
 
   /**
@@ -168,6 +171,7 @@ public final class Mouse {
       LOG.debug("Moving to element: " + element);
     }
     getActions().moveToElement(element).perform();
+    nextPageGeneration();
   }
 
   private static Actions getActions() {
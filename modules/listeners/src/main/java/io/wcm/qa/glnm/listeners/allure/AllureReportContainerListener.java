@@ -25,6 +25,7 @@ import org.slf4j.LoggerFactory;
 import io.qameta.allure.listener.TestLifecycleListener;
 import io.qameta.allure.model.TestResult;
 import io.wcm.qa.glnm.logging.util.GaleniumLoggingUtil;
+import io.wcm.qa.glnm.reporting.AttachmentWriter;
 
 /**
  * <p>
@@ -55,4 +56,13 @@ public class AllureReportContainerListener implements TestLifecycleListener {
     GaleniumLoggingUtil.stopTestLogging();
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public void beforeTestWrite(TestResult result) {
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("flush attachments");
+    }
+    AttachmentWriter.flush(result.getUuid());
+  }
+
 }
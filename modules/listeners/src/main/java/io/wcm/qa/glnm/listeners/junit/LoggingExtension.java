@@ -25,6 +25,7 @@ import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,7 +48,9 @@ public class LoggingExtension
     BeforeAllCallback,
     BeforeTestExecutionCallback {
 
+  private static final String KEY_RUN_STARTED = "galenium.run.started";
   private static final Logger LOG = LoggerFactory.getLogger(LoggingExtension.class);
+  private static final Namespace NAMESPACE = Namespace.create(LoggingExtension.class);
 
   /** {@inheritDoc} */
   @Override
@@ -73,6 +76,8 @@ public class LoggingExtension
     if (LOG.isTraceEnabled()) {
       LOG.trace("included tags: " + StringUtils.join(context.getTags(), ", "));
     }
+    // root store is shared by all test classes of this run
+    context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(KEY_RUN_STARTED, key -> startRun(), Boolean.class);
   }
 
   /** {@inheritDoc} */
@@ -96,4 +101,12 @@ public class LoggingExtension
     }
   }
 
+  private static Boolean startRun() {
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("Removing Galen reports of previous run.");
+    }
+    GaleniumReportUtil.cleanGalenReports();
+    return Boolean.TRUE;
+  }
+
 }
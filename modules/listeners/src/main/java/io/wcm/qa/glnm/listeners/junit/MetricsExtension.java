@@ -0,0 +1,86 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.listeners.junit;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.wcm.qa.glnm.metrics.Metrics;
+import io.wcm.qa.glnm.metrics.MetricsRegistry;
+import io.wcm.qa.glnm.reporting.AttachmentWriter;
+
+/**
+ * Exports collected {@link Metrics}. Metrics of each test are attached to its Allure result as JSON and metrics of the
+ * whole run are written to the report directory after the last test.
+ *
+ * @since 5.0.0
+ */
+public class MetricsExtension
+    implements
+    AfterEachCallback,
+    BeforeEachCallback {
+
+  private static final String ATTACHMENT_NAME = "Metrics";
+  private static final String KEY_RUN_METRICS = "runMetrics";
+  private static final Logger LOG = LoggerFactory.getLogger(MetricsExtension.class);
+  private static final Namespace NAMESPACE = Namespace.create(MetricsExtension.class);
+
+  /** {@inheritDoc} */
+  @Override
+  public void afterEach(ExtensionContext context) {
+    MetricsRegistry testMetrics = Metrics.endTest();
+    if (testMetrics == null || testMetrics.isEmpty()) {
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("no metrics for: " + context.getUniqueId());
+      }
+      return;
+    }
+    byte[] json = testMetrics.toJson().getBytes(StandardCharsets.UTF_8);
+    AttachmentWriter.write(ATTACHMENT_NAME, "application/json", ".json", () -> new ByteArrayInputStream(json));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void beforeEach(ExtensionContext context) {
+    if (!Metrics.isEnabled()) {
+      return;
+    }
+    // root store is closed once after all tests ran
+    context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(KEY_RUN_METRICS, key -> new RunMetricsWriter());
+    Metrics.startTest();
+  }
+
+  private static final class RunMetricsWriter implements CloseableResource {
+
+    @Override
+    public void close() {
+      Metrics.writeRunMetrics();
+    }
+  }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.listeners.junit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.wcm.qa.glnm.configuration.GaleniumConfiguration;
+import io.wcm.qa.glnm.metrics.Metrics;
+import io.wcm.qa.glnm.metrics.TimingBreakdown;
+
+/**
+ * Attributes wall time of each test to the Galenium timers running during it, like driver acquisition, navigation,
+ * element lookup, sampling, Galen validation, image comparison, screenshots, Allure attachments and persistence. Time
+ * not spent in any timer is attributed to the test itself, which includes the application under test and the test's
+ * own code.
+ *
+ * <p>
+ * After the last test, the breakdown of all tests is written to <code>timing-breakdown.collapsed</code> in the report
+ * directory. Each line holds a stack of test containers, test and timers followed by the self time in microseconds,
+ * which is the collapsed stack format read by flame graph tools.
+ * </p>
+ *
+ * @since 5.0.0
+ */
+public class TimingBreakdownExtension
+    implements
+    AfterEachCallback,
+    BeforeEachCallback {
+
+  private static final String FILE_NAME_COLLAPSED_STACKS = "timing-breakdown.collapsed";
+  private static final String KEY_RUN_STACKS = "runStacks";
+  private static final String KEY_START = "start";
+  private static final Logger LOG = LoggerFactory.getLogger(TimingBreakdownExtension.class);
+  private static final Namespace NAMESPACE = Namespace.create(TimingBreakdownExtension.class);
+  private static final String SEPARATOR = ";";
+
+  /** {@inheritDoc} */
+  @Override
+  public void afterEach(ExtensionContext context) {
+    TimingBreakdown breakdown = Metrics.endBreakdown();
+    Long start = context.getStore(NAMESPACE).remove(KEY_START, Long.class);
+    if (breakdown == null || start == null) {
+      return;
+    }
+    long wallNanos = System.nanoTime() - start;
+    String testStack = getTestStack(context);
+    CollapsedStacks stacks = getRunStacks(context);
+    stacks.add(testStack, wallNanos - breakdown.getTrackedNanos());
+    for (Entry<String, Long> entry : breakdown.getSelfNanos().entrySet()) {
+      stacks.add(testStack + SEPARATOR + entry.getKey(), entry.getValue());
+    }
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("timing breakdown of '" + context.getDisplayName() + "': "
+          + TimeUnit.NANOSECONDS.toMillis(wallNanos) + "ms total, "
+          + TimeUnit.NANOSECONDS.toMillis(breakdown.getTrackedNanos()) + "ms in Galenium timers");
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void beforeEach(ExtensionContext context) {
+    if (!Metrics.isEnabled()) {
+      return;
+    }
+    getRunStacks(context);
+    context.getStore(NAMESPACE).put(KEY_START, System.nanoTime());
+    Metrics.startBreakdown();
+  }
+
+  private static CollapsedStacks getRunStacks(ExtensionContext context) {
+    // root store is closed once after all tests ran
+    return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(KEY_RUN_STACKS, key -> new CollapsedStacks(), CollapsedStacks.class);
+  }
+
+  private static String getTestStack(ExtensionContext context) {
+    List<String> frames = new ArrayList<>();
+    Optional<ExtensionContext> current = Optional.of(context);
+    while (current.isPresent() && current.get().getParent().isPresent()) {
+      frames.add(toFrame(current.get().getDisplayName()));
+      current = current.get().getParent();
+    }
+    Collections.reverse(frames);
+    return String.join(SEPARATOR, frames);
+  }
+
+  private static String toFrame(String displayName) {
+    return displayName.replace(SEPARATOR, ",").replaceAll("\\s+", " ").trim();
+  }
+
+  private static final class CollapsedStacks implements CloseableResource {
+
+    private final Map<String, Long> nanosPerStack = new ConcurrentHashMap<>();
+
+    void add(String stack, long nanos) {
+      if (nanos > 0) {
+        nanosPerStack.merge(stack, nanos, Long::sum);
+      }
+    }
+
+    @Override
+    public void close() {
+      if (nanosPerStack.isEmpty()) {
+        return;
+      }
+      List<String> lines = new ArrayList<>();
+      for (Entry<String, Long> entry : new TreeMap<>(nanosPerStack).entrySet()) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(entry.getValue());
+        if (micros > 0) {
+          lines.add(entry.getKey() + " " + micros);
+        }
+      }
+      File file = new File(GaleniumConfiguration.getReportDirectory(), FILE_NAME_COLLAPSED_STACKS);
+      try {
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+        if (LOG.isInfoEnabled()) {
+          LOG.info("wrote timing breakdown to '" + file.getPath() + "'");
+        }
+      }
+      catch (IOException ex) {
+        LOG.warn("could not write timing breakdown.", ex);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.sampling;
+
+import java.time.Duration;
+
+import io.wcm.qa.glnm.context.GaleniumContext;
+
+/**
+ * Decides how long a cached sample stays valid. Policies are immutable, each <code>with</code> method returns a new
+ * policy.
+ * <ul>
+ * <li>time to live: sample expires when it was not used for this long</li>
+ * <li>max age: sample expires this long after it was sampled</li>
+ * <li>page bound: sample expires when the page might have changed, see
+ * {@link GaleniumContext#getPageGeneration()}</li>
+ * </ul>
+ *
+ * @since 5.0.0
+ */
+public final class CachingPolicy {
+
+  private static final long UNLIMITED = -1;
+
+  /**
+   * Samples are cached until explicitly invalidated.
+   */
+  public static final CachingPolicy FOREVER = new CachingPolicy(true, UNLIMITED, UNLIMITED, false);
+
+  /**
+   * Every sample is fresh.
+   */
+  public static final CachingPolicy NEVER = new CachingPolicy(false, UNLIMITED, UNLIMITED, false);
+
+  /**
+   * Samples are cached until the page is changed by navigation or clicks.
+   */
+  public static final CachingPolicy UNTIL_PAGE_CHANGES = new CachingPolicy(true, UNLIMITED, UNLIMITED, true);
+
+  private final boolean caching;
+  private final long maxAgeNanos;
+  private final boolean pageBound;
+  private final long timeToLiveNanos;
+
+  private CachingPolicy(boolean caching, long timeToLiveNanos, long maxAgeNanos, boolean pageBound) {
+    this.caching = caching;
+    this.timeToLiveNanos = timeToLiveNanos;
+    this.maxAgeNanos = maxAgeNanos;
+    this.pageBound = pageBound;
+  }
+
+  /**
+   * @return whether samples are cached at all
+   * @since 5.0.0
+   */
+  public boolean isCaching() {
+    return caching;
+  }
+
+  /**
+   * @return whether samples expire when the page changes
+   * @since 5.0.0
+   */
+  public boolean isPageBound() {
+    return pageBound;
+  }
+
+  /**
+   * @param sampledAt {@link System#nanoTime()} when sample was taken
+   * @param usedAt {@link System#nanoTime()} when sample was last used
+   * @param pageGeneration when sample was taken
+   * @return whether sample can still be used
+   * @since 5.0.0
+   */
+  public boolean isValid(long sampledAt, long usedAt, long pageGeneration) {
+    if (!isCaching()) {
+      return false;
+    }
+    long now = System.nanoTime();
+    if (maxAgeNanos != UNLIMITED && now - sampledAt > maxAgeNanos) {
+      return false;
+    }
+    if (timeToLiveNanos != UNLIMITED && now - usedAt > timeToLiveNanos) {
+      return false;
+    }
+    return !isPageBound() || pageGeneration == GaleniumContext.getPageGeneration();
+  }
+
+  /**
+   * @param maxAge after which samples expire
+   * @return caching policy with max age
+   * @since 5.0.0
+   */
+  public CachingPolicy withMaxAge(Duration maxAge) {
+    return new CachingPolicy(true, timeToLiveNanos, maxAge.toNanos(), pageBound);
+  }
+
+  /**
+   * @param pageBoundSamples whether samples expire when page changes
+   * @return caching policy with page binding
+   * @since 5.0.0
+   */
+  public CachingPolicy withPageBinding(boolean pageBoundSamples) {
+    return new CachingPolicy(true, timeToLiveNanos, maxAgeNanos, pageBoundSamples);
+  }
+
+  /**
+   * @param timeToLive after which unused samples expire
+   * @return caching policy with time to live
+   * @since 5.0.0
+   */
+  public CachingPolicy withTimeToLive(Duration timeToLive) {
+    return new CachingPolicy(true, timeToLive.toNanos(), maxAgeNanos, pageBound);
+  }
+
+}
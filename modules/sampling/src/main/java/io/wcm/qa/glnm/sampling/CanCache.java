@@ -26,6 +26,19 @@ package io.wcm.qa.glnm.sampling;
  */
 public interface CanCache {
 
+  /**
+   * <p>getCachingPolicy.</p>
+   *
+   * @return policy deciding when cached samples expire, defaults to policy matching {@link #isCaching()}
+   * @since 5.0.0
+   */
+  default CachingPolicy getCachingPolicy() {
+    if (isCaching()) {
+      return CachingPolicy.FOREVER;
+    }
+    return CachingPolicy.NEVER;
+  }
+
   /**
    * <p>isCaching.</p>
    *
@@ -41,4 +54,14 @@ public interface CanCache {
    * @since 3.0.0
    */
   void setCaching(boolean activateCache);
+
+  /**
+   * <p>setCachingPolicy.</p>
+   *
+   * @param policy deciding when cached samples expire, defaults to only switching caching on or off
+   * @since 5.0.0
+   */
+  default void setCachingPolicy(CachingPolicy policy) {
+    setCaching(policy.isCaching());
+  }
 }
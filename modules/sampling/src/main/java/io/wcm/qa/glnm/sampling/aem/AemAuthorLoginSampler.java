@@ -31,13 +31,14 @@ import org.slf4j.LoggerFactory;
 
 import io.wcm.qa.glnm.exceptions.GaleniumException;
 import io.wcm.qa.glnm.sampling.jsoup.JsoupCookieSampler;
+import io.wcm.qa.glnm.sampling.jsoup.base.SessionCookieSampler;
 
 /**
  * Fetches login cookies from AEM author instance.
  *
  * @since 3.0.0
  */
-public class AemAuthorLoginSampler extends JsoupCookieSampler {
+public class AemAuthorLoginSampler extends JsoupCookieSampler implements SessionCookieSampler {
 
   private static final String DEFAULT_AUTHOR = "localhost";
   private static final int DEFAULT_AUTHOR_PORT = 4502;
@@ -78,6 +79,25 @@ public class AemAuthorLoginSampler extends JsoupCookieSampler {
     super(buildLoginUrl(url, port));
   }
 
+  /**
+   * Reuses cookies of previous login for same instance and user, until session expires or is rejected.
+   * {@inheritDoc}
+   */
+  @Override
+  public Map<String, String> freshSample() {
+    return AemLoginTokenCache.get(getSessionKey(), this::fetchCookies);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean invalidate(Map<String, String> rejectedCookies) {
+    if (AemLoginTokenCache.invalidate(getSessionKey(), rejectedCookies)) {
+      invalidateCache();
+      return true;
+    }
+    return false;
+  }
+
   /**
    * Set whether to use XmlHttpRequests to fetch cookies. Activating XHR
    * leads to a GET request executed prior to the actual cookie fetching
@@ -183,6 +203,10 @@ public class AemAuthorLoginSampler extends JsoupCookieSampler {
     return pass;
   }
 
+  protected String getSessionKey() {
+    return getUsername() + "@" + getUrl();
+  }
+
   protected String getUsername() {
     return user;
   }
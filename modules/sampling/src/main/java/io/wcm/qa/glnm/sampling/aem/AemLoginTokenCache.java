@@ -0,0 +1,153 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.sampling.aem;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Process wide cache of AEM login cookies. Sessions are reused until they reach their maximum age or are rejected by
+ * the author instance. Only one thread logs in per key, all others wait for and reuse its session. A session started
+ * because its predecessor was rejected is not renewed again when it is rejected as well, so requests the user is not
+ * allowed to make do not trigger a login each.
+ *
+ * @since 5.0.0
+ */
+final class AemLoginTokenCache {
+
+  private static final String COOKIE_NAME_LOGIN_TOKEN = "login-token";
+  private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+  private static final Logger LOG = LoggerFactory.getLogger(AemLoginTokenCache.class);
+  private static final long MAX_AGE_NANOS = TimeUnit.MINUTES.toNanos(30);
+  private static final Set<String> RENEWALS = ConcurrentHashMap.newKeySet();
+  private static final Map<String, Session> SESSIONS = new ConcurrentHashMap<>();
+
+  private AemLoginTokenCache() {
+    // do not instantiate
+  }
+
+  /**
+   * @param key identifying instance and user
+   * @param login to call when no valid session is cached
+   * @return cookies of valid session
+   */
+  static Map<String, String> get(String key, Supplier<Map<String, String>> login) {
+    Session session = SESSIONS.get(key);
+    if (isValid(session)) {
+      return session.getCookies();
+    }
+    synchronized (getLock(key)) {
+      session = SESSIONS.get(key);
+      if (isValid(session)) {
+        return session.getCookies();
+      }
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("logging in: " + key);
+      }
+      boolean renewal = RENEWALS.remove(key);
+      Map<String, String> cookies = login.get();
+      if (cookies != null && cookies.containsKey(COOKIE_NAME_LOGIN_TOKEN)) {
+        SESSIONS.put(key, new Session(cookies, renewal));
+      }
+      else if (LOG.isDebugEnabled()) {
+        LOG.debug("not caching login without token: " + key);
+      }
+      return cookies;
+    }
+  }
+
+  /**
+   * Removes session, if it is the cached one and was not itself started to renew a rejected session.
+   * @param key identifying instance and user
+   * @param rejectedCookies cookies rejected by instance
+   * @return whether session was removed and the next call to {@link #get(String, Supplier)} logs in again
+   */
+  static boolean invalidate(String key, Map<String, String> rejectedCookies) {
+    if (rejectedCookies == null || rejectedCookies.get(COOKIE_NAME_LOGIN_TOKEN) == null) {
+      return false;
+    }
+    synchronized (getLock(key)) {
+      Session session = SESSIONS.get(key);
+      if (session == null || !rejectedCookies.get(COOKIE_NAME_LOGIN_TOKEN).equals(session.getToken())) {
+        if (LOG.isTraceEnabled()) {
+          LOG.trace("rejected session is not the cached one: " + key);
+        }
+        return false;
+      }
+      if (session.isRenewal()) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("renewed session was rejected again, not renewing: " + key);
+        }
+        return false;
+      }
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("invalidating rejected session: " + key);
+      }
+      SESSIONS.remove(key);
+      RENEWALS.add(key);
+      return true;
+    }
+  }
+
+  private static Object getLock(String key) {
+    return LOCKS.computeIfAbsent(key, k -> new Object());
+  }
+
+  private static boolean isValid(Session session) {
+    return session != null && System.nanoTime() - session.getCreated() < MAX_AGE_NANOS;
+  }
+
+  private static final class Session {
+
+    private final Map<String, String> cookies;
+    private final long created = System.nanoTime();
+    private final boolean renewal;
+
+    Session(Map<String, String> cookies, boolean renewal) {
+      this.cookies = Collections.unmodifiableMap(new HashMap<>(cookies));
+      this.renewal = renewal;
+    }
+
+    Map<String, String> getCookies() {
+      return cookies;
+    }
+
+    long getCreated() {
+      return created;
+    }
+
+    String getToken() {
+      return cookies.get(COOKIE_NAME_LOGIN_TOKEN);
+    }
+
+    boolean isRenewal() {
+      return renewal;
+    }
+  }
+
+}
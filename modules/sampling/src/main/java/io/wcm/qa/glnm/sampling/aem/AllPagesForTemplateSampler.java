@@ -24,6 +24,8 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 
+import com.google.common.collect.Iterables;
+
 import io.wcm.qa.glnm.sampling.Sampler;
 import io.wcm.qa.glnm.sampling.transform.base.TransformationBasedSampler;
 
@@ -41,6 +43,8 @@ public class AllPagesForTemplateSampler
   private static final String PATH_FRAGMENT_JCR_CONTENT = "/jcr:content";
   private static final String PROPERTY_NAME_CQ_TEMPLATE = "cq:template";
 
+  private boolean streaming;
+
   /**
    * <p>Constructor for AllPagesForTemplateSampler.</p>
    *
@@ -51,7 +55,45 @@ public class AllPagesForTemplateSampler
     super(buildInputSampler(namePattern, rootPath));
   }
 
+  /**
+   * In streaming mode, pages are fetched lazily while iterating over the result. Every iteration over a streamed
+   * result runs the query again from the first hit, so iterate only once, or copy the result when it is needed more
+   * often. This also holds for streamed results cached by this sampler.
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterable<String> freshSample() {
+    if (isStreaming()) {
+      return Iterables.transform(getQuerySampler().getHitValues(), AllPagesForTemplateSampler::cleanPath);
+    }
+    return super.freshSample();
+  }
 
+  /**
+   * <p>isStreaming.</p>
+   *
+   * @return whether query results are paged through lazily
+   * @since 5.0.0
+   */
+  public boolean isStreaming() {
+    return streaming;
+  }
+
+  /**
+   * Page through query results lazily instead of fetching them with a single request. Memory use then only depends on
+   * {@link JcrQuerySampler#getPageSize()}. Switching streaming on lifts the default limit on the number of results, so
+   * all pages are fetched. Use {@link JcrQuerySampler#setMaxNumberOfResults(int)} on {@link #getQuerySampler()}
+   * afterwards to limit them again.
+   *
+   * @param streaming whether to page through query results lazily
+   * @since 5.0.0
+   */
+  public void setStreaming(boolean streaming) {
+    this.streaming = streaming;
+    if (streaming) {
+      getQuerySampler().setMaxNumberOfResults(-1);
+    }
+  }
 
   @Override
   protected Iterable transform(Map<String, String> inputSample) {
@@ -0,0 +1,186 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.sampling.aem;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.jsoup.Connection.Response;
+import org.jsoup.HttpStatusException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.wcm.qa.glnm.exceptions.GaleniumException;
+import io.wcm.qa.glnm.sampling.jsoup.base.JsoupBasedSampler;
+
+/**
+ * Lazily pages through results of a {@link JcrQuerySampler}. Each iteration runs the query again and fetches one page
+ * at a time using <code>p.offset</code> and <code>p.limit</code>, so memory use only depends on the page size.
+ *
+ * <p>
+ * Hits are not kept between iterations. A second iteration starts over at offset 0 and sends all requests again, and
+ * it may see different hits when content changed in the meantime. Callers needing the hits more than once should
+ * iterate once and copy them.
+ * </p>
+ *
+ * @since 5.0.0
+ */
+final class JcrQueryHits implements Iterable<String> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JcrQueryHits.class);
+
+  private final PageSource pages;
+  private final JcrQuerySampler query;
+
+  /**
+   * @param query to page through
+   */
+  JcrQueryHits(JcrQuerySampler query) {
+    this(query, new SamplingPageSource(query));
+  }
+
+  /**
+   * @param query to page through
+   * @param pages fetches single pages of query
+   */
+  JcrQueryHits(JcrQuerySampler query, PageSource pages) {
+    this.query = query;
+    this.pages = pages;
+  }
+
+  @Override
+  public Iterator<String> iterator() {
+    return new PagingIterator();
+  }
+
+  private final class PagingIterator implements Iterator<String> {
+
+    private boolean more = true;
+    private int offset;
+    private Iterator<String> page = Collections.emptyIterator();
+    private int remaining = query.getMaxNumberOfResults();
+
+    @Override
+    public boolean hasNext() {
+      while (!page.hasNext() && more) {
+        fetchNextPage();
+      }
+      return page.hasNext();
+    }
+
+    @Override
+    public String next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException("no more hits for query.");
+      }
+      return page.next();
+    }
+
+    private void fetchNextPage() {
+      int limit = query.getPageSize();
+      if (remaining >= 0) {
+        limit = Math.min(limit, remaining);
+      }
+      if (limit <= 0) {
+        more = false;
+        return;
+      }
+      JcrQueryPage result = pages.fetch(offset, limit);
+      int hitCount = result.getHitCount();
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("fetched " + hitCount + " hits at offset " + offset + " of " + result.getTotal());
+      }
+      offset += hitCount;
+      if (remaining >= 0) {
+        remaining -= hitCount;
+      }
+      more = hitCount == limit && (result.getTotal() < 0 || offset < result.getTotal());
+      page = result.getValues().iterator();
+    }
+  }
+
+  /**
+   * Fetches one page of query results.
+   */
+  @FunctionalInterface
+  interface PageSource {
+
+    /**
+     * @param offset of first hit
+     * @param limit maximum number of hits
+     * @return page of results
+     */
+    JcrQueryPage fetch(int offset, int limit);
+  }
+
+  private static final class PageSampler extends JsoupBasedSampler<JcrQueryPage> {
+
+    PageSampler(String url) {
+      super(url);
+    }
+
+    private JcrQueryPage fetchPage() throws IOException {
+      Response response = getJsoupConnection().maxBodySize(0).execute();
+      try (InputStream body = response.bodyStream()) {
+        return JcrQueryPage.parse(body);
+      }
+    }
+
+    @Override
+    protected JcrQueryPage freshSample() {
+      try {
+        try {
+          return fetchPage();
+        }
+        catch (HttpStatusException ex) {
+          if (!renewSession(ex.getStatusCode())) {
+            throw ex;
+          }
+          return fetchPage();
+        }
+      }
+      catch (IOException ex) {
+        throw new GaleniumException("when fetching query results from '" + getUrl() + "'", ex);
+      }
+    }
+  }
+
+  private static final class SamplingPageSource implements PageSource {
+
+    private final JcrQuerySampler query;
+
+    SamplingPageSource(JcrQuerySampler query) {
+      this.query = query;
+    }
+
+    @Override
+    public JcrQueryPage fetch(int offset, int limit) {
+      PageSampler sampler = new PageSampler(query.buildUrl(offset, limit));
+      if (query.isLoginToAuthor()) {
+        sampler.setCookieSampler(query.getCookieSampler());
+      }
+      return sampler.sampleValue();
+    }
+  }
+
+}
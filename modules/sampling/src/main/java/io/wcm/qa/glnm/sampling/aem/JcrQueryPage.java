@@ -0,0 +1,143 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.sampling.aem;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import io.wcm.qa.glnm.exceptions.GaleniumException;
+
+/**
+ * One page of QueryBuilder results. Parses the response incrementally, so only the values of the hits on this page
+ * are kept in memory.
+ *
+ * @since 5.0.0
+ */
+final class JcrQueryPage {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private static final String FIELD_NAME_HITS = "hits";
+  private static final String FIELD_NAME_TOTAL = "total";
+  private static final String STRING_REPRESENTATION_NULL = "null";
+
+  private int hitCount;
+  private long total = -1;
+  private final List<String> values = new ArrayList<String>();
+
+  private JcrQueryPage() {
+    // use parse
+  }
+
+  /**
+   * @return number of hits on this page
+   */
+  int getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * @return total number of results reported by QueryBuilder or -1, if not reported
+   */
+  long getTotal() {
+    return total;
+  }
+
+  /**
+   * @return all values of hits on this page in document order
+   */
+  List<String> getValues() {
+    return values;
+  }
+
+  /**
+   * @param json QueryBuilder response
+   * @return parsed page
+   * @throws IOException when reading or parsing fails
+   */
+  static JcrQueryPage parse(InputStream json) throws IOException {
+    JcrQueryPage page = new JcrQueryPage();
+    try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new GaleniumException("QueryBuilder response is not a JSON object.");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String fieldName = parser.getCurrentName();
+        JsonToken token = parser.nextToken();
+        if (FIELD_NAME_HITS.equals(fieldName) && token == JsonToken.START_ARRAY) {
+          page.parseHits(parser);
+        }
+        else if (FIELD_NAME_TOTAL.equals(fieldName) && token == JsonToken.VALUE_NUMBER_INT) {
+          page.total = parser.getLongValue();
+        }
+        else {
+          parser.skipChildren();
+        }
+      }
+    }
+    return page;
+  }
+
+  private void collectValues(JsonParser parser) throws IOException {
+    int depth = 1;
+    while (depth > 0) {
+      JsonToken token = parser.nextToken();
+      if (token == null) {
+        throw new GaleniumException("QueryBuilder response ended inside hit.");
+      }
+      if (token.isStructStart()) {
+        depth++;
+      }
+      else if (token.isStructEnd()) {
+        depth--;
+      }
+      else if (token == JsonToken.VALUE_NULL) {
+        values.add(STRING_REPRESENTATION_NULL);
+      }
+      else if (token.isScalarValue()) {
+        values.add(parser.getText());
+      }
+    }
+  }
+
+  private void parseHits(JsonParser parser) throws IOException {
+    JsonToken token = parser.nextToken();
+    while (token != null && token != JsonToken.END_ARRAY) {
+      hitCount++;
+      if (token.isStructStart()) {
+        collectValues(parser);
+      }
+      else if (token == JsonToken.VALUE_NULL) {
+        values.add(STRING_REPRESENTATION_NULL);
+      }
+      else {
+        values.add(parser.getText());
+      }
+      token = parser.nextToken();
+    }
+  }
+
+}
@@ -28,6 +28,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -54,6 +56,7 @@ public class JcrQuerySampler extends JsonSampler<Sampler<String>> {
 
   private static final String PARAM_HITS = "p.hits";
   private static final String PARAM_LIMIT = "p.limit";
+  private static final String PARAM_OFFSET = "p.offset";
   private static final String PARAM_ORDERBY = "orderby";
   private static final String PARAM_PATH = "path";
   private static final String PATH_TO_QUERYBUILDER_JSON = "/bin/querybuilder.json";
@@ -66,6 +69,7 @@ public class JcrQuerySampler extends JsonSampler<Sampler<String>> {
   private String hostName = "localhost";
   private boolean loginToAuthor = true;
   private int maxNumberOfResults = 1000;
+  private int pageSize = 1000;
   private String password = "admin";
   private String path;
   private int port = 4502;
@@ -119,6 +123,19 @@ public class JcrQuerySampler extends JsonSampler<Sampler<String>> {
     return Maps.filterKeys(freshSample, HIT_KEY_FILTER);
   }
 
+  /**
+   * Lazily pages through all hits using <code>p.offset</code> and <code>p.limit</code>. Each page is parsed
+   * incrementally and only the current page is kept in memory. Every iteration runs the query again from the first
+   * hit, so the returned hits should only be iterated once. {@link #getMaxNumberOfResults()} limits the total number of
+   * hits, a negative value means no limit.
+   *
+   * @return values of all hits in query order
+   * @since 5.0.0
+   */
+  public Iterable<String> getHitValues() {
+    return new JcrQueryHits(this);
+  }
+
   /**
    * <p>Getter for the field <code>hostName</code>.</p>
    *
@@ -137,6 +154,16 @@ public class JcrQuerySampler extends JsonSampler<Sampler<String>> {
     return maxNumberOfResults;
   }
 
+  /**
+   * <p>Getter for the field <code>pageSize</code>.</p>
+   *
+   * @return number of hits fetched per request when paging
+   * @since 5.0.0
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
   /**
    * <p>Getter for the field <code>password</code>.</p>
    *
@@ -212,12 +239,26 @@ public class JcrQuerySampler extends JsonSampler<Sampler<String>> {
   /**
    * <p>Setter for the field <code>maxNumberOfResults</code>.</p>
    *
-   * @param maxResults limit on number of returned results (default: 1000)
+   * @param maxResults limit on number of returned results (default: 1000), negative values remove the limit when
+   *          paging through {@link #getHitValues()}
    */
   public void setMaxNumberOfResults(int maxResults) {
     this.maxNumberOfResults = maxResults;
   }
 
+  /**
+   * <p>Setter for the field <code>pageSize</code>.</p>
+   *
+   * @param hitsPerPage number of hits fetched per request when paging (default: 1000), needs to be positive
+   * @since 5.0.0
+   */
+  public void setPageSize(int hitsPerPage) {
+    if (hitsPerPage <= 0) {
+      throw new IllegalArgumentException("Page size needs to be positive: " + hitsPerPage);
+    }
+    this.pageSize = hitsPerPage;
+  }
+
   /**
    * <p>Setter for the field <code>password</code>.</p>
    *
@@ -263,13 +304,26 @@ public class JcrQuerySampler extends JsonSampler<Sampler<String>> {
     this.userName = user;
   }
 
-  private String getQuery() {
+  /**
+   * Lazily pages through all hits. See {@link #getHitValues()}.
+   *
+   * @return sequential stream of values of all hits in query order
+   * @since 5.0.0
+   */
+  public Stream<String> streamHitValues() {
+    return StreamSupport.stream(getHitValues().spliterator(), false);
+  }
+
+  private String getQuery(int offset, int limit) {
     ArrayList<String> params = new ArrayList<String>();
 
     // static param names
     appendParam(params, PARAM_PATH, getPath());
     appendParam(params, PARAM_HITS, VALUE_HITS_SELECTIVE);
-    appendParam(params, PARAM_LIMIT, Integer.toString(getMaxNumberOfResults()));
+    appendParam(params, PARAM_LIMIT, Integer.toString(limit));
+    if (offset > 0) {
+      appendParam(params, PARAM_OFFSET, Integer.toString(offset));
+    }
     appendParam(params, PARAM_ORDERBY, VALUE_ORDERBYPATH);
 
     // dynamic param names
@@ -291,6 +345,10 @@ public class JcrQuerySampler extends JsonSampler<Sampler<String>> {
   }
 
   protected String buildUrl() {
+    return buildUrl(0, getMaxNumberOfResults());
+  }
+
+  protected String buildUrl(int offset, int limit) {
     try {
 
       URI queryUri = new URI(
@@ -299,7 +357,7 @@ public class JcrQuerySampler extends JsonSampler<Sampler<String>> {
           getHostName(),
           getPort(),
           PATH_TO_QUERYBUILDER_JSON,
-          getQuery(),
+          getQuery(offset, limit),
           null);
 
       return queryUri.toURL().toString();
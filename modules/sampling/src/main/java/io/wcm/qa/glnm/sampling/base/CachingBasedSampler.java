@@ -22,7 +22,10 @@ package io.wcm.qa.glnm.sampling.base;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.wcm.qa.glnm.context.GaleniumContext;
 import io.wcm.qa.glnm.exceptions.GaleniumException;
+import io.wcm.qa.glnm.metrics.Metrics;
+import io.wcm.qa.glnm.sampling.CachingPolicy;
 import io.wcm.qa.glnm.sampling.CachingSampler;
 
 /**
@@ -34,23 +37,48 @@ import io.wcm.qa.glnm.sampling.CachingSampler;
 public abstract class CachingBasedSampler<T> implements CachingSampler<T> {
 
   private static final Logger LOG = LoggerFactory.getLogger(CachingBasedSampler.class);
+  private static final String METRIC_CACHE_HIT = "sampling.cache.hit";
+  private static final String METRIC_FRESH_SAMPLE = "sampling.fresh";
+  private static final String METRIC_PRIMED = "sampling.primed";
 
   private T cachedValue;
-  private boolean caching;
+  private long cachedPageGeneration;
+  private long cachedAt;
+  private CachingPolicy cachingPolicy = CachingPolicy.NEVER;
+  private long primedPageGeneration;
+  private T primedSample;
+  private long usedAt;
+
+  /** {@inheritDoc} */
+  @Override
+  public CachingPolicy getCachingPolicy() {
+    return cachingPolicy;
+  }
 
   /** {@inheritDoc} */
   @Override
   public boolean isCaching() {
-    return caching;
+    return getCachingPolicy().isCaching();
   }
 
   /** {@inheritDoc} */
   @Override
   public T sampleValue() {
-    if (isCaching() && getCachedValue() != null) {
+    T primed = takePrimedSample();
+    if (primed != null) {
+      Metrics.increment(METRIC_PRIMED, getMetricLabel());
+      if (isCaching()) {
+        setCachedValue(primed);
+      }
+      return primed;
+    }
+    if (isCaching() && getCachedValue() != null && isCachedValueValid()) {
+      usedAt = System.nanoTime();
+      Metrics.increment(METRIC_CACHE_HIT, getMetricLabel());
       return getCachedValue();
     }
     invalidateCache();
+    long start = Metrics.start();
     try {
       T freshSample = freshSample();
       if (freshSample == null) {
@@ -62,12 +90,21 @@ public abstract class CachingBasedSampler<T> implements CachingSampler<T> {
     catch (GaleniumException ex) {
       return handleSamplingException(ex);
     }
+    finally {
+      Metrics.stop(METRIC_FRESH_SAMPLE, getMetricLabel(), start);
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public void setCaching(boolean activateCache) {
-    this.caching = activateCache;
+    setCachingPolicy(activateCache ? CachingPolicy.FOREVER : CachingPolicy.NEVER);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setCachingPolicy(CachingPolicy policy) {
+    this.cachingPolicy = policy;
   }
 
   protected abstract T freshSample();
@@ -76,6 +113,14 @@ public abstract class CachingBasedSampler<T> implements CachingSampler<T> {
     return cachedValue;
   }
 
+  private String getMetricLabel() {
+    String simpleName = getClass().getSimpleName();
+    if (simpleName.isEmpty()) {
+      return getClass().getName();
+    }
+    return simpleName;
+  }
+
   protected T getNullValue() {
     return null;
   }
@@ -100,11 +145,45 @@ public abstract class CachingBasedSampler<T> implements CachingSampler<T> {
     if (LOG.isTraceEnabled()) {
       LOG.trace("invalidating cache: " + getClass().getSimpleName());
     }
+    primedSample = null;
     setCachedValue(null);
   }
 
+  protected boolean isCachedValueValid() {
+    if (getCachingPolicy().isValid(cachedAt, usedAt, cachedPageGeneration)) {
+      return true;
+    }
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("cached value expired: " + getClass().getSimpleName());
+    }
+    return false;
+  }
+
+  /**
+   * Hands a sample taken elsewhere to the next call of {@link #sampleValue()}. It is used once, independent of the
+   * caching policy, and only if the page did not change in between.
+   *
+   * @param sample to return from next call
+   */
+  protected void primeSample(T sample) {
+    this.primedSample = sample;
+    this.primedPageGeneration = GaleniumContext.getPageGeneration();
+  }
+
   protected void setCachedValue(T cachedValue) {
     this.cachedValue = cachedValue;
+    this.cachedAt = System.nanoTime();
+    this.usedAt = cachedAt;
+    this.cachedPageGeneration = GaleniumContext.getPageGeneration();
+  }
+
+  private T takePrimedSample() {
+    T primed = primedSample;
+    primedSample = null;
+    if (primed == null || primedPageGeneration != GaleniumContext.getPageGeneration()) {
+      return null;
+    }
+    return primed;
   }
 
 }
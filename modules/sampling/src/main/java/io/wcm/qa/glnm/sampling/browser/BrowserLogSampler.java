@@ -24,17 +24,23 @@ import static java.util.stream.Collectors.toList;
 import java.util.Collection;
 import java.util.logging.Level;
 
-import io.wcm.qa.glnm.interaction.Browser;
+import org.openqa.selenium.logging.LogType;
+
+import io.wcm.qa.glnm.interaction.LogRingBuffer;
 import io.wcm.qa.glnm.sampling.base.CachingBasedSampler;
 
 /**
- * Samples browser log as separate strings.
+ * Samples browser log as separate strings. Reads from the driver's {@link LogRingBuffer}, so each sample contains the
+ * entries logged since the previous sample of this sampler, even when other consumers read the log in between. The
+ * first sample only contains entries not yet read from the driver by other consumers.
  *
  * @since 4.0.0
  */
 public class BrowserLogSampler extends CachingBasedSampler<Iterable<String>> {
 
+  private LogRingBuffer buffer;
   private Level level;
+  private long nextSequence;
 
   /**
    * With default log level {@link java.util.logging.Level#SEVERE}.
@@ -56,7 +62,16 @@ public class BrowserLogSampler extends CachingBasedSampler<Iterable<String>> {
 
   @Override
   protected Collection<String> freshSample() {
-    return Browser.getLog(getLevel())
+    LogRingBuffer currentBuffer = LogRingBuffer.forCurrentDriver(LogType.BROWSER);
+    if (currentBuffer != buffer) {
+      // skip entries read before this sampler saw the buffer, they may belong to previous tests on a pooled driver
+      buffer = currentBuffer;
+      nextSequence = buffer.getSequence();
+    }
+    buffer.drain();
+    long from = nextSequence;
+    nextSequence = buffer.getSequence();
+    return buffer.getEntries(from, getLevel())
         .stream()
         .map(entry -> entry.getMessage())
         .collect(toList());
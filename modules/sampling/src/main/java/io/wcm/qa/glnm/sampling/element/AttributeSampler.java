@@ -64,4 +64,8 @@ public class AttributeSampler extends SingleElementSampler<String> {
     this.attributeName = attributeName;
   }
 
+  void setBatchSample(String sample) {
+    primeSample(sample);
+  }
+
 }
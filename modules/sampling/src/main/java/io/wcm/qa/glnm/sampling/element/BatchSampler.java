@@ -0,0 +1,333 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.sampling.element;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.galenframework.specs.page.Locator;
+
+import io.wcm.qa.glnm.context.GaleniumContext;
+import io.wcm.qa.glnm.exceptions.GaleniumException;
+import io.wcm.qa.glnm.sampling.element.base.SelectorBasedSampler;
+import io.wcm.qa.glnm.selectors.base.Selector;
+
+/**
+ * Resolves many element samplers with a single script call. Samplers are registered with one of the {@code add}
+ * methods. {@link #sample()} looks up every distinct selector once, samples all requested properties and hands the
+ * values to the registered samplers. Each sampler returns its batch value from its next sample, as long as the page
+ * did not change, and samples according to its own caching policy afterwards.
+ *
+ * <p>
+ * Values are sampled in the browser and follow the DOM closely, but not exactly, what WebDriver returns: text is the
+ * element's rendered text and visibility is approximated from size and computed style. Samplers whose element is
+ * missing are not primed and will sample themselves on next use. Samplers using locators with index or parent are not
+ * batched and sample themselves, too.
+ * </p>
+ *
+ * @since 5.0.0
+ */
+public class BatchSampler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BatchSampler.class);
+
+  private static final String KIND_ATTRIBUTE = "attribute";
+  private static final String KIND_COUNT = "count";
+  private static final String KIND_CSS = "css";
+  private static final String KIND_LOCATION = "location";
+  private static final String KIND_SIZE = "size";
+  private static final String KIND_TEXT = "text";
+  private static final String KIND_VISIBLE = "visible";
+
+  private static final List<String> SUPPORTED_LOCATOR_TYPES = Arrays.asList("css", "id", "xpath");
+
+  private static final String SCRIPT = ""
+      + "var locators = arguments[0], requests = arguments[1], found = [], values = [];"
+      + "function all(type, value) {"
+      + "  if (type === 'id') { var e = document.getElementById(value); return e ? [e] : []; }"
+      + "  if (type === 'css') { return Array.prototype.slice.call(document.querySelectorAll(value)); }"
+      + "  var r = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), l = [];"
+      + "  for (var k = 0; k < r.snapshotLength; k++) { l.push(r.snapshotItem(k)); }"
+      + "  return l;"
+      + "}"
+      + "function attribute(el, name) {"
+      + "  var v = el[name === 'class' ? 'className' : name];"
+      + "  if (typeof v === 'boolean') { return v ? 'true' : null; }"
+      + "  if (typeof v === 'string' || typeof v === 'number') { return String(v); }"
+      + "  return el.getAttribute(name);"
+      + "}"
+      + "function css(el, name) {"
+      + "  var v = window.getComputedStyle(el).getPropertyValue(name);"
+      + "  return v.replace(/^rgb\\((\\d+), (\\d+), (\\d+)\\)$/, 'rgba($1, $2, $3, 1)');"
+      + "}"
+      + "function visible(el) {"
+      + "  var r = el.getBoundingClientRect();"
+      + "  if (r.width <= 0 || r.height <= 0 || window.getComputedStyle(el).visibility === 'hidden') { return false; }"
+      + "  for (var e = el; e && e.nodeType === 1; e = e.parentElement) {"
+      + "    var s = window.getComputedStyle(e);"
+      + "    if (s.display === 'none' || s.opacity === '0') { return false; }"
+      + "  }"
+      + "  return true;"
+      + "}"
+      + "for (var i = 0; i < locators.length; i++) { found.push(all(locators[i][0], locators[i][1])); }"
+      + "for (var j = 0; j < requests.length; j++) {"
+      + "  var elements = found[requests[j][0]], el = elements[0], kind = requests[j][1], arg = requests[j][2];"
+      + "  if (kind === 'count') { values.push(elements.length); continue; }"
+      + "  if (!el) { values.push(null); continue; }"
+      + "  if (kind === 'attribute') { values.push(attribute(el, arg)); }"
+      + "  else if (kind === 'css') { values.push(css(el, arg)); }"
+      + "  else if (kind === 'text') { values.push((el.innerText || '').trim()); }"
+      + "  else if (kind === 'visible') { values.push(visible(el)); }"
+      + "  else {"
+      + "    var rect = el.getBoundingClientRect();"
+      + "    values.push(kind === 'size' ? [rect.width, rect.height]"
+      + "      : [rect.left + window.pageXOffset, rect.top + window.pageYOffset]);"
+      + "  }"
+      + "}"
+      + "return values;";
+
+  private final Map<String, Integer> locatorIndices = new HashMap<>();
+  private final List<List<String>> locators = new ArrayList<>();
+  private final List<BatchRequest<?>> requests = new ArrayList<>();
+
+  /**
+   * @param sampler to resolve in batch
+   * @return this batch
+   * @since 5.0.0
+   */
+  public BatchSampler add(AttributeSampler sampler) {
+    return add(sampler, KIND_ATTRIBUTE, sampler.getAttributeName(), BatchSampler::asString, sampler::setBatchSample);
+  }
+
+  /**
+   * @param sampler to resolve in batch
+   * @return this batch
+   * @since 5.0.0
+   */
+  public BatchSampler add(CssValueSampler sampler) {
+    return add(sampler, KIND_CSS, sampler.getCssValueName(), BatchSampler::asString, sampler::setBatchSample);
+  }
+
+  /**
+   * @param sampler to resolve in batch
+   * @return this batch
+   * @since 5.0.0
+   */
+  public BatchSampler add(ElementCountSampler sampler) {
+    return add(sampler, KIND_COUNT, null, BatchSampler::asInteger, sampler::setBatchSample);
+  }
+
+  /**
+   * @param sampler to resolve in batch
+   * @return this batch
+   * @since 5.0.0
+   */
+  public BatchSampler add(LocationSampler sampler) {
+    return add(sampler, KIND_LOCATION, null, BatchSampler::asPoint, sampler::setBatchSample);
+  }
+
+  /**
+   * @param sampler to resolve in batch
+   * @return this batch
+   * @since 5.0.0
+   */
+  public BatchSampler add(SizeSampler sampler) {
+    return add(sampler, KIND_SIZE, null, BatchSampler::asDimension, sampler::setBatchSample);
+  }
+
+  /**
+   * @param sampler to resolve in batch
+   * @return this batch
+   * @since 5.0.0
+   */
+  public BatchSampler add(TextSampler sampler) {
+    return add(sampler, KIND_TEXT, null, BatchSampler::asString, sampler::setBatchSample);
+  }
+
+  /**
+   * @param sampler to resolve in batch
+   * @return this batch
+   * @since 5.0.0
+   */
+  public BatchSampler add(VisibilitySampler sampler) {
+    return add(sampler, KIND_VISIBLE, null, BatchSampler::asBoolean, sampler::setBatchSample);
+  }
+
+  /**
+   * Samples all registered samplers with a single script call and primes their next sample.
+   *
+   * @since 5.0.0
+   */
+  public void sample() {
+    if (requests.isEmpty()) {
+      return;
+    }
+    WebDriver driver = GaleniumContext.getDriver();
+    if (!(driver instanceof JavascriptExecutor)) {
+      throw new GaleniumException("batch sampling needs driver capable of executing JavaScript: " + driver);
+    }
+    List<List<Object>> rawRequests = new ArrayList<>();
+    for (BatchRequest<?> request : requests) {
+      rawRequests.add(Arrays.asList(request.getLocatorIndex(), request.getKind(), request.getArgument()));
+    }
+    long start = System.currentTimeMillis();
+    Object rawResult = ((JavascriptExecutor)driver).executeScript(SCRIPT, locators, rawRequests);
+    if (!(rawResult instanceof List) || ((List<?>)rawResult).size() != requests.size()) {
+      throw new GaleniumException("batch sampling script did not return one value per request: " + rawResult);
+    }
+    List<?> values = (List<?>)rawResult;
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("batch sampled " + requests.size() + " values for " + locators.size() + " selectors in "
+          + (System.currentTimeMillis() - start) + "ms");
+    }
+    for (int i = 0; i < requests.size(); i++) {
+      requests.get(i).fanOut(values.get(i));
+    }
+  }
+
+  /**
+   * @return number of samplers in this batch
+   * @since 5.0.0
+   */
+  public int size() {
+    return requests.size();
+  }
+
+  private <T> BatchSampler add(
+      SelectorBasedSampler<T> sampler,
+      String kind,
+      String argument,
+      Function<Object, T> conversion,
+      Consumer<T> target) {
+    Selector selector = sampler.getSelector();
+    Locator locator = selector.asLocator();
+    if (!SUPPORTED_LOCATOR_TYPES.contains(locator.getLocatorType())) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("not batching sampler for locator type '" + locator.getLocatorType() + "': " + selector.elementName());
+      }
+      return this;
+    }
+    if (locator.getIndex() > 0 || locator.getParent() != null) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("not batching sampler for locator with index or parent: " + selector.elementName());
+      }
+      return this;
+    }
+    String key = locator.getLocatorType() + ":" + locator.getLocatorValue();
+    Integer locatorIndex = locatorIndices.get(key);
+    if (locatorIndex == null) {
+      locatorIndex = locators.size();
+      locatorIndices.put(key, locatorIndex);
+      locators.add(Arrays.asList(locator.getLocatorType(), locator.getLocatorValue()));
+    }
+    requests.add(new BatchRequest<T>(locatorIndex, kind, argument, conversion, target));
+    return this;
+  }
+
+  private static Boolean asBoolean(Object value) {
+    if (value instanceof Boolean) {
+      return (Boolean)value;
+    }
+    return null;
+  }
+
+  private static Dimension asDimension(Object value) {
+    List<?> values = asPair(value);
+    if (values == null) {
+      return null;
+    }
+    return new Dimension(((Number)values.get(0)).intValue(), ((Number)values.get(1)).intValue());
+  }
+
+  private static Integer asInteger(Object value) {
+    if (value instanceof Number) {
+      return ((Number)value).intValue();
+    }
+    return null;
+  }
+
+  private static List<?> asPair(Object value) {
+    if (value instanceof List && ((List<?>)value).size() == 2) {
+      return (List<?>)value;
+    }
+    return null;
+  }
+
+  private static Point asPoint(Object value) {
+    List<?> values = asPair(value);
+    if (values == null) {
+      return null;
+    }
+    return new Point(((Number)values.get(0)).intValue(), ((Number)values.get(1)).intValue());
+  }
+
+  private static String asString(Object value) {
+    if (value == null) {
+      return null;
+    }
+    return value.toString();
+  }
+
+  private static final class BatchRequest<T> {
+
+    private final String argument;
+    private final Function<Object, T> conversion;
+    private final String kind;
+    private final int locatorIndex;
+    private final Consumer<T> target;
+
+    BatchRequest(int locatorIndex, String kind, String argument, Function<Object, T> conversion, Consumer<T> target) {
+      this.locatorIndex = locatorIndex;
+      this.kind = kind;
+      this.argument = argument;
+      this.conversion = conversion;
+      this.target = target;
+    }
+
+    void fanOut(Object rawValue) {
+      target.accept(conversion.apply(rawValue));
+    }
+
+    String getArgument() {
+      return argument;
+    }
+
+    String getKind() {
+      return kind;
+    }
+
+    int getLocatorIndex() {
+      return locatorIndex;
+    }
+  }
+
+}
@@ -64,4 +64,8 @@ public class CssValueSampler extends SingleElementSampler<String> {
     cssValueName = name;
   }
 
+  void setBatchSample(String sample) {
+    primeSample(sample);
+  }
+
 }
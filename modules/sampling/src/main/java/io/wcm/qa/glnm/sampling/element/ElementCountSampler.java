@@ -47,4 +47,8 @@ public class ElementCountSampler extends MultiElementSampler<Integer> {
     return IterableUtils.size(webElements);
   }
 
+  void setBatchSample(Integer sample) {
+    primeSample(sample);
+  }
+
 }
@@ -55,4 +55,8 @@ public class LocationSampler extends SingleElementSampler<Point> {
     return location;
   }
 
+  void setBatchSample(Point sample) {
+    primeSample(sample);
+  }
+
 }
@@ -47,4 +47,8 @@ public class SizeSampler extends SingleElementSampler<Dimension> {
     return element.getSize();
   }
 
+  void setBatchSample(Dimension sample) {
+    primeSample(sample);
+  }
+
 }
@@ -46,4 +46,8 @@ public class TextSampler extends SingleElementSampler<String> {
     return element.getText();
   }
 
+  void setBatchSample(String sample) {
+    primeSample(sample);
+  }
+
 }
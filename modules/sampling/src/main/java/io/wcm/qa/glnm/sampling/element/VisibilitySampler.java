@@ -49,4 +49,9 @@ public class VisibilitySampler extends SingleElementSampler<Boolean> {
   protected Boolean freshSample(WebElement element) {
     return isDisplayed(element);
   }
+
+  void setBatchSample(Boolean sample) {
+    primeSample(sample);
+  }
+
 }
@@ -28,6 +28,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.wcm.qa.glnm.exceptions.GaleniumException;
+import io.wcm.qa.glnm.metrics.Metrics;
 import io.wcm.qa.glnm.sampling.jsoup.base.JsoupBasedSampler;
 
 /**
@@ -38,6 +39,7 @@ import io.wcm.qa.glnm.sampling.jsoup.base.JsoupBasedSampler;
 public class JsoupDocumentSampler extends JsoupBasedSampler<Document> {
 
   private static final Logger LOG = LoggerFactory.getLogger(JsoupDocumentSampler.class);
+  private static final String METRIC_FETCH = "jsoup.fetch";
 
   /**
    * <p>Constructor for JsoupDocumentSampler.</p>
@@ -62,21 +64,38 @@ public class JsoupDocumentSampler extends JsoupBasedSampler<Document> {
     throw new GaleniumException("When trying to fetch URL: '" + getUrl() + "'", ex);
   }
 
+  private Document fetchDocument() throws IOException {
+    @SuppressWarnings("PMD.CloseResource")
+    Connection connection = getJsoupConnection();
+    if (connection == null) {
+      throw new GaleniumException("cannot get document from null connection.");
+    }
+    if (LOG.isInfoEnabled()) {
+      LOG.info("fetching document from '" + connection.request().url() + "'");
+    }
+    long start = Metrics.start();
+    try {
+      return connection.get();
+    }
+    finally {
+      Metrics.stop(METRIC_FETCH, getUrl(), start);
+    }
+  }
+
   /**
    * @return document from URL or rethrows {@link IOException} as {@link GaleniumException}
    */
   protected Document getDocument() {
     try {
-      @SuppressWarnings("PMD.CloseResource")
-      Connection connection = getJsoupConnection();
-      if (connection == null) {
-        throw new GaleniumException("cannot get document from null connection.");
+      try {
+        return fetchDocument();
       }
-      if (LOG.isInfoEnabled()) {
-        LOG.info("fetching document from '" + connection.request().url() + "'");
+      catch (HttpStatusException ex) {
+        if (!renewSession(ex.getStatusCode())) {
+          throw ex;
+        }
+        return fetchDocument();
       }
-      Document document = connection.get();
-      return document;
     }
     catch (HttpStatusException ex) {
       if (LOG.isWarnEnabled()) {
@@ -54,11 +54,18 @@ public class JsoupResponseCodeSampler extends JsoupBasedSampler<Integer> {
     return jsoupConnection;
   }
 
+  private Response execute() throws IOException {
+    return getJsoupConnection().execute();
+  }
+
   @Override
   protected Integer freshSample() {
     Response execution;
     try {
-      execution = getJsoupConnection().execute();
+      execution = execute();
+      if (renewSession(execution.statusCode())) {
+        execution = execute();
+      }
       return execution.statusCode();
     }
     catch (IOException ex) {
@@ -19,20 +19,16 @@
  */
 package io.wcm.qa.glnm.sampling.jsoup.base;
 
-import java.security.KeyManagementException;
-import java.security.NoSuchAlgorithmException;
+import java.net.HttpURLConnection;
 import java.util.HashMap;
 import java.util.Map;
 
-import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocketFactory;
 
 import org.jsoup.Connection;
-import org.jsoup.Jsoup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.wcm.qa.glnm.sampling.Sampler;
 import io.wcm.qa.glnm.sampling.base.CachingBasedSampler;
 
@@ -45,9 +41,11 @@ import io.wcm.qa.glnm.sampling.base.CachingBasedSampler;
 public abstract class JsoupBasedSampler<T> extends CachingBasedSampler<T> {
 
   private static final Logger LOG = LoggerFactory.getLogger(JsoupBasedSampler.class);
+
   private JsoupConnectionProvider connectionProvider;
   private Sampler<Map<String, String>> cookieSampler;
   private Map<String, String> requestCookies = new HashMap<String, String>();
+  private Map<String, String> sessionCookies;
   private String url;
 
   /**
@@ -123,7 +121,7 @@ public abstract class JsoupBasedSampler<T> extends CachingBasedSampler<T> {
 
         @Override
         public Connection getConnection() {
-          return Jsoup.connect(getUrl());
+          return JsoupTransport.connect(getUrl());
         }
 
       };
@@ -140,21 +138,41 @@ public abstract class JsoupBasedSampler<T> extends CachingBasedSampler<T> {
       connection.cookies(getRequestCookies());
     }
     if (useCookieSampler()) {
-      connection.cookies(getCookieSampler().sampleValue());
+      sessionCookies = getCookieSampler().sampleValue();
+      connection.cookies(sessionCookies);
     }
     connection.ignoreContentType(true);
-    try {
-      SSLContext context = SSLContext.getInstance("TLS");
-      context.init(null, InsecureTrustManagerFactory.INSTANCE.getTrustManagers(), null);
-      SSLSocketFactory socketFactory = context.getSocketFactory();
+    // also for connections from custom providers, which do not use JsoupTransport.connect
+    SSLSocketFactory socketFactory = JsoupTransport.getSslSocketFactory();
+    if (socketFactory != null) {
       connection.sslSocketFactory(socketFactory);
     }
-    catch (NoSuchAlgorithmException | KeyManagementException ex) {
-      LOG.warn("Could not initialize SSL context.", ex);
-    }
     return connection;
   }
 
+  /**
+   * Invalidates session cookies rejected with 401 or 403, so the next connection starts a new session. The cookie
+   * sampler decides whether the rejected session is renewed, i.e. only the current session and only once.
+   *
+   * @param statusCode of response
+   * @return whether session was renewed and request should be retried
+   */
+  protected boolean renewSession(int statusCode) {
+    if (statusCode != HttpURLConnection.HTTP_UNAUTHORIZED && statusCode != HttpURLConnection.HTTP_FORBIDDEN) {
+      return false;
+    }
+    if (!(getCookieSampler() instanceof SessionCookieSampler)) {
+      return false;
+    }
+    if (!((SessionCookieSampler)getCookieSampler()).invalidate(sessionCookies)) {
+      return false;
+    }
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("renewing session after " + statusCode + " from '" + getUrl() + "'");
+    }
+    return true;
+  }
+
   protected void setUrl(String newUrl) {
     this.url = newUrl;
   }
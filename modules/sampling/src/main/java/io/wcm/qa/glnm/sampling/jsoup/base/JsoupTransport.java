@@ -0,0 +1,98 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.sampling.jsoup.base;
+
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+
+/**
+ * Shared HTTPS setup for Jsoup based samplers. All connections use one cached SSL socket factory instead of
+ * initializing a new SSL context per request. Since the JDK caches TLS sessions per SSL context, this allows
+ * abbreviated handshakes when connecting to the same host again.
+ *
+ * <p>
+ * Jsoup disconnects after every response, so TCP connections are not reused. A pool with keep-alive would need a
+ * different HTTP client behind the Jsoup {@link Connection} API, which all samplers and connection providers depend on.
+ * </p>
+ *
+ * @since 5.0.0
+ */
+public final class JsoupTransport {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JsoupTransport.class);
+
+  private JsoupTransport() {
+    // do not instantiate
+  }
+
+  /**
+   * Connection using shared SSL socket factory.
+   *
+   * @param url to connect to
+   * @return Jsoup connection
+   * @since 5.0.0
+   */
+  public static Connection connect(String url) {
+    Connection connection = Jsoup.connect(url);
+    SSLSocketFactory socketFactory = getSslSocketFactory();
+    if (socketFactory != null) {
+      connection.sslSocketFactory(socketFactory);
+    }
+    return connection;
+  }
+
+  /**
+   * Socket factory trusting all certificates. Created once and shared between all connections.
+   *
+   * @return shared socket factory or null, if it could not be initialized
+   * @since 5.0.0
+   */
+  public static SSLSocketFactory getSslSocketFactory() {
+    return SocketFactoryHolder.SOCKET_FACTORY;
+  }
+
+  private static final class SocketFactoryHolder {
+
+    private static final SSLSocketFactory SOCKET_FACTORY = createSocketFactory();
+
+    private static SSLSocketFactory createSocketFactory() {
+      try {
+        SSLContext context = SSLContext.getInstance("TLS");
+        context.init(null, InsecureTrustManagerFactory.INSTANCE.getTrustManagers(), null);
+        return context.getSocketFactory();
+      }
+      catch (NoSuchAlgorithmException | KeyManagementException ex) {
+        LOG.warn("Could not initialize SSL context.", ex);
+        return null;
+      }
+    }
+  }
+
+}
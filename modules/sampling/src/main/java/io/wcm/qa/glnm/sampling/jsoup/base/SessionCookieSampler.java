@@ -0,0 +1,42 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.sampling.jsoup.base;
+
+import java.util.Map;
+
+import io.wcm.qa.glnm.sampling.Sampler;
+
+/**
+ * Samples session cookies which can be rejected by the server.
+ *
+ * @since 5.0.0
+ */
+public interface SessionCookieSampler extends Sampler<Map<String, String>> {
+
+  /**
+   * Marks cookies as rejected, so next sample will start a new session.
+   *
+   * @param rejectedCookies cookies server did not accept
+   * @return whether a new session will be started and the rejected request is worth retrying
+   * @since 5.0.0
+   */
+  boolean invalidate(Map<String, String> rejectedCookies);
+
+}
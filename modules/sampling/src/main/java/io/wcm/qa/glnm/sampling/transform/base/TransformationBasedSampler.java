@@ -19,6 +19,7 @@
  */
 package io.wcm.qa.glnm.sampling.transform.base;
 
+import io.wcm.qa.glnm.sampling.CachingPolicy;
 import io.wcm.qa.glnm.sampling.CanCache;
 import io.wcm.qa.glnm.sampling.Sampler;
 import io.wcm.qa.glnm.sampling.TransformingSampler;
@@ -82,10 +83,10 @@ public abstract class TransformationBasedSampler<S extends Sampler<I>, I, O> ext
 
   /** {@inheritDoc} */
   @Override
-  public void setCaching(boolean activateCache) {
-    super.setCaching(activateCache);
+  public void setCachingPolicy(CachingPolicy policy) {
+    super.setCachingPolicy(policy);
     if (isCachingInput()) {
-      ((CanCache)getInput()).setCaching(activateCache);
+      ((CanCache)getInput()).setCachingPolicy(policy);
     }
   }
 
@@ -0,0 +1,62 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.sampling;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.Test;
+
+class CanCacheTest {
+
+  @Test
+  void testDefaultPolicyFollowsCachingFlag() {
+    SwitchOnly cache = new SwitchOnly();
+    assertThat(cache.getCachingPolicy(), sameInstance(CachingPolicy.NEVER));
+    cache.setCaching(true);
+    assertThat(cache.getCachingPolicy(), sameInstance(CachingPolicy.FOREVER));
+  }
+
+  @Test
+  void testDefaultSetPolicySwitchesCaching() {
+    SwitchOnly cache = new SwitchOnly();
+    cache.setCachingPolicy(CachingPolicy.UNTIL_PAGE_CHANGES);
+    assertThat(cache.isCaching(), is(true));
+    cache.setCachingPolicy(CachingPolicy.NEVER);
+    assertThat(cache.isCaching(), is(false));
+  }
+
+  private static final class SwitchOnly implements CanCache {
+
+    private boolean caching;
+
+    @Override
+    public boolean isCaching() {
+      return caching;
+    }
+
+    @Override
+    public void setCaching(boolean activateCache) {
+      caching = activateCache;
+    }
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.sampling.aem;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AemLoginTokenCacheTest {
+
+  private static final String COOKIE_NAME_LOGIN_TOKEN = "login-token";
+
+  private String key;
+  private CountingLogin login;
+
+  @BeforeEach
+  void setUp() {
+    // cache is process wide, so every test uses its own key
+    key = UUID.randomUUID().toString();
+    login = new CountingLogin();
+  }
+
+  @Test
+  void testLoginIsReused() {
+    assertThat(AemLoginTokenCache.get(key, login), hasEntry(COOKIE_NAME_LOGIN_TOKEN, "token-1"));
+    assertThat(AemLoginTokenCache.get(key, login), hasEntry(COOKIE_NAME_LOGIN_TOKEN, "token-1"));
+    assertThat(login.count, is(1));
+  }
+
+  @Test
+  void testLoginWithoutTokenIsNotCached() {
+    Supplier<Map<String, String>> anonymous = () -> {
+      login.count++;
+      return Collections.singletonMap("other", "value");
+    };
+    AemLoginTokenCache.get(key, anonymous);
+    AemLoginTokenCache.get(key, anonymous);
+    assertThat(login.count, is(2));
+  }
+
+  @Test
+  void testRejectedCurrentSessionIsRenewed() {
+    Map<String, String> rejected = AemLoginTokenCache.get(key, login);
+    assertThat(AemLoginTokenCache.invalidate(key, rejected), is(true));
+    assertThat(AemLoginTokenCache.get(key, login), hasEntry(COOKIE_NAME_LOGIN_TOKEN, "token-2"));
+    assertThat(login.count, is(2));
+  }
+
+  @Test
+  void testRejectedStaleSessionIsNotRenewed() {
+    AemLoginTokenCache.get(key, login);
+    Map<String, String> stale = Collections.singletonMap(COOKIE_NAME_LOGIN_TOKEN, "token-0");
+    assertThat(AemLoginTokenCache.invalidate(key, stale), is(false));
+    assertThat(AemLoginTokenCache.get(key, login), hasEntry(COOKIE_NAME_LOGIN_TOKEN, "token-1"));
+    assertThat(login.count, is(1));
+  }
+
+  @Test
+  void testRenewedSessionIsNotRenewedAgain() {
+    AemLoginTokenCache.invalidate(key, AemLoginTokenCache.get(key, login));
+    Map<String, String> renewed = AemLoginTokenCache.get(key, login);
+    assertThat(AemLoginTokenCache.invalidate(key, renewed), is(false));
+    assertThat(AemLoginTokenCache.get(key, login), hasEntry(COOKIE_NAME_LOGIN_TOKEN, "token-2"));
+    assertThat(login.count, is(2));
+  }
+
+  @Test
+  void testRejectionWithoutTokenIsIgnored() {
+    AemLoginTokenCache.get(key, login);
+    assertThat(AemLoginTokenCache.invalidate(key, null), is(false));
+    assertThat(AemLoginTokenCache.invalidate(key, Collections.emptyMap()), is(false));
+    assertThat(login.count, is(1));
+  }
+
+  private static final class CountingLogin implements Supplier<Map<String, String>> {
+
+    private int count;
+
+    @Override
+    public Map<String, String> get() {
+      count++;
+      return Collections.singletonMap(COOKIE_NAME_LOGIN_TOKEN, "token-" + count);
+    }
+  }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.sampling.aem;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+class AllPagesForTemplateSamplerTest {
+
+  @Test
+  void testStreamingLiftsResultLimit() {
+    AllPagesForTemplateSampler sampler = new AllPagesForTemplateSampler("/conf/*", "/content");
+    sampler.setStreaming(true);
+    assertThat(sampler.getQuerySampler().getMaxNumberOfResults(), is(-1));
+  }
+
+  @Test
+  void testLimitCanBeSetAfterStreaming() {
+    AllPagesForTemplateSampler sampler = new AllPagesForTemplateSampler("/conf/*", "/content");
+    sampler.setStreaming(true);
+    sampler.getQuerySampler().setMaxNumberOfResults(50);
+    assertThat(sampler.getQuerySampler().getMaxNumberOfResults(), is(50));
+  }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.sampling.aem;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JcrQueryHitsTest {
+
+  private static final int TOTAL = 5;
+
+  private CannedPages pages;
+  private JcrQuerySampler query;
+
+  @BeforeEach
+  void setUp() {
+    query = new JcrQuerySampler();
+    query.setPageSize(2);
+    query.setMaxNumberOfResults(-1);
+    pages = new CannedPages(true);
+  }
+
+  @Test
+  void testPagesThroughAllHits() {
+    assertThat(collect(), contains("/content/0", "/content/1", "/content/2", "/content/3", "/content/4"));
+    assertThat(pages.requests, contains("0/2", "2/2", "4/2"));
+  }
+
+  @Test
+  void testMaxNumberOfResultsLimitsLastPage() {
+    query.setMaxNumberOfResults(3);
+    assertThat(collect(), contains("/content/0", "/content/1", "/content/2"));
+    assertThat(pages.requests, contains("0/2", "2/1"));
+  }
+
+  @Test
+  void testShortPageEndsPagingWithoutTotal() {
+    pages = new CannedPages(false);
+    assertThat(collect(), contains("/content/0", "/content/1", "/content/2", "/content/3", "/content/4"));
+    assertThat(pages.requests, contains("0/2", "2/2", "4/2"));
+  }
+
+  @Test
+  void testFullLastPageEndsPagingWithTotal() {
+    query.setPageSize(TOTAL);
+    collect();
+    assertThat(pages.requests, contains("0/5"));
+  }
+
+  @Test
+  void testNoRequestsWithoutIterating() {
+    new JcrQueryHits(query, pages);
+    assertThat(pages.requests, empty());
+  }
+
+  @Test
+  void testPageSizeNeedsToBePositive() {
+    assertThrows(IllegalArgumentException.class, () -> query.setPageSize(0));
+    assertThrows(IllegalArgumentException.class, () -> query.setPageSize(-1));
+  }
+
+  private List<String> collect() {
+    List<String> values = new ArrayList<>();
+    for (String value : new JcrQueryHits(query, pages)) {
+      values.add(value);
+    }
+    return values;
+  }
+
+  private static final class CannedPages implements JcrQueryHits.PageSource {
+
+    private final List<String> requests = new ArrayList<>();
+    private final boolean reportTotal;
+
+    CannedPages(boolean reportTotal) {
+      this.reportTotal = reportTotal;
+    }
+
+    @Override
+    public JcrQueryPage fetch(int offset, int limit) {
+      requests.add(offset + "/" + limit);
+      StringBuilder json = new StringBuilder("{");
+      if (reportTotal) {
+        json.append("\"total\":").append(TOTAL).append(',');
+      }
+      json.append("\"hits\":[");
+      for (int i = offset; i < Math.min(offset + limit, TOTAL); i++) {
+        if (i > offset) {
+          json.append(',');
+        }
+        json.append("{\"jcr:path\":\"/content/").append(i).append("\"}");
+      }
+      json.append("]}");
+      try {
+        return JcrQueryPage.parse(new ByteArrayInputStream(json.toString().getBytes(StandardCharsets.UTF_8)));
+      }
+      catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.sampling.aem;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.wcm.qa.glnm.exceptions.GaleniumException;
+
+class JcrQueryPageTest {
+
+  @Test
+  void testHitsAndTotal() throws IOException {
+    JcrQueryPage page = parse("{"
+        + "\"success\":true,"
+        + "\"results\":2,"
+        + "\"total\":7,"
+        + "\"hits\":["
+        + "{\"jcr:path\":\"/content/a\",\"jcr:content\":{\"jcr:title\":\"A\"}},"
+        + "{\"jcr:path\":\"/content/b\",\"cq:tags\":[\"x\",null]}"
+        + "]}");
+    assertThat(page.getHitCount(), is(2));
+    assertThat(page.getTotal(), is(7L));
+    assertThat(page.getValues(), contains("/content/a", "A", "/content/b", "x", "null"));
+  }
+
+  @Test
+  void testScalarHits() throws IOException {
+    JcrQueryPage page = parse("{\"hits\":[\"/content/a\",null,42]}");
+    assertThat(page.getHitCount(), is(3));
+    assertThat(page.getValues(), contains("/content/a", "null", "42"));
+  }
+
+  @Test
+  void testUnknownFieldsAreSkipped() throws IOException {
+    JcrQueryPage page = parse("{"
+        + "\"facets\":{\"hits\":[\"ignored\"]},"
+        + "\"hits\":[{\"jcr:path\":\"/content/a\"}],"
+        + "\"more\":false,"
+        + "\"total\":1}");
+    assertThat(page.getValues(), contains("/content/a"));
+    assertThat(page.getTotal(), is(1L));
+  }
+
+  @Test
+  void testWithoutTotal() throws IOException {
+    JcrQueryPage page = parse("{\"hits\":[]}");
+    assertThat(page.getHitCount(), is(0));
+    assertThat(page.getTotal(), is(-1L));
+  }
+
+  @Test
+  void testNoObject() {
+    assertThrows(GaleniumException.class, () -> parse("[]"));
+  }
+
+  private static JcrQueryPage parse(String json) throws IOException {
+    return JcrQueryPage.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+  }
+
+}
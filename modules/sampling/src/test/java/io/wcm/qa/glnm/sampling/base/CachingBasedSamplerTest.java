@@ -0,0 +1,74 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.sampling.base;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.wcm.qa.glnm.context.GaleniumContext;
+import io.wcm.qa.glnm.sampling.CachingPolicy;
+
+class CachingBasedSamplerTest {
+
+  private CountingSampler sampler;
+
+  @BeforeEach
+  void setUp() {
+    sampler = new CountingSampler();
+  }
+
+  @Test
+  void testNeverCaches() {
+    assertThat(sampler.sampleValue(), is(1));
+    assertThat(sampler.sampleValue(), is(2));
+  }
+
+  @Test
+  void testPageBoundSampleExpiresWithPage() {
+    sampler.setCachingPolicy(CachingPolicy.UNTIL_PAGE_CHANGES);
+    assertThat(sampler.sampleValue(), is(1));
+    assertThat(sampler.sampleValue(), is(1));
+    GaleniumContext.nextPageGeneration();
+    assertThat(sampler.sampleValue(), is(2));
+  }
+
+  @Test
+  void testSampleCachedForeverSurvivesPageChange() {
+    sampler.setCaching(true);
+    assertThat(sampler.sampleValue(), is(1));
+    GaleniumContext.nextPageGeneration();
+    assertThat(sampler.sampleValue(), is(1));
+  }
+
+  private static final class CountingSampler extends CachingBasedSampler<Integer> {
+
+    private int count;
+
+    @Override
+    protected Integer freshSample() {
+      count++;
+      return count;
+    }
+  }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.sampling.browser;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.emptyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Arrays;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntries;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+
+import io.wcm.qa.glnm.context.GaleniumContext;
+import io.wcm.qa.glnm.interaction.LogRingBuffer;
+
+class BrowserLogSamplerTest {
+
+  private WebDriver driver;
+
+  @BeforeEach
+  void setUp() {
+    driver = mock(WebDriver.class, withSettings().defaultAnswer(Answers.RETURNS_DEEP_STUBS));
+    GaleniumContext.getContext().setDriver(driver);
+  }
+
+  @AfterEach
+  void tearDown() {
+    GaleniumContext.getContext().setDriver(null);
+  }
+
+  @Test
+  void testEntriesReadBeforeFirstSampleAreSkipped() {
+    // previous test on same driver
+    logs("previous error");
+    LogRingBuffer.forCurrentDriver(LogType.BROWSER).drain();
+
+    logs("current error");
+    assertThat(new BrowserLogSampler().sampleValue(), contains("current error"));
+  }
+
+  @Test
+  void testOnlyNewEntriesAreSampled() {
+    BrowserLogSampler sampler = new BrowserLogSampler();
+    logs("first error");
+    assertThat(sampler.sampleValue(), contains("first error"));
+    logs();
+    assertThat(sampler.sampleValue(), emptyIterable());
+    logs("second error");
+    assertThat(sampler.sampleValue(), contains("second error"));
+  }
+
+  private void logs(String... messages) {
+    LogEntry[] entries = Arrays.stream(messages)
+        .map(message -> new LogEntry(Level.SEVERE, System.currentTimeMillis(), message))
+        .toArray(LogEntry[]::new);
+    when(driver.manage().logs().get(LogType.BROWSER)).thenReturn(new LogEntries(Arrays.asList(entries)));
+  }
+
+}
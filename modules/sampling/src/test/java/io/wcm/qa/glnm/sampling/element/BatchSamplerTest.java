@@ -0,0 +1,122 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2022 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.qa.glnm.sampling.element;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import com.galenframework.specs.page.Locator;
+
+import io.wcm.qa.glnm.context.GaleniumContext;
+import io.wcm.qa.glnm.sampling.CachingPolicy;
+import io.wcm.qa.glnm.selectors.base.SelectorFactory;
+
+class BatchSamplerTest {
+
+  private static final int BATCH_COUNT = 3;
+
+  private ElementCountSampler sampler;
+
+  @BeforeEach
+  void setUp() {
+    WebDriver driver = mock(WebDriver.class, withSettings()
+        .extraInterfaces(JavascriptExecutor.class)
+        .defaultAnswer(Answers.RETURNS_DEEP_STUBS));
+    // batch script finds three elements, WebDriver finds none
+    doReturn(Collections.singletonList(Long.valueOf(BATCH_COUNT)))
+        .when((JavascriptExecutor)driver)
+        .executeScript(anyString(), any(), any());
+    GaleniumContext.getContext().setDriver(driver);
+    sampler = new ElementCountSampler(SelectorFactory.fromCss("items", "div.item"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    GaleniumContext.getContext().setDriver(null);
+  }
+
+  @Test
+  void testBatchValueIsUsedOnce() {
+    batch();
+    assertThat(sampler.sampleValue(), is(BATCH_COUNT));
+    assertThat(sampler.sampleValue(), is(0));
+  }
+
+  @Test
+  void testBatchValueExpiresWithPage() {
+    batch();
+    GaleniumContext.nextPageGeneration();
+    assertThat(sampler.sampleValue(), is(0));
+  }
+
+  @Test
+  void testCachingPolicyIsKept() {
+    sampler.setCachingPolicy(CachingPolicy.UNTIL_PAGE_CHANGES);
+    batch();
+    assertThat(sampler.getCachingPolicy(), is(CachingPolicy.UNTIL_PAGE_CHANGES));
+    assertThat(sampler.sampleValue(), is(BATCH_COUNT));
+    assertThat(sampler.sampleValue(), is(BATCH_COUNT));
+    GaleniumContext.nextPageGeneration();
+    assertThat(sampler.sampleValue(), is(0));
+  }
+
+  @Test
+  void testIndexedLocatorIsNotBatched() {
+    Locator indexed = new Locator("css", "div.item", 2);
+    BatchSampler batch = new BatchSampler().add(new ElementCountSampler(SelectorFactory.fromLocator("item", indexed)));
+    assertThat(batch.size(), is(0));
+  }
+
+  @Test
+  void testNestedLocatorIsNotBatched() {
+    Locator nested = new Locator("css", "div.item");
+    nested.setParent(new Locator("css", "ul.list"));
+    BatchSampler batch = new BatchSampler().add(new ElementCountSampler(SelectorFactory.fromLocator("item", nested)));
+    assertThat(batch.size(), is(0));
+  }
+
+  @Test
+  void testNonCachingSamplerStaysNonCaching() {
+    batch();
+    assertThat(sampler.getCachingPolicy(), is(CachingPolicy.NEVER));
+    assertThat(sampler.isCaching(), is(false));
+  }
+
+  private void batch() {
+    BatchSampler batch = new BatchSampler().add(sampler);
+    assertThat(batch.size(), is(1));
+    batch.sample();
+  }
+
+}